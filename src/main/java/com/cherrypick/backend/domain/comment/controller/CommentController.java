@@ -3,6 +3,7 @@ package com.cherrypick.backend.domain.comment.controller;
 import com.cherrypick.backend.domain.comment.dto.request.CommentRequestDTOs;
 import com.cherrypick.backend.domain.comment.dto.response.BestCommentResponseDTO;
 import com.cherrypick.backend.domain.comment.dto.response.CommentListResponseDTO;
+import com.cherrypick.backend.domain.comment.dto.response.CommentPageResponseDTOs;
 import com.cherrypick.backend.domain.comment.dto.response.CommentResponseDTOs;
 import com.cherrypick.backend.domain.comment.enums.SortType;
 import com.cherrypick.backend.domain.comment.service.CommentService;
@@ -50,6 +51,36 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getCommentList(dealId, sortType));
     }
 
+    // 댓글 페이지 조회
+    @Operation(
+            summary = "댓글 페이지 조회 API V1",
+            description = "게시글 별 부모 댓글을 size개씩 조회합니다. 각 댓글의 대댓글은 앞쪽 3개만 포함됩니다. " +
+                    "응답의 nextCursor를 cursor 파라미터로 보내면 다음 페이지를, replyCursors의 커서를 대댓글 조회 API에 보내면 나머지 대댓글을 조회합니다."
+    )
+    @GetMapping("/comment/{dealId}/page")
+    public ResponseEntity<CommentPageResponseDTOs.Comments> getCommentPage(
+            @PathVariable Long dealId,
+            @RequestParam(defaultValue = "LATEST") SortType sortType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "version", defaultValue = "v1") String version) {
+        return ResponseEntity.ok(commentService.getCommentPage(dealId, sortType, cursor, size));
+    }
+
+    // 대댓글 페이지 조회
+    @Operation(
+            summary = "대댓글 조회 API V1",
+            description = "부모 댓글의 대댓글을 작성 순으로 size개씩 조회합니다. 댓글 페이지 조회 응답의 replyCursors 또는 이전 응답의 nextCursor를 cursor로 보냅니다."
+    )
+    @GetMapping("/comment/replies/{parentId}")
+    public ResponseEntity<CommentPageResponseDTOs.Replies> getReplyPage(
+            @PathVariable Long parentId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "version", defaultValue = "v1") String version) {
+        return ResponseEntity.ok(commentService.getReplyPage(parentId, cursor, size));
+    }
+
     // 베스트 댓글 조회
     @Operation(
             summary = "베스트 댓글 조회 API V1",
@@ -0,0 +1,20 @@
+package com.cherrypick.backend.domain.comment.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+public class CommentPageResponseDTOs {
+
+    public record Comments(
+            List<CommentListResponseDTO> comments, // 부모 댓글 (replies 에는 앞쪽 대댓글 일부만 포함)
+            boolean hasNext, // 다음 페이지 여부
+            String nextCursor, // 다음 페이지 커서 (마지막 페이지면 null)
+            Map<Long, String> replyCursors // 부모 commentId → 대댓글 더보기 커서 (남은 대댓글이 있는 부모만)
+    ){}
+
+    public record Replies(
+            List<CommentListResponseDTO> replies,
+            boolean hasNext, // 다음 페이지 여부
+            String nextCursor // 다음 페이지 커서 (마지막 페이지면 null)
+    ){}
+}
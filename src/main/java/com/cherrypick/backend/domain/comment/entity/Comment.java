@@ -39,6 +39,10 @@ public class Comment {
 
     private boolean isDelete;
 
+    // 좋아요 수 (CommentCounterRepository 가 원자적으로 증감, 엔티티 저장으로 덮어쓰지 않음)
+    @Column(insertable = false, updatable = false)
+    private long likeCount;
+
     @CreatedDate
     private LocalDateTime createdAt;
 }
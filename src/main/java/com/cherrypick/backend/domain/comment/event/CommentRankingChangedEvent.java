@@ -0,0 +1,41 @@
+package com.cherrypick.backend.domain.comment.event;
+
+/**
+ * 베스트 댓글 랭킹 변경 이벤트
+ *
+ * <p>댓글 작성/삭제, 좋아요/취소가 실제로 반영되었을 때 발행됩니다.
+ * CommentRankingStore 가 커밋 이후에 구독해 Redis 랭킹을 갱신하므로, 롤백된 요청은 랭킹을 바꾸지 않습니다.</p>
+ *
+ * @param dealId 댓글이 달린 딜 ID
+ * @param commentId 댓글 ID
+ * @param changeType 변경 종류
+ */
+public record CommentRankingChangedEvent(
+        Long dealId,
+        Long commentId,
+        ChangeType changeType
+) {
+
+    public enum ChangeType {
+        ADDED,      // 댓글 작성 (좋아요 0)
+        REMOVED,    // 댓글 삭제 (Soft Delete)
+        LIKED,      // 좋아요 +1
+        UNLIKED     // 좋아요 취소 -1
+    }
+
+    public static CommentRankingChangedEvent added(Long dealId, Long commentId) {
+        return new CommentRankingChangedEvent(dealId, commentId, ChangeType.ADDED);
+    }
+
+    public static CommentRankingChangedEvent removed(Long dealId, Long commentId) {
+        return new CommentRankingChangedEvent(dealId, commentId, ChangeType.REMOVED);
+    }
+
+    public static CommentRankingChangedEvent liked(Long dealId, Long commentId) {
+        return new CommentRankingChangedEvent(dealId, commentId, ChangeType.LIKED);
+    }
+
+    public static CommentRankingChangedEvent unliked(Long dealId, Long commentId) {
+        return new CommentRankingChangedEvent(dealId, commentId, ChangeType.UNLIKED);
+    }
+}
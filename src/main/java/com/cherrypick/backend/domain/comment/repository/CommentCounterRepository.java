@@ -0,0 +1,103 @@
+package com.cherrypick.backend.domain.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 댓글 좋아요 저장 및 좋아요 수(comment.like_count) 갱신
+ *
+ * <p>좋아요 행 추가/삭제의 영향 행 수로 실제 변경 여부를 판단하고, 변경된 경우에만 {@code like_count = like_count ± 1} 한 문장을 보냅니다.
+ * 같은 사용자의 동시 요청(더블 클릭)에도 좋아요 행과 카운터가 어긋나지 않습니다.
+ * 호출 측 트랜잭션에 참여하므로 함께 커밋/롤백됩니다.</p>
+ *
+ * <p>Comment 엔티티의 likeCount 는 읽기 전용(insertable/updatable = false)으로 매핑되어 있어 엔티티 저장이 이 값을 덮어쓰지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentCounterRepository {
+
+    private static final String RECONCILE_SQL = """
+            UPDATE comment c
+                LEFT JOIN (SELECT comment_id, COUNT(*) AS likes
+                           FROM comment_like
+                           WHERE comment_id > ? AND comment_id <= ?
+                           GROUP BY comment_id) l ON l.comment_id = c.comment_id
+            SET c.like_count = COALESCE(l.likes, 0)
+            WHERE c.comment_id > ? AND c.comment_id <= ?
+              AND c.like_count <> COALESCE(l.likes, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요를 추가하고, 새로 추가된 경우에만 좋아요 수를 1 증가시킵니다.
+     *
+     * @return 새로 추가되었는지 여부 (이미 좋아요한 경우 false)
+     */
+    public boolean like(Long userId, Long commentId) {
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO comment_like (user_id, comment_id) VALUES (?, ?)", userId, commentId);
+        if (inserted == 0) {
+            return false;
+        }
+
+        jdbcTemplate.update("UPDATE comment SET like_count = like_count + 1 WHERE comment_id = ?", commentId);
+        return true;
+    }
+
+    /**
+     * 좋아요를 취소하고, 실제로 삭제된 경우에만 좋아요 수를 1 감소시킵니다.
+     *
+     * @return 삭제되었는지 여부 (좋아요하지 않은 경우 false)
+     */
+    public boolean unlike(Long userId, Long commentId) {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM comment_like WHERE user_id = ? AND comment_id = ?", userId, commentId);
+        if (deleted == 0) {
+            return false;
+        }
+
+        jdbcTemplate.update(
+                "UPDATE comment SET like_count = GREATEST(like_count - 1, 0) WHERE comment_id = ?", commentId);
+        return true;
+    }
+
+    /**
+     * 딜의 삭제되지 않은 댓글별 좋아요 수 (베스트 댓글 랭킹 적재용)
+     *
+     * @return commentId → 좋아요 수
+     */
+    public Map<Long, Long> findLiveLikeCounts(Long dealId) {
+        Map<Long, Long> likeCounts = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT comment_id, like_count FROM comment WHERE deal_id = ? AND is_delete = 0",
+                rs -> {
+                    likeCounts.put(rs.getLong(1), rs.getLong(2));
+                },
+                dealId);
+        return likeCounts;
+    }
+
+    /**
+     * commentId 구간의 좋아요 수를 comment_like 기준으로 다시 계산합니다.
+     *
+     * @param afterCommentId 구간 시작 (미포함)
+     * @param toCommentId 구간 끝 (포함)
+     * @return 값이 어긋나 고쳐진 댓글 수
+     */
+    public int reconcile(long afterCommentId, long toCommentId) {
+        return jdbcTemplate.update(RECONCILE_SQL, afterCommentId, toCommentId, afterCommentId, toCommentId);
+    }
+
+    /**
+     * 가장 큰 commentId (댓글이 없으면 0)
+     */
+    public long findMaxCommentId() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(comment_id) FROM comment", Long.class);
+        return max == null ? 0L : max;
+    }
+}
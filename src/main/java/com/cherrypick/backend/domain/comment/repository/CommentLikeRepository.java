@@ -1,11 +1,17 @@
 package com.cherrypick.backend.domain.comment.repository;
 
-import com.cherrypick.backend.domain.comment.entity.Comment;
 import com.cherrypick.backend.domain.comment.entity.CommentLike;
 import com.cherrypick.backend.domain.comment.entity.CommentLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLikeId> {
 
-    int countByCommentId(Comment comment);
+    // 사용자가 좋아요한 댓글 ID 일괄 조회
+    @Query("SELECT l.commentLikeId.commentId FROM CommentLike l WHERE l.commentLikeId.userId = :userId AND l.commentLikeId.commentId IN :commentIds")
+    Set<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 }
@@ -0,0 +1,248 @@
+package com.cherrypick.backend.domain.comment.repository;
+
+import com.cherrypick.backend.domain.comment.event.CommentRankingChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 딜별 베스트 댓글 랭킹 (Redis Sorted Set)
+ *
+ * <p>키 {@code REPIK:comment:best:{dealId}} 에 삭제되지 않은 댓글 전체를 담고, 상위 K개를 ZREVRANGE 한 번으로 읽습니다.</p>
+ *
+ * <p><b>점수:</b> {@code 좋아요 수 × 2^32 + commentId}</p>
+ * <ul>
+ *     <li>좋아요 수가 같으면 최신 댓글(큰 commentId)이 위로 오도록 commentId 를 하위 비트에 둡니다. (기존 베스트 댓글 정렬과 동일)</li>
+ *     <li>좋아요 ±1 은 ZINCRBY ±2^32 로 원자적으로 반영합니다.</li>
+ *     <li>double 정밀도(53비트) 안에서 좋아요 수 약 200만, commentId 약 42억까지 정확합니다.</li>
+ * </ul>
+ *
+ * <p><b>적재/갱신:</b></p>
+ * <ul>
+ *     <li>키가 없으면 조회 측에서 DB(comment.like_count)로 적재합니다. (7일 후 만료, 재조정 작업이 전체 삭제)</li>
+ *     <li>작성/삭제/좋아요는 CommentRankingChangedEvent 로 커밋 이후에 반영하므로, 롤백된 요청은 랭킹을 바꾸지 않습니다.</li>
+ *     <li>작성/좋아요는 키가 있을 때만 반영합니다. 없는 키에 일부 댓글만 담기면 적재 시 다른 댓글이 누락되기 때문입니다.</li>
+ * </ul>
+ *
+ * <p><b>적재 중 변경:</b> 좋아요 수를 읽은 뒤 적재하기 전에 커밋된 좋아요는 키가 없어 반영되지 않으므로,
+ * 적재된 랭킹이 TTL 동안 예전 값으로 남을 수 있습니다. 이를 막기 위해 딜마다 버전 키(REPIK:comment:best_version:{dealId})를 두고
+ * 모든 변경에서 올립니다. 적재는 DB를 읽기 전에 확인한 버전이 그대로일 때만 합니다. (비교와 적재는 Lua 스크립트 한 번)
+ * 버전 키는 재조정 작업의 전체 삭제(REPIK:comment:best:*)에 포함되지 않도록 접두사를 다르게 둡니다.</p>
+ *
+ * <p>랭킹은 조회 최적화 용도이므로 Redis 오류는 로그만 남기고, 조회 측은 DB로 대체합니다.</p>
+ */
+@Slf4j
+@Component
+public class CommentRankingStore {
+
+    private static final String KEY_PREFIX = "REPIK:comment:best:";
+    private static final String VERSION_KEY_PREFIX = "REPIK:comment:best_version:";
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final double LIKE_UNIT = 4_294_967_296.0; // 2^32
+
+    // 진행 중인 적재보다 오래 남아야 하므로 충분히 길게 유지
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // 아래 변경 스크립트 공통 (KEYS: 랭킹, 버전 / 마지막 ARGV: 버전 TTL(초))
+    private static final String BUMP_VERSION = """
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[#ARGV])
+            """;
+
+    // 키가 있을 때만 댓글 추가 (ARGV: 점수, commentId)
+    private static final RedisScript<Long> ADD_IF_LOADED = new DefaultRedisScript<>(BUMP_VERSION + """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 랭킹에 있는 댓글만 점수 증감 (삭제된 댓글/적재 전 키에 부분 데이터가 생기지 않도록, ARGV: 증감, commentId)
+    private static final RedisScript<Long> INCR_IF_PRESENT = new DefaultRedisScript<>(BUMP_VERSION + """
+            if redis.call('ZSCORE', KEYS[1], ARGV[2]) then
+                redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 댓글 제외 (ARGV: commentId)
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(BUMP_VERSION + """
+            return redis.call('ZREM', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    // 버전이 그대로이고 아직 적재되지 않았을 때만 적재 (ARGV: 읽은 버전, TTL(초), 점수, commentId, 점수, commentId, ...)
+    private static final RedisScript<Long> LOAD_IF_UNCHANGED = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public CommentRankingStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 좋아요 상위 댓글 ID
+     *
+     * @param dealId 딜 ID
+     * @param limit 최대 개수
+     * @return 순위 순 commentId (랭킹이 적재되지 않았거나 Redis 오류면 Optional.empty())
+     */
+    public Optional<List<Long>> top(Long dealId, int limit) {
+        try {
+            String key = key(dealId);
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] rawKey = bytes(key);
+                connection.keyCommands().exists(rawKey);
+                connection.zSetCommands().zRevRange(rawKey, 0, limit - 1);
+                return null;
+            });
+
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return Optional.empty();
+            }
+
+            List<Long> commentIds = new ArrayList<>(limit);
+            if (results.get(1) instanceof Collection<?> members) {
+                for (Object member : members) {
+                    commentIds.add(Long.parseLong(member.toString()));
+                }
+            }
+            return Optional.of(commentIds);
+        } catch (RuntimeException e) {
+            log.warn("베스트 댓글 랭킹 조회 실패: dealId={}", dealId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 적재 전에 읽는 딜의 랭킹 버전 (DB에서 좋아요 수를 읽기 전에 호출)
+     *
+     * @return 버전 (변경된 적이 없으면 "0", Redis 오류면 null)
+     */
+    public String version(Long dealId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(dealId));
+            return version != null ? version : "0";
+        } catch (RuntimeException e) {
+            log.warn("베스트 댓글 랭킹 버전 조회 실패: dealId={}", dealId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 딜의 랭킹을 적재합니다. version 을 읽은 뒤 랭킹이 바뀌었으면 적재하지 않습니다. (다음 조회에서 다시 적재)
+     *
+     * @param version 좋아요 수를 읽기 전에 {@link #version(Long)} 으로 읽은 버전
+     * @param likeCounts 삭제되지 않은 댓글 전체의 commentId → 좋아요 수
+     */
+    public void load(Long dealId, String version, Map<Long, Long> likeCounts) {
+        if (version == null || likeCounts.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(2 + likeCounts.size() * 2);
+        args.add(version);
+        args.add(Long.toString(TTL.toSeconds()));
+        likeCounts.forEach((commentId, likes) -> {
+            args.add(Double.toString(score(commentId, likes)));
+            args.add(commentId.toString());
+        });
+
+        try {
+            Long loaded = redisTemplate.execute(LOAD_IF_UNCHANGED, List.of(key(dealId), versionKey(dealId)), args.toArray());
+            if (loaded == null || loaded == 0L) {
+                log.debug("베스트 댓글 랭킹 적재 건너뜀 (적재 중 변경 또는 이미 적재됨): dealId={}", dealId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("베스트 댓글 랭킹 적재 실패: dealId={}", dealId, e);
+        }
+    }
+
+    /**
+     * 댓글 작성/삭제, 좋아요/취소를 반영합니다. (커밋 이후, 트랜잭션이 없으면 즉시 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRankingChanged(CommentRankingChangedEvent event) {
+        String commentId = event.commentId().toString();
+        switch (event.changeType()) {
+            case ADDED -> execute(ADD_IF_LOADED, event.dealId(), Double.toString(score(event.commentId(), 0)), commentId);
+            case REMOVED -> execute(REMOVE, event.dealId(), commentId);
+            case LIKED -> execute(INCR_IF_PRESENT, event.dealId(), Double.toString(LIKE_UNIT), commentId);
+            case UNLIKED -> execute(INCR_IF_PRESENT, event.dealId(), Double.toString(-LIKE_UNIT), commentId);
+        }
+    }
+
+    /**
+     * 모든 딜의 랭킹을 삭제합니다. 다음 조회 시 DB 기준으로 다시 적재됩니다. (SCAN + UNLINK)
+     *
+     * @return 삭제한 키 수
+     */
+    public long clearAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        List<String> batch = new ArrayList<>();
+        long cleared = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == 500) {
+                    cleared += unlink(batch);
+                }
+            }
+        }
+        return cleared + unlink(batch);
+    }
+
+    static double score(Long commentId, long likes) {
+        return likes * LIKE_UNIT + commentId;
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = redisTemplate.unlink(keys);
+        keys.clear();
+        return unlinked == null ? 0 : unlinked;
+    }
+
+    private void execute(RedisScript<Long> script, Long dealId, String... args) {
+        Object[] argv = Arrays.copyOf(args, args.length + 1, Object[].class);
+        argv[args.length] = Long.toString(VERSION_TTL.toSeconds());
+        try {
+            redisTemplate.execute(script, List.of(key(dealId), versionKey(dealId)), argv);
+        } catch (RuntimeException e) {
+            log.warn("베스트 댓글 랭킹 갱신 실패: dealId={}, args={}", dealId, Arrays.toString(args), e);
+        }
+    }
+
+    private static String key(Long dealId) {
+        return KEY_PREFIX + dealId;
+    }
+
+    private static String versionKey(Long dealId) {
+        return VERSION_KEY_PREFIX + dealId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,10 +1,14 @@
 package com.cherrypick.backend.domain.comment.repository;
 
 import com.cherrypick.backend.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -18,38 +22,115 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.dealId.dealId = :dealId")
     List<Comment> findAllByDealId(Long dealId);
 
-    // 특정 dealId에 대한 지워지지 않은 댓글들 조회 (베스트 댓글 조회용)
+    // 딜의 댓글/대댓글 전체 + 작성자 + 배지 (삭제 여부 무시, 댓글 트리 조립용 쿼리 1회)
     @Query("""
-    SELECT c
-    FROM Comment c
+    SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
     WHERE c.dealId.dealId = :dealId
-      AND c.isDelete = false
     """)
-    List<Comment> findAllByDealIdAndIsDeleteFalse(@Param("dealId") Long dealId);
+    List<Comment> findThreadByDealId(@Param("dealId") Long dealId);
+
+    // 댓글 ID 목록 + 작성자 + 배지 (베스트 댓글 조회용)
+    @Query("""
+    SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
+    WHERE c.commentId IN :commentIds
+    """)
+    List<Comment> findWithAuthorByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
 
-    // 부모 댓글 최신순 (삭제 여부 무시)
+    // 부모 댓글 최신순 첫 페이지 (idx_comment_deal_parent_created_at)
     @Query("""
     SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
     WHERE c.dealId.dealId = :dealId AND c.parentId IS NULL
-    ORDER BY c.createdAt DESC
+    ORDER BY c.createdAt DESC, c.commentId DESC
     """)
-    List<Comment> findParentCommentsLatest(Long dealId);
+    Slice<Comment> findParentsLatest(@Param("dealId") Long dealId, Pageable pageable);
 
-    // 부모 댓글 좋아요순 (삭제 여부 무시)
+    // 부모 댓글 최신순 다음 페이지 ((createdAt, commentId) 가 커서보다 뒤인 행)
     @Query("""
     SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
     WHERE c.dealId.dealId = :dealId AND c.parentId IS NULL
-    ORDER BY (SELECT COUNT(l) FROM CommentLike l WHERE l.commentId = c) DESC, c.createdAt DESC
+      AND (c.createdAt < :createdAt
+           OR (c.createdAt = :createdAt AND c.commentId < :commentId))
+    ORDER BY c.createdAt DESC, c.commentId DESC
     """)
-    List<Comment> findParentCommentsByLikes(Long dealId);
+    Slice<Comment> findParentsLatestAfter(@Param("dealId") Long dealId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("commentId") Long commentId,
+                                          Pageable pageable);
 
-    // 대댓글 (삭제 여부 무시, 작성된 순서대로)
+    // 부모 댓글 인기순 첫 페이지 (idx_comment_deal_parent_like_count)
     @Query("""
     SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
+    WHERE c.dealId.dealId = :dealId AND c.parentId IS NULL
+    ORDER BY c.likeCount DESC, c.createdAt DESC, c.commentId DESC
+    """)
+    Slice<Comment> findParentsPopular(@Param("dealId") Long dealId, Pageable pageable);
+
+    // 부모 댓글 인기순 다음 페이지 ((likeCount, createdAt, commentId) 가 커서보다 뒤인 행)
+    @Query("""
+    SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
+    WHERE c.dealId.dealId = :dealId AND c.parentId IS NULL
+      AND (c.likeCount < :likeCount
+           OR (c.likeCount = :likeCount AND c.createdAt < :createdAt)
+           OR (c.likeCount = :likeCount AND c.createdAt = :createdAt AND c.commentId < :commentId))
+    ORDER BY c.likeCount DESC, c.createdAt DESC, c.commentId DESC
+    """)
+    Slice<Comment> findParentsPopularAfter(@Param("dealId") Long dealId,
+                                           @Param("likeCount") long likeCount,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("commentId") Long commentId,
+                                           Pageable pageable);
+
+    // 대댓글 첫 페이지 (작성 순, idx_comment_parent_created_at)
+    @Query("""
+    SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
+    WHERE c.parentId = :parentId
+    ORDER BY c.createdAt ASC, c.commentId ASC
+    """)
+    Slice<Comment> findReplies(@Param("parentId") Long parentId, Pageable pageable);
+
+    // 대댓글 다음 페이지 ((createdAt, commentId) 가 커서보다 뒤인 행)
+    @Query("""
+    SELECT c FROM Comment c
+    JOIN FETCH c.userId u
+    LEFT JOIN FETCH u.badge
     WHERE c.parentId = :parentId
-    ORDER BY c.createdAt ASC
+      AND (c.createdAt > :createdAt
+           OR (c.createdAt = :createdAt AND c.commentId > :commentId))
+    ORDER BY c.createdAt ASC, c.commentId ASC
     """)
-    List<Comment> findReplies(Long parentId);
+    Slice<Comment> findRepliesAfter(@Param("parentId") Long parentId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("commentId") Long commentId,
+                                    Pageable pageable);
+
+    // 부모 댓글별 앞쪽 대댓글 ID + 부모별 대댓글 수 (부모 댓글 페이지의 대댓글 미리보기용 쿼리 1회)
+    // 결과 행: [comment_id, parent_id, reply_count]
+    @Query(value = """
+    SELECT t.comment_id, t.parent_id, t.reply_count
+    FROM (SELECT c.comment_id, c.parent_id,
+                 ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.comment_id) AS rn,
+                 COUNT(*) OVER (PARTITION BY c.parent_id) AS reply_count
+          FROM comment c
+          WHERE c.parent_id IN (:parentIds)) t
+    WHERE t.rn <= :perParent
+    ORDER BY t.parent_id, t.rn
+    """, nativeQuery = true)
+    List<Object[]> findReplyPreviews(@Param("parentIds") Collection<Long> parentIds,
+                                     @Param("perParent") int perParent);
 
     @Query("SELECT c.dealId.dealId, COUNT(c) FROM Comment c WHERE c.dealId.dealId IN :dealIds AND c.isDelete = false GROUP BY c.dealId.dealId")
     List<Object[]> countCommentsGroupedByDealId(@Param("dealIds") List<Long> dealIds);
@@ -0,0 +1,59 @@
+package com.cherrypick.backend.domain.comment.service;
+
+import com.cherrypick.backend.domain.comment.repository.CommentCounterRepository;
+import com.cherrypick.backend.domain.comment.repository.CommentRankingStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 댓글 좋아요 수 및 베스트 댓글 랭킹 재조정
+ *
+ * <p>commentId 구간(기본 1000건)마다 comment_like 를 다시 세어 다른 like_count 만 고친 뒤,
+ * Redis 베스트 댓글 랭킹을 모두 삭제합니다. 랭킹은 다음 조회 시 보정된 like_count 로 다시 적재됩니다.</p>
+ *
+ * <p>랭킹은 커밋 이후 이벤트로 갱신되므로, 커밋 직후 Redis 오류나 프로세스 종료로 빠진 변경도 이 작업에서 사라집니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCounterReconciler {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final CommentCounterRepository commentCounterRepository;
+    private final CommentRankingStore commentRankingStore;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+    /**
+     * 전체 댓글 좋아요 수 재조정 + 랭킹 초기화 (기본 매일 04:45)
+     */
+    @Scheduled(cron = "${comment.counter.reconcile-cron:0 45 4 * * *}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+
+        long afterCommentId = 0L;
+        int corrected = 0;
+        try {
+            long maxCommentId = commentCounterRepository.findMaxCommentId();
+            while (afterCommentId < maxCommentId) {
+                long toCommentId = Math.min(afterCommentId + CHUNK_SIZE, maxCommentId);
+                corrected += commentCounterRepository.reconcile(afterCommentId, toCommentId);
+                afterCommentId = toCommentId;
+            }
+
+            long cleared = commentRankingStore.clearAll();
+            log.info("댓글 좋아요 수 재조정 완료: maxCommentId={}, 보정 {}건, 랭킹 초기화 {}건", maxCommentId, corrected, cleared);
+        } catch (RuntimeException e) {
+            log.error("댓글 좋아요 수 재조정 실패: afterCommentId={}, 보정 {}건", afterCommentId, corrected, e);
+        } finally {
+            reconciling.set(false);
+        }
+    }
+}
@@ -3,29 +3,28 @@ package com.cherrypick.backend.domain.comment.service;
 import com.cherrypick.backend.domain.comment.dto.request.CommentRequestDTOs;
 import com.cherrypick.backend.domain.comment.dto.response.BestCommentResponseDTO;
 import com.cherrypick.backend.domain.comment.dto.response.CommentListResponseDTO;
+import com.cherrypick.backend.domain.comment.dto.response.CommentPageResponseDTOs;
 import com.cherrypick.backend.domain.comment.dto.response.CommentResponseDTOs;
 import com.cherrypick.backend.domain.comment.entity.Comment;
-import com.cherrypick.backend.domain.comment.entity.CommentLike;
-import com.cherrypick.backend.domain.comment.entity.CommentLikeId;
 import com.cherrypick.backend.domain.comment.enums.SortType;
-import com.cherrypick.backend.domain.comment.repository.CommentLikeRepository;
+import com.cherrypick.backend.domain.comment.event.CommentRankingChangedEvent;
+import com.cherrypick.backend.domain.comment.repository.CommentCounterRepository;
 import com.cherrypick.backend.domain.comment.repository.CommentRepository;
+import com.cherrypick.backend.domain.comment.vo.CommentCursor;
 import com.cherrypick.backend.domain.deal.domain.entity.Deal;
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
+import com.cherrypick.backend.domain.deal.domain.repository.DealCounterRepository;
 import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
-import com.cherrypick.backend.domain.image.entity.Image;
-import com.cherrypick.backend.domain.image.enums.ImageType;
-import com.cherrypick.backend.domain.image.repository.ImageRepository;
 import com.cherrypick.backend.domain.auth.domain.vo.AuthenticatedUser;
-import com.cherrypick.backend.domain.user.entity.Badge;
 import com.cherrypick.backend.domain.user.repository.UserRepository;
 import com.cherrypick.backend.domain.user.entity.User;
-import com.cherrypick.backend.domain.user.vo.AuthorDTO;
 import com.cherrypick.backend.global.exception.BaseException;
 import com.cherrypick.backend.global.exception.enums.CommentErrorCode;
 import com.cherrypick.backend.global.exception.enums.DealErrorCode;
 import com.cherrypick.backend.global.exception.enums.GlobalErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -36,11 +35,16 @@ import java.util.*;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int BEST_COMMENT_LIMIT = 2;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final CommentRepository commentRepository;
     private final DealRepository dealRepository;
+    private final DealCounterRepository dealCounterRepository;
     private final UserRepository userRepository;
-    private final CommentLikeRepository commentLikeRepository;
-    private final ImageRepository imageRepository;
+    private final CommentCounterRepository commentCounterRepository;
+    private final CommentThreadAssembler commentThreadAssembler;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 생성
     @Transactional
@@ -83,6 +87,10 @@ public class CommentService {
         comment.setCreatedAt(LocalDateTime.now());
 
         commentRepository.save(comment);
+        dealCounterRepository.addCommentCount(dealId, 1);
+
+        eventPublisher.publishEvent(CommentRankingChangedEvent.added(dealId, comment.getCommentId()));
+        eventPublisher.publishEvent(DealChangedEvent.commented(dealId));
 
         return new CommentResponseDTOs.Create(comment.getCommentId(), "댓글 작성 성공");
     }
@@ -98,28 +106,52 @@ public class CommentService {
         // 로그인 사용자 ID 추출
         final Long loginUserId = com.cherrypick.backend.global.util.AuthUtil.isAuthenticated() ? com.cherrypick.backend.global.util.AuthUtil.getUserDetail().userId() : null;
 
-        // 부모 댓글 조회
-        List<Comment> parentComments = switch (sortType) {
-            case POPULAR -> commentRepository.findParentCommentsByLikes(dealId);
-            case LATEST -> commentRepository.findParentCommentsLatest(dealId);
-        };
+        // 댓글/대댓글/좋아요/프로필 이미지를 일괄 조회해 메모리에서 트리 조립 (댓글 수와 무관하게 최대 3쿼리)
+        return commentThreadAssembler.assemble(dealId, sortType, loginUserId);
+    }
 
-        return parentComments.stream()
-                .map(parent -> {
-                    // 대댓글 조회 (작성된 순으로)
-                    List<Comment> replies = commentRepository.findReplies(parent.getCommentId());
+    // 댓글 페이지 조회 (부모 댓글 커서 페이지네이션)
+    @Transactional
+    public CommentPageResponseDTOs.Comments getCommentPage(Long dealId, SortType sortType, String cursor, int size) {
+        boolean exists = dealRepository.existsById(dealId);
+        if (!exists) {
+            throw new BaseException(DealErrorCode.DEAL_NOT_FOUND);
+        }
 
-                    List<CommentListResponseDTO> replyDtos = replies.stream()
-                            .map(reply -> toCommentDtoWithoutReplies(reply, loginUserId))
-                            .toList();
+        CommentCursor commentCursor = (cursor != null && !cursor.isBlank())
+                ? CommentCursor.decodeParent(cursor, sortType)
+                : null;
 
-                    return toCommentDtoWithReplies(parent, replyDtos, loginUserId);
-                })
-                .toList();
+        // 로그인 사용자 ID 추출
+        final Long loginUserId = com.cherrypick.backend.global.util.AuthUtil.isAuthenticated() ? com.cherrypick.backend.global.util.AuthUtil.getUserDetail().userId() : null;
+
+        return commentThreadAssembler.page(dealId, sortType, commentCursor, clampPageSize(size), loginUserId);
     }
 
-    // 베스트 댓글 조회
+    // 대댓글 페이지 조회 (대댓글 더보기)
     @Transactional
+    public CommentPageResponseDTOs.Replies getReplyPage(Long parentId, String cursor, int size) {
+        Comment parent = commentRepository.findById(parentId)
+                .orElseThrow(() -> new BaseException(CommentErrorCode.PARENT_COMMENT_NOT_FOUND));
+
+        // 대댓글의 대댓글은 없음
+        if (parent.getParentId() != null) {
+            throw new BaseException(CommentErrorCode.INVALID_PARENT_COMMENT);
+        }
+
+        CommentCursor commentCursor = (cursor != null && !cursor.isBlank())
+                ? CommentCursor.decodeReply(cursor)
+                : null;
+
+        // 로그인 사용자 ID 추출
+        final Long loginUserId = com.cherrypick.backend.global.util.AuthUtil.isAuthenticated() ? com.cherrypick.backend.global.util.AuthUtil.getUserDetail().userId() : null;
+
+        return commentThreadAssembler.replies(parentId, commentCursor, clampPageSize(size), loginUserId);
+    }
+
+    // 베스트 댓글 조회
+    // 트랜잭션 없이 실행: 랭킹 적재 시 버전 확인 뒤에 읽는 좋아요 수가 트랜잭션 시작 시점의 스냅샷이 아니라 최신 커밋 값이어야 함
+    // (조회하는 댓글/작성자는 fetch join 으로 함께 읽으므로 지연 로딩 없음)
     public List<BestCommentResponseDTO> getBestComments(Long dealId) {
         boolean exists = dealRepository.existsById(dealId);
         if (!exists) {
@@ -129,46 +161,7 @@ public class CommentService {
         // 로그인 사용자 ID 추출
         final Long loginUserId = com.cherrypick.backend.global.util.AuthUtil.isAuthenticated() ? com.cherrypick.backend.global.util.AuthUtil.getUserDetail().userId() : null;
 
-        List<Comment> comments = commentRepository.findAllByDealIdAndIsDeleteFalse(dealId);
-
-        List<BestCommentResponseDTO> result = comments.stream()
-                .map(comment -> {
-                    int totalLikes = commentLikeRepository.countByCommentId(comment);
-
-                    // 프로필 이미지 조회
-                    Optional<Image> imageOpt = imageRepository.findByUserId(
-                            comment.getUserId().getUserId()
-                    );
-
-                    boolean isLike = false;
-                    if (loginUserId != null) {
-                        isLike = commentLikeRepository.existsById(new CommentLikeId(loginUserId, comment.getCommentId()));
-                    }
-
-                    User user = comment.getUserId();
-                    Badge badge = user.getBadge();
-                    return new BestCommentResponseDTO(
-                            comment.getCommentId(),
-                            new AuthorDTO(
-                                    user.getUserId(),
-                                    user.getNickname(),
-                                    imageOpt.map(Image::getImageUrl).orElse(null),
-                                    badge.getBadgeId(),
-                                    badge.getDisplayName()
-                            ),
-                            totalLikes,
-                            comment.getContent(),
-                            isLike
-                    );
-                })
-                .sorted(
-                        Comparator.comparingInt(BestCommentResponseDTO::totalLikes).reversed()
-                                .thenComparing(BestCommentResponseDTO::commentId, Comparator.reverseOrder())
-                )
-                .limit(2)
-                .toList();
-
-        return result;
+        return commentThreadAssembler.best(dealId, loginUserId, BEST_COMMENT_LIMIT);
     }
 
     // 댓글 삭제 (Soft Delete)
@@ -191,7 +184,14 @@ public class CommentService {
             throw new BaseException(GlobalErrorCode.FORBIDDEN);
         }
 
-        comment.setDelete(true);
+        // 이미 삭제된 댓글을 다시 삭제해도 댓글 수는 한 번만 감소
+        if (!comment.isDelete()) {
+            comment.setDelete(true);
+            dealCounterRepository.addCommentCount(comment.getDealId().getDealId(), -1);
+            eventPublisher.publishEvent(CommentRankingChangedEvent.removed(comment.getDealId().getDealId(), comment.getCommentId()));
+        }
+
+        eventPublisher.publishEvent(DealChangedEvent.commented(comment.getDealId().getDealId()));
 
         return new CommentResponseDTOs.Delete(comment.getCommentId(), "댓글 삭제 성공");
     }
@@ -211,23 +211,18 @@ public class CommentService {
         Comment comment = commentRepository.findById(request.commentId())
                 .orElseThrow(() -> new BaseException(CommentErrorCode.COMMENT_NOT_FOUND));
 
-        CommentLikeId likeId = new CommentLikeId(user.getUserId(), comment.getCommentId());
-
-        boolean exists = commentLikeRepository.existsById(likeId);
-
+        Long dealId = comment.getDealId().getDealId();
         String message;
 
+        // 좋아요 행이 실제로 추가/삭제된 경우에만 like_count 와 베스트 댓글 랭킹을 증감 (더블 클릭에도 1회, 랭킹은 커밋 이후)
         if (request.isLike()) {
-            // 좋아요 추가
-            if (!exists) {
-                CommentLike like = new CommentLike(comment, user);
-                commentLikeRepository.save(like);
+            if (commentCounterRepository.like(user.getUserId(), comment.getCommentId())) {
+                eventPublisher.publishEvent(CommentRankingChangedEvent.liked(dealId, comment.getCommentId()));
             }
             message = "댓글 좋아요 성공";
         } else {
-            // 좋아요 취소
-            if (exists) {
-                commentLikeRepository.deleteById(likeId);
+            if (commentCounterRepository.unlike(user.getUserId(), comment.getCommentId())) {
+                eventPublisher.publishEvent(CommentRankingChangedEvent.unliked(dealId, comment.getCommentId()));
             }
             message = "댓글 좋아요 취소 성공";
         }
@@ -235,76 +230,8 @@ public class CommentService {
         return new CommentResponseDTOs.Like(comment.getCommentId(), message);
     }
 
-    // DTO 변환 메소드들
-    // 부모 댓글 + 대댓글 리스트까지 포함한 DTO 만들기
-    private CommentListResponseDTO toCommentDtoWithReplies(Comment comment, List<CommentListResponseDTO> replies, Long loginUserId) {
-        int totalLikes = commentLikeRepository.countByCommentId(comment);
-        int totalReplys = replies.size();
-
-        Optional<Image> imageOpt = imageRepository.findByUserId(
-                comment.getUserId().getUserId()
-        );
-
-        boolean isLike = false;
-        if (loginUserId != null) {
-            isLike = commentLikeRepository.existsById(new CommentLikeId(loginUserId, comment.getCommentId()));
-        }
-
-        User user = comment.getUserId();
-        Badge badge = user.getBadge();
-        return new CommentListResponseDTO(
-                comment.getCommentId(),
-                comment.getParentId(),
-                new AuthorDTO(
-                        user.getUserId(),
-                        user.getNickname(),
-                        imageOpt.map(Image::getImageUrl).orElse(null),
-                        badge.getBadgeId(),
-                        badge.getDisplayName()
-                ),
-                comment.getContent(),
-                totalLikes,
-                totalReplys,
-                comment.getCreatedAt(),
-                comment.isDelete(),
-                replies,
-                isLike
-        );
-    }
-
-    // 대댓글 1개짜리 DTO 만들기
-    private CommentListResponseDTO toCommentDtoWithoutReplies(Comment comment, Long loginUserId) {
-        int totalLikes = commentLikeRepository.countByCommentId(comment);
-
-        boolean isLike = false;
-        if (loginUserId != null) {
-            isLike = commentLikeRepository.existsById(new CommentLikeId(loginUserId, comment.getCommentId()));
-        }
-
-        String imageUrl = imageRepository
-                .findTopByRefIdAndImageTypeOrderByImageIndexAsc(comment.getUserId().getUserId(), ImageType.USER)
-                .map(Image::getImageUrl)
-                .orElse(null);
-        User user = comment.getUserId();
-        Badge badge = user.getBadge();
-        return new CommentListResponseDTO(
-                comment.getCommentId(),
-                comment.getParentId(),
-                new AuthorDTO(
-                        user.getUserId(),
-                        user.getNickname(),
-                        imageUrl,
-                        badge.getBadgeId(),
-                        badge.getDisplayName()
-                ),
-                comment.getContent(),
-                totalLikes,
-                0,
-                comment.getCreatedAt(),
-                comment.isDelete(),
-                List.of(),
-                isLike
-        );
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 
     public void dummyDataSetting(){
@@ -345,8 +272,10 @@ public class CommentService {
         var dealIds = deals.stream().map(Deal::getDealId).toList();
 
         var comments = new ArrayList<Comment>();
+        var countByDeal = new HashMap<Long, Integer>();
         for(var id : dealIds){
             int count = new Random().nextInt(20);
+            countByDeal.put(id, count);
             for (int i = 0; i < count; i++) {
                 var c = new Comment();
                 c.setDealId(Deal.builder().dealId(id).build());
@@ -359,6 +288,9 @@ public class CommentService {
         }
 
         commentRepository.saveAll(comments);
+        countByDeal.forEach((dealId, count) -> {
+            if (count > 0) dealCounterRepository.addCommentCount(dealId, count);
+        });
     }
 
 
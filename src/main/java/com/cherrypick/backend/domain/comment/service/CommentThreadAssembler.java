@@ -0,0 +1,302 @@
+package com.cherrypick.backend.domain.comment.service;
+
+import com.cherrypick.backend.domain.comment.dto.response.BestCommentResponseDTO;
+import com.cherrypick.backend.domain.comment.dto.response.CommentListResponseDTO;
+import com.cherrypick.backend.domain.comment.dto.response.CommentPageResponseDTOs;
+import com.cherrypick.backend.domain.comment.entity.Comment;
+import com.cherrypick.backend.domain.comment.enums.SortType;
+import com.cherrypick.backend.domain.comment.repository.CommentCounterRepository;
+import com.cherrypick.backend.domain.comment.repository.CommentLikeRepository;
+import com.cherrypick.backend.domain.comment.repository.CommentRankingStore;
+import com.cherrypick.backend.domain.comment.repository.CommentRepository;
+import com.cherrypick.backend.domain.comment.vo.CommentCursor;
+import com.cherrypick.backend.domain.user.entity.User;
+import com.cherrypick.backend.domain.user.service.AuthorProfileCache;
+import com.cherrypick.backend.domain.user.vo.AuthorDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 딜 댓글 트리 조립
+ *
+ * <p>댓글 수와 관계없이 고정된 쿼리 수로 댓글 트리를 만듭니다.
+ * 부모 댓글마다 대댓글을, 댓글마다 좋아요 수/내 좋아요/프로필 이미지를 조회하던 방식은 댓글 100개에 약 400쿼리가 발생했습니다.</p>
+ *
+ * <p><b>쿼리 (최대 3회):</b></p>
+ * <ul>
+ *     <li>딜의 댓글/대댓글 전체 + 작성자 + 배지 (fetch join, 좋아요 수는 comment.like_count)</li>
+ *     <li>로그인 사용자가 좋아요한 댓글 ID (비로그인이면 생략)</li>
+ *     <li>작성자 프로필 이미지 (작성자 ID IN, AuthorProfileCache 미스인 작성자만)</li>
+ * </ul>
+ *
+ * <p>정렬과 부모/대댓글 묶기는 메모리에서 처리합니다.</p>
+ *
+ * <p><b>페이지 조회:</b> 댓글이 많은 딜은 트리 전체 대신 부모 댓글을 커서(CommentCursor)로 나눠 조회합니다.
+ * 부모 댓글 페이지(keyset) → 부모별 앞쪽 대댓글 ID/대댓글 수(윈도 함수 1회) → 대댓글 + 작성자 순으로 읽으므로
+ * 페이지 크기와 관계없이 최대 5쿼리이며, 나머지 대댓글은 부모별 커서로 이어서 조회합니다.</p>
+ *
+ * <p>베스트 댓글은 댓글 전체를 읽지 않고 CommentRankingStore(Redis)의 상위 K개 ID만 조회합니다.
+ * 랭킹이 없으면 DB의 좋아요 수로 적재한 뒤 사용합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentThreadAssembler {
+
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final AuthorProfileCache authorProfileCache;
+    private final CommentCounterRepository commentCounterRepository;
+    private final CommentRankingStore commentRankingStore;
+
+    // 부모 댓글 페이지에 함께 내려주는 대댓글 수 (나머지는 대댓글 커서로 조회)
+    static final int REPLY_PREVIEW_SIZE = 3;
+
+    // 부모 댓글 정렬 (최신순: 작성일 내림차순)
+    private static final Comparator<Comment> LATEST_FIRST = Comparator
+            .comparing(Comment::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Comment::getCommentId, Comparator.reverseOrder());
+
+    // 대댓글 정렬 (작성된 순서대로)
+    private static final Comparator<Comment> OLDEST_FIRST = Comparator
+            .comparing(Comment::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(Comment::getCommentId);
+
+    /**
+     * 딜의 댓글 트리 (삭제된 댓글 포함, 삭제 여부는 isDelete 로 표시)
+     *
+     * @param dealId 딜 ID
+     * @param sortType 부모 댓글 정렬 (POPULAR: 좋아요 수 → 최신순, LATEST: 최신순)
+     * @param loginUserId 로그인 사용자 ID (null 가능)
+     */
+    public List<CommentListResponseDTO> assemble(Long dealId, SortType sortType, Long loginUserId) {
+        List<Comment> comments = commentRepository.findThreadByDealId(dealId);
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        ThreadContext context = loadContext(comments, loginUserId);
+
+        // 부모 댓글별 대댓글 묶기
+        List<Comment> parents = new ArrayList<>();
+        Map<Long, List<Comment>> repliesByParent = new HashMap<>();
+        for (Comment comment : comments) {
+            if (comment.getParentId() == null) {
+                parents.add(comment);
+            } else {
+                repliesByParent.computeIfAbsent(comment.getParentId(), id -> new ArrayList<>()).add(comment);
+            }
+        }
+
+        Comparator<Comment> parentOrder = switch (sortType) {
+            case POPULAR -> Comparator.comparingLong(Comment::getLikeCount).reversed()
+                    .thenComparing(LATEST_FIRST);
+            case LATEST -> LATEST_FIRST;
+        };
+        parents.sort(parentOrder);
+
+        List<CommentListResponseDTO> result = new ArrayList<>(parents.size());
+        for (Comment parent : parents) {
+            List<Comment> replies = repliesByParent.getOrDefault(parent.getCommentId(), List.of());
+            List<CommentListResponseDTO> replyDtos = replies.stream()
+                    .sorted(OLDEST_FIRST)
+                    .map(reply -> toDto(reply, List.of(), 0, context))
+                    .toList();
+
+            result.add(toDto(parent, replyDtos, replyDtos.size(), context));
+        }
+        return result;
+    }
+
+    /**
+     * 딜의 부모 댓글 한 페이지 (대댓글은 앞쪽 {@value #REPLY_PREVIEW_SIZE}개만 포함)
+     *
+     * @param dealId 딜 ID
+     * @param sortType 부모 댓글 정렬 (POPULAR: 좋아요 수 → 최신순, LATEST: 최신순)
+     * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param loginUserId 로그인 사용자 ID (null 가능)
+     */
+    public CommentPageResponseDTOs.Comments page(Long dealId, SortType sortType, CommentCursor cursor, int size, Long loginUserId) {
+        PageRequest pageable = PageRequest.of(0, size);
+        Slice<Comment> parentSlice = switch (sortType) {
+            case LATEST -> cursor == null
+                    ? commentRepository.findParentsLatest(dealId, pageable)
+                    : commentRepository.findParentsLatestAfter(dealId, cursor.createdAt(), cursor.commentId(), pageable);
+            case POPULAR -> cursor == null
+                    ? commentRepository.findParentsPopular(dealId, pageable)
+                    : commentRepository.findParentsPopularAfter(dealId, cursor.likeCount(), cursor.createdAt(), cursor.commentId(), pageable);
+        };
+
+        List<Comment> parents = parentSlice.getContent();
+        if (parents.isEmpty()) {
+            return new CommentPageResponseDTOs.Comments(List.of(), false, null, Map.of());
+        }
+
+        // 부모별 앞쪽 대댓글 ID + 대댓글 수
+        List<Long> parentIds = parents.stream().map(Comment::getCommentId).toList();
+        List<Long> previewIds = new ArrayList<>();
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        for (Object[] row : commentRepository.findReplyPreviews(parentIds, REPLY_PREVIEW_SIZE)) {
+            previewIds.add(((Number) row[0]).longValue());
+            replyCounts.put(((Number) row[1]).longValue(), ((Number) row[2]).intValue());
+        }
+
+        Map<Long, List<Comment>> repliesByParent = new HashMap<>();
+        List<Comment> previews = previewIds.isEmpty() ? List.of() : commentRepository.findWithAuthorByCommentIdIn(previewIds);
+        for (Comment reply : previews) {
+            repliesByParent.computeIfAbsent(reply.getParentId(), id -> new ArrayList<>()).add(reply);
+        }
+
+        List<Comment> loaded = new ArrayList<>(parents);
+        loaded.addAll(previews);
+        ThreadContext context = loadContext(loaded, loginUserId);
+
+        List<CommentListResponseDTO> result = new ArrayList<>(parents.size());
+        Map<Long, String> replyCursors = new LinkedHashMap<>();
+        for (Comment parent : parents) {
+            List<Comment> replies = repliesByParent.getOrDefault(parent.getCommentId(), new ArrayList<>());
+            replies.sort(OLDEST_FIRST);
+            int totalReplies = replyCounts.getOrDefault(parent.getCommentId(), 0);
+
+            List<CommentListResponseDTO> replyDtos = replies.stream()
+                    .map(reply -> toDto(reply, List.of(), 0, context))
+                    .toList();
+            result.add(toDto(parent, replyDtos, totalReplies, context));
+
+            if (totalReplies > replies.size() && !replies.isEmpty()) {
+                replyCursors.put(parent.getCommentId(), CommentCursor.ofReply(replies.get(replies.size() - 1)).encode());
+            }
+        }
+
+        String nextCursor = parentSlice.hasNext()
+                ? CommentCursor.ofParent(sortType, parents.get(parents.size() - 1)).encode()
+                : null;
+        return new CommentPageResponseDTOs.Comments(result, parentSlice.hasNext(), nextCursor, replyCursors);
+    }
+
+    /**
+     * 부모 댓글의 대댓글 한 페이지 (작성 순)
+     *
+     * @param parentId 부모 댓글 ID
+     * @param cursor 이전 페이지 커서 또는 부모 댓글 페이지의 대댓글 더보기 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param loginUserId 로그인 사용자 ID (null 가능)
+     */
+    public CommentPageResponseDTOs.Replies replies(Long parentId, CommentCursor cursor, int size, Long loginUserId) {
+        PageRequest pageable = PageRequest.of(0, size);
+        Slice<Comment> replySlice = cursor == null
+                ? commentRepository.findReplies(parentId, pageable)
+                : commentRepository.findRepliesAfter(parentId, cursor.createdAt(), cursor.commentId(), pageable);
+
+        List<Comment> replies = replySlice.getContent();
+        if (replies.isEmpty()) {
+            return new CommentPageResponseDTOs.Replies(List.of(), false, null);
+        }
+
+        ThreadContext context = loadContext(replies, loginUserId);
+        List<CommentListResponseDTO> result = replies.stream()
+                .map(reply -> toDto(reply, List.of(), 0, context))
+                .toList();
+
+        String nextCursor = replySlice.hasNext()
+                ? CommentCursor.ofReply(replies.get(replies.size() - 1)).encode()
+                : null;
+        return new CommentPageResponseDTOs.Replies(result, replySlice.hasNext(), nextCursor);
+    }
+
+    /**
+     * 딜의 베스트 댓글 (삭제되지 않은 댓글/대댓글 중 좋아요 수 → 최신 댓글 ID 순)
+     *
+     * @param dealId 딜 ID
+     * @param loginUserId 로그인 사용자 ID (null 가능)
+     * @param limit 최대 개수
+     */
+    public List<BestCommentResponseDTO> best(Long dealId, Long loginUserId, int limit) {
+        List<Long> rankedIds = commentRankingStore.top(dealId, limit)
+                .orElseGet(() -> loadRanking(dealId, limit));
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Comment> commentMap = new HashMap<>();
+        for (Comment comment : commentRepository.findWithAuthorByCommentIdIn(rankedIds)) {
+            commentMap.put(comment.getCommentId(), comment);
+        }
+        List<Comment> comments = rankedIds.stream()
+                .map(commentMap::get)
+                .filter(comment -> comment != null && !comment.isDelete())
+                .toList();
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        ThreadContext context = loadContext(comments, loginUserId);
+
+        return comments.stream()
+                .map(comment -> new BestCommentResponseDTO(
+                        comment.getCommentId(),
+                        author(comment.getUserId(), context),
+                        (int) comment.getLikeCount(),
+                        comment.getContent(),
+                        context.likedCommentIds().contains(comment.getCommentId())
+                ))
+                .toList();
+    }
+
+    /**
+     * 랭킹이 없을 때 DB의 좋아요 수로 랭킹을 적재하고 상위 ID를 반환합니다.
+     * 좋아요 수를 읽기 전에 버전을 읽어, 그 사이 커밋된 변경이 있으면 적재하지 않습니다.
+     */
+    private List<Long> loadRanking(Long dealId, int limit) {
+        String version = commentRankingStore.version(dealId);
+        Map<Long, Long> likeCounts = commentCounterRepository.findLiveLikeCounts(dealId);
+        commentRankingStore.load(dealId, version, likeCounts);
+
+        return likeCounts.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<Long, Long> e) -> CommentRankingStore.score(e.getKey(), e.getValue()))
+                        .reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private ThreadContext loadContext(List<Comment> comments, Long loginUserId) {
+        List<Long> commentIds = comments.stream().map(Comment::getCommentId).toList();
+        List<User> authors = comments.stream().map(Comment::getUserId).toList();
+
+        Set<Long> likedCommentIds = loginUserId != null
+                ? commentLikeRepository.findLikedCommentIds(loginUserId, commentIds)
+                : Set.of();
+
+        return new ThreadContext(likedCommentIds, authorProfileCache.getAll(authors));
+    }
+
+    private CommentListResponseDTO toDto(Comment comment, List<CommentListResponseDTO> replies, int totalReplies, ThreadContext context) {
+        return new CommentListResponseDTO(
+                comment.getCommentId(),
+                comment.getParentId(),
+                author(comment.getUserId(), context),
+                comment.getContent(),
+                (int) comment.getLikeCount(),
+                totalReplies,
+                comment.getCreatedAt(),
+                comment.isDelete(),
+                replies,
+                context.likedCommentIds().contains(comment.getCommentId())
+        );
+    }
+
+    private AuthorDTO author(User user, ThreadContext context) {
+        return context.authors().get(user.getUserId());
+    }
+
+    /**
+     * 트리 조립에 필요한 일괄 조회 결과
+     */
+    private record ThreadContext(Set<Long> likedCommentIds, Map<Long, AuthorDTO> authors) {}
+}
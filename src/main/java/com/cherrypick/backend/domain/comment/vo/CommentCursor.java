@@ -0,0 +1,95 @@
+package com.cherrypick.backend.domain.comment.vo;
+
+import com.cherrypick.backend.domain.comment.entity.Comment;
+import com.cherrypick.backend.domain.comment.enums.SortType;
+import com.cherrypick.backend.global.exception.BaseException;
+import com.cherrypick.backend.global.exception.enums.CommentErrorCode;
+import com.cherrypick.backend.global.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 댓글 커서 (Keyset 페이지네이션)
+ *
+ * <p>마지막으로 내려준 댓글의 정렬 키와 commentId를 담습니다.
+ * 다음 페이지는 OFFSET 대신 "정렬 키가 커서보다 뒤인 행" 조건으로 조회하므로 댓글이 많은 딜도 페이지마다 같은 비용으로 조회됩니다.</p>
+ *
+ * <p><b>정렬 키:</b></p>
+ * <ul>
+ *     <li>LATEST (부모 댓글) → (createdAt, commentId) 내림차순</li>
+ *     <li>POPULAR (부모 댓글) → (likeCount, createdAt, commentId) 내림차순</li>
+ *     <li>REPLY (대댓글) → (createdAt, commentId) 오름차순</li>
+ * </ul>
+ *
+ * <p>인기순은 페이지 사이에 좋아요 수가 바뀌면 댓글이 중복되거나 빠질 수 있습니다. (목록 특성상 허용)</p>
+ *
+ * @param order 커서를 발급할 때의 정렬 (LATEST, POPULAR, REPLY)
+ * @param likeCount 마지막 댓글의 좋아요 수 (POPULAR 에서만 사용)
+ * @param createdAt 마지막 댓글의 작성일
+ * @param commentId 마지막 댓글의 ID (동일 정렬 키 사이의 순서 보장)
+ */
+public record CommentCursor(
+        String order,
+        long likeCount,
+        LocalDateTime createdAt,
+        long commentId
+) {
+
+    private static final String REPLY = "REPLY";
+    private static final int PARTS = 4;
+
+    /**
+     * 부모 댓글 페이지의 마지막 댓글로부터 커서를 생성합니다.
+     */
+    public static CommentCursor ofParent(SortType sortType, Comment last) {
+        return new CommentCursor(sortType.name(), last.getLikeCount(), last.getCreatedAt(), last.getCommentId());
+    }
+
+    /**
+     * 대댓글 페이지의 마지막 대댓글로부터 커서를 생성합니다.
+     */
+    public static CommentCursor ofReply(Comment last) {
+        return new CommentCursor(REPLY, 0, last.getCreatedAt(), last.getCommentId());
+    }
+
+    /**
+     * 부모 댓글 커서 토큰을 해석합니다.
+     *
+     * @param cursor 클라이언트가 전달한 커서 토큰
+     * @param sortType 현재 요청의 정렬 타입
+     * @throws BaseException 토큰이 손상되었거나 정렬 타입이 일치하지 않는 경우 (INVALID_CURSOR)
+     */
+    public static CommentCursor decodeParent(String cursor, SortType sortType) {
+        return decode(cursor, sortType.name());
+    }
+
+    /**
+     * 대댓글 커서 토큰을 해석합니다.
+     *
+     * @throws BaseException 토큰이 손상되었거나 대댓글 커서가 아닌 경우 (INVALID_CURSOR)
+     */
+    public static CommentCursor decodeReply(String cursor) {
+        return decode(cursor, REPLY);
+    }
+
+    /**
+     * 커서를 토큰 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        return CursorCodec.encode(order, Long.toString(likeCount), createdAt.toString(), Long.toString(commentId));
+    }
+
+    private static CommentCursor decode(String cursor, String expectedOrder) {
+        try {
+            String[] parts = CursorCodec.decode(cursor, PARTS);
+            if (!parts[0].equals(expectedOrder)) {
+                throw new BaseException(CommentErrorCode.INVALID_CURSOR);
+            }
+
+            return new CommentCursor(parts[0], Long.parseLong(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(CommentErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.cherrypick.backend.domain.deal.application.service.DealDetailUsecase;
 import com.cherrypick.backend.domain.deal.application.service.DealLogUsecase;
 import com.cherrypick.backend.domain.deal.application.service.DealService;
 import com.cherrypick.backend.domain.deal.application.service.SearchDealUsecase;
+import com.cherrypick.backend.domain.deal.application.service.TrendingDealUsecase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,6 +31,7 @@ public class DealController {
     private final CreateDealUseCase createDealUseCase;
     private final SearchDealUsecase searchDealUsecase;
     private final DealDetailUsecase dealDetailUsecase;
+    private final TrendingDealUsecase trendingDealUsecase;
 
     // 게시글 생성
     @Operation(
@@ -49,23 +51,40 @@ public class DealController {
     // 게시글 전체 조회 (검색)
     @Operation(
             summary = "핫딜 게시글 전제 조회 API V1",
-            description = "핫딜 게시글을 전체 조회합니다. 필터를 보낼 경우 부분 조회(검색) 기능을 합니다."
+            description = "핫딜 게시글을 전체 조회합니다. 필터를 보낼 경우 부분 조회(검색) 기능을 합니다. " +
+                    "응답의 nextCursor를 cursor 파라미터로 보내면 page 대신 커서 기반으로 다음 페이지를 조회합니다."
     )
     @PostMapping("/search/deal")
     public ResponseEntity<DealSearchPageResponseDTO> searchDeals(
             @RequestParam(value = "version", defaultValue = "v1") String version,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "40") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestBody(required = false) DealSearchRequestDTO request) {
 
         if (request == null) {
             request = new DealSearchRequestDTO();
         }
 
-        DealSearchPageResponseDTO response = searchDealUsecase.searchDeals(request, page, size);
+        DealSearchPageResponseDTO response = (cursor != null && !cursor.isBlank())
+                ? searchDealUsecase.searchDealsByCursor(request, cursor, size)
+                : searchDealUsecase.searchDeals(request, page, size);
         return ResponseEntity.ok(response);
     }
 
+    // 실시간 급상승 딜 조회
+    @Operation(
+            summary = "실시간 급상승 핫딜 조회 API V1",
+            description = "최근 5분 반응(조회/투표/댓글/구매/공유)이 평소보다 급격히 늘어난 핫딜을 급상승 순으로 조회합니다. 1분마다 갱신됩니다."
+    )
+    @GetMapping("/deal/trending")
+    public ResponseEntity<DealSearchPageResponseDTO> getTrendingDeals(
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "version", defaultValue = "v1") String version) {
+
+        return ResponseEntity.ok(trendingDealUsecase.getTrendingDeals(size));
+    }
+
     // 게시글 상세 조회
     @Operation(
             summary = "핫딜 게시글 상세 조회 API V1",
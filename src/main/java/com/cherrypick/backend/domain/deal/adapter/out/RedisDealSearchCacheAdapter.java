@@ -0,0 +1,108 @@
+package com.cherrypick.backend.domain.deal.adapter.out;
+
+import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchPageResponseDTO;
+import com.cherrypick.backend.domain.deal.domain.port.DealSearchCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 딜 검색 결과 Redis 캐시 어댑터
+ *
+ * <p>키 구조: REPIK:cache:deal_search:{generation}:{requestKey}</p>
+ * <ul>
+ *     <li>generation: 딜/투표/댓글 변경 시 INCR 되는 세대 번호 (REPIK:cache:deal_search:generation)</li>
+ *     <li>requestKey: 정규화된 검색 조건의 SHA-256</li>
+ * </ul>
+ *
+ * <p>Redis 장애 시에는 캐시 미스로 처리해 검색 자체는 항상 동작하도록 합니다.</p>
+ *
+ * <p>메트릭: deal.search.cache{result=hit|miss|error}</p>
+ */
+@Slf4j
+@Component
+public class RedisDealSearchCacheAdapter implements DealSearchCache {
+
+    private static final String KEY_PREFIX = "REPIK:cache:deal_search:";
+    private static final String GENERATION_KEY = KEY_PREFIX + "generation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    public RedisDealSearchCacheAdapter(StringRedisTemplate redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${deal.search.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.hitCounter = meterRegistry.counter("deal.search.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("deal.search.cache", "result", "miss");
+        this.errorCounter = meterRegistry.counter("deal.search.cache", "result", "error");
+    }
+
+    @Override
+    public String versionedKey(String requestKey) {
+        String generation = null;
+        try {
+            generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        } catch (RuntimeException e) {
+            log.warn("검색 캐시 세대 조회 실패", e);
+        }
+
+        return KEY_PREFIX + (generation == null ? "0" : generation) + ":" + requestKey;
+    }
+
+    @Override
+    public Optional<DealSearchPageResponseDTO> get(String versionedKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(versionedKey);
+            if (json == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            hitCounter.increment();
+            return Optional.of(objectMapper.readValue(json, DealSearchPageResponseDTO.class));
+        } catch (RuntimeException | JsonProcessingException e) {
+            errorCounter.increment();
+            log.warn("검색 캐시 조회 실패: key={}", versionedKey, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String versionedKey, DealSearchPageResponseDTO response) {
+        try {
+            redisTemplate.opsForValue().set(versionedKey, objectMapper.writeValueAsString(response), ttl);
+        } catch (RuntimeException | JsonProcessingException e) {
+            errorCounter.increment();
+            log.warn("검색 캐시 저장 실패: key={}", versionedKey, e);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+        } catch (RuntimeException e) {
+            // 무효화 실패 시에도 TTL 이후에는 최신 결과로 갱신됨
+            errorCounter.increment();
+            log.warn("검색 캐시 무효화 실패", e);
+        }
+    }
+}
@@ -1,24 +1,92 @@
 package com.cherrypick.backend.domain.deal.adapter.out;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.cherrypick.backend.global.util.BloomFilterSpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * 중복 방지 전담 어댑터
  * 조회, 구매, 추천 등의 중복 액션을 Redis로 방지
+ *
+ * <p>확인과 기록을 한 번의 원자적 명령으로 처리하므로 동시에 들어온 같은 요청 중 하나만 "처음"으로 판정됩니다.</p>
+ *
+ * <p><b>모드 (deal.duplication.mode):</b></p>
+ * <ul>
+ *     <li>exact (기본): (행동, 딜, 기기)마다 키 하나를 SET NX EX 24h. 오탐 없음, 키 수 = 행동 수</li>
+ *     <li>bloom: (행동, 딜, 날짜)마다 Redis 비트맵 블룸 필터 하나. SETBIT k회를 Lua 스크립트로 원자 실행하고,
+ *     이전 비트 중 하나라도 0이면 처음 행동으로 판정. 오탐률(false-positive-rate)만큼 처음 행동을 중복으로 볼 수 있고,
+ *     중복 판정 기준이 "24시간 이내"에서 "같은 날(서버 기준)"로 바뀜</li>
+ * </ul>
+ *
+ * <p><b>bloom 모드의 한계:</b></p>
+ * <ul>
+ *     <li>메모리: 비트 위치가 필터 전체에 흩어지므로 첫 SETBIT 부터 필터 크기(기본 약 12KB)가 거의 그대로 할당됩니다.
+ *     exact 키 하나는 약 150B 이므로 딜·일자별 고유 기기가 손익분기(기본 약 80명)보다 적은 대부분의 딜에서는 exact 보다 큽니다.
+ *     기동 로그의 손익분기를 실제 딜별 일 고유 방문자 분포(UniqueAudienceCounter)와 비교해 모드를 고릅니다.</li>
+ *     <li>포화: 예상 원소 수(expected-per-deal-day)를 넘으면 오탐률이 급격히 올라 새 기기가 중복으로 판정됩니다.
+ *     이를 막기 위해 필터마다 처음 판정된 기기 수를 세고, 예상 원소 수에 닿으면 필터에 더 쓰지 않고
+ *     필터에 없는 기기만 기기별 키(SET NX)로 판정합니다. 포화된 필터의 오탐률은 목표값에서 더 오르지 않습니다.</li>
+ * </ul>
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RedisDuplicationPreventionAdapter {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-
     // TTL 설정 (24시간)
     private static final Duration DEFAULT_TTL = Duration.ofHours(24);
 
+    // 블룸 필터는 날짜 단위 키이므로 하루가 지나도 당일 필터가 남아 있도록 이틀 유지
+    private static final Duration BLOOM_TTL = Duration.ofDays(2);
+
+    // exact 모드 키 하나의 대략적인 메모리 (키 문자열 + 값 + dictEntry/redisObject/만료 테이블 오버헤드)
+    private static final long EXACT_BYTES_PER_ENTRY = 150;
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 이전 비트 중 하나라도 0이었으면 1 (처음 행동)
+    // KEYS: 필터, 필터 원소 수, 포화 후 기기별 키 / ARGV: TTL(초), 필터 용량, 비트 위치...
+    private static final RedisScript<Long> BLOOM_MARK_SCRIPT = new DefaultRedisScript<>("""
+            local count = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if count >= tonumber(ARGV[2]) then
+                for i = 3, #ARGV do
+                    if redis.call('GETBIT', KEYS[1], ARGV[i]) == 0 then
+                        if redis.call('SET', KEYS[3], '1', 'NX', 'EX', ARGV[1]) then
+                            return 1
+                        end
+                        return 0
+                    end
+                end
+                return 0
+            end
+
+            local isNew = 0
+            for i = 3, #ARGV do
+                if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then
+                    isNew = 1
+                end
+            end
+            if isNew == 1 then
+                redis.call('INCR', KEYS[2])
+                redis.call('EXPIRE', KEYS[2], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return isNew
+            """, Long.class);
+
+    public enum Mode {
+        EXACT, BLOOM
+    }
 
     // TODO : behavior 를 쓸 일이 생기면 그때 빼기
     public enum Behavior{
@@ -28,33 +96,84 @@ public class RedisDuplicationPreventionAdapter {
 
             return "REPIK:duplication_prevention:" + this.name() + ":" + dealId + ":" + deviceId;
         }
+
+        public String generateBloomKey(Long dealId, LocalDate day){
+
+            return "REPIK:duplication_bloom:" + this.name() + ":" + dealId + ":" + day.format(DAY_FORMAT);
+        }
+
+        public String generateBloomCountKey(Long dealId, LocalDate day){
+
+            return generateBloomKey(dealId, day) + ":count";
+        }
+
+        public String generateBloomOverflowKey(String deviceId, Long dealId, LocalDate day){
+
+            return generateBloomKey(dealId, day) + ":overflow:" + deviceId;
+        }
     }
 
-    /**
-     * 조회수 중복 방지 확인
-     * @param behavior 행동 Enum
-     * @param dealId 게시물 ID
-     * @param deviceId 디바이스 ID
-     * @return 이미 조회한 경우 true, 처음 조회하는 경우 false
-     */
-    public boolean isDuplicate(Behavior behavior, Long dealId, String deviceId) {
-        if(deviceId == null || deviceId.isEmpty()){ return false; }
-        String key = behavior.generateKey(deviceId, dealId);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    private final StringRedisTemplate redisTemplate;
+    private final Mode mode;
+    private final BloomFilterSpec bloomSpec;
+
+    public RedisDuplicationPreventionAdapter(
+            StringRedisTemplate redisTemplate,
+            @Value("${deal.duplication.mode:exact}") String mode,
+            @Value("${deal.duplication.bloom.expected-per-deal-day:10000}") long expectedPerDealDay,
+            @Value("${deal.duplication.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.bloomSpec = new BloomFilterSpec(expectedPerDealDay, falsePositiveRate);
+
+        if (this.mode == Mode.BLOOM) {
+            // 필터는 원소 수와 무관하게 첫 기록부터 거의 전체 크기를 차지하므로, 절약은 고유 기기가 손익분기를 넘는 딜에서만 생김
+            long breakEven = (bloomSpec.byteSize() + EXACT_BYTES_PER_ENTRY - 1) / EXACT_BYTES_PER_ENTRY;
+            log.info("중복 방지 bloom 모드: 필터당 {}bit ({}KB, 첫 기록부터 할당), 해시 {}개, 오탐률 {} / "
+                            + "딜·일자별 고유 기기 {}명 이상일 때만 exact 보다 작음, {}명 이후는 기기별 키로 판정",
+                    bloomSpec.bitSize(), bloomSpec.byteSize() / 1024, bloomSpec.hashCount(), falsePositiveRate,
+                    breakEven, expectedPerDealDay);
+        }
     }
 
     /**
-     * 기록 저장
+     * 처음 하는 행동이면 기록하고 true, 이미 한 행동이면 false를 반환합니다. (Redis 왕복 1회)
+     *
      * @param behavior 행동 Enum
      * @param dealId 게시물 ID
-     * @param deviceId 디바이스 ID
+     * @param deviceId 디바이스 ID (없으면 중복 판정 없이 항상 true)
+     * @return 처음 하는 행동이면 true
      */
-    public void preventDuplicate(Behavior behavior, Long dealId, String deviceId) {
-        if(deviceId == null || deviceId.isEmpty()){
-            deviceId = "unknown";
+    public boolean markIfFirst(Behavior behavior, Long dealId, String deviceId) {
+        if (deviceId == null || deviceId.isEmpty()) {
+            return true;
         }
+
+        if (mode == Mode.BLOOM) {
+            return markInBloom(behavior, dealId, deviceId);
+        }
+
         String key = behavior.generateKey(deviceId, dealId);
-        redisTemplate.opsForValue().set(key, "DONE", DEFAULT_TTL);
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", DEFAULT_TTL));
+    }
+
+    private boolean markInBloom(Behavior behavior, Long dealId, String deviceId) {
+        LocalDate today = LocalDate.now();
+        List<String> keys = List.of(
+                behavior.generateBloomKey(dealId, today),
+                behavior.generateBloomCountKey(dealId, today),
+                behavior.generateBloomOverflowKey(deviceId, dealId, today));
+
+        long[] offsets = bloomSpec.offsets(deviceId);
+        List<String> args = new ArrayList<>(offsets.length + 2);
+        args.add(Long.toString(BLOOM_TTL.toSeconds()));
+        args.add(Long.toString(bloomSpec.expectedInsertions()));
+        for (long offset : offsets) {
+            args.add(Long.toString(offset));
+        }
+
+        Long result = redisTemplate.execute(BLOOM_MARK_SCRIPT, keys, args.toArray());
+        return result != null && result == 1L;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,182 @@
+package com.cherrypick.backend.domain.deal.adapter.out;
+
+import com.cherrypick.backend.domain.deal.application.dto.response.DealDetailResponseDTO;
+import com.cherrypick.backend.domain.deal.domain.port.DealDetailCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 딜 상세 2단계 캐시 어댑터 (L1 Caffeine + L2 Redis)
+ *
+ * <p><b>조회 순서:</b> L1(인스턴스 메모리) → L2(REPIK:cache:deal_detail:{dealId}) → loader.
+ * L1 미스 처리는 Caffeine이 키 단위로 직렬화하므로 인기 딜에 요청이 몰려도 L2/DB 조회는 인스턴스당 한 번입니다.</p>
+ *
+ * <p><b>무효화:</b> evict 시 로컬 L1 제거, L2 키 삭제 후 REPIK:cache:deal_detail:evict 채널로 dealId를 발행하고,
+ * 모든 인스턴스가 이를 구독해 자신의 L1에서 제거합니다. 메시지가 유실되어도 L1 TTL(기본 10초) 이후에는 갱신됩니다.</p>
+ *
+ * <p><b>늦게 끝난 로더:</b> 변경 전에 시작한 loader 가 evict 이후에 L2에 저장하면 TTL 동안 예전 값이 남습니다.
+ * 이를 막기 위해 딜마다 버전 키(REPIK:cache:deal_detail:version:{dealId})를 두고 evict 에서 올립니다.
+ * L2 미스 시 읽은 버전이 저장 시점에도 같을 때만 저장합니다. (비교와 저장은 Lua 스크립트 한 번)
+ * L1은 같은 키의 계산이 끝난 뒤에 invalidate 가 적용되므로 별도 처리가 필요 없습니다.</p>
+ *
+ * <p>조회수/heat는 매 조회마다 바뀌므로 무효화하지 않고 TTL 동안의 지연을 허용합니다.
+ * (조회수 자체도 DealEngagementBuffer로 몇 초 단위로 반영됨)</p>
+ *
+ * <p>Redis 장애 시 L2는 미스로 처리되어 상세 조회는 계속 동작합니다.</p>
+ *
+ * <p>메트릭: deal.detail.cache{result=l2_hit|l2_miss|stale_skip|error}, L1은 cache.*{cache=deal_detail_l1}</p>
+ */
+@Slf4j
+@Component
+public class TwoLevelDealDetailCacheAdapter implements DealDetailCache, MessageListener {
+
+    private static final String KEY_PREFIX = "REPIK:cache:deal_detail:";
+    private static final String EVICT_CHANNEL = KEY_PREFIX + "evict";
+    private static final String VERSION_KEY_PREFIX = KEY_PREFIX + "version:";
+
+    // 진행 중인 loader 보다 오래 남아야 하므로 상세 캐시 TTL 보다 충분히 길게 유지
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // 미스 시 읽은 버전이 그대로일 때만 저장 (KEYS: 상세, 버전 / ARGV: 읽은 버전, JSON, TTL(ms))
+    private static final RedisScript<Long> SET_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 버전을 올리고 상세 캐시 삭제 (KEYS: 상세, 버전 / ARGV: 버전 TTL(초))
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, DealDetailResponseDTO> local;
+
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+    private final Counter staleSkipCounter;
+    private final Counter errorCounter;
+
+    public TwoLevelDealDetailCacheAdapter(StringRedisTemplate redisTemplate,
+                                          ObjectMapper objectMapper,
+                                          MeterRegistry meterRegistry,
+                                          RedisMessageListenerContainer listenerContainer,
+                                          @Value("${deal.detail.cache.local-ttl-seconds:10}") long localTtlSeconds,
+                                          @Value("${deal.detail.cache.local-max-size:2000}") long localMaxSize,
+                                          @Value("${deal.detail.cache.redis-ttl-seconds:60}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "deal_detail_l1");
+        this.l2HitCounter = meterRegistry.counter("deal.detail.cache", "result", "l2_hit");
+        this.l2MissCounter = meterRegistry.counter("deal.detail.cache", "result", "l2_miss");
+        this.staleSkipCounter = meterRegistry.counter("deal.detail.cache", "result", "stale_skip");
+        this.errorCounter = meterRegistry.counter("deal.detail.cache", "result", "error");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    @Override
+    public DealDetailResponseDTO get(Long dealId, Function<Long, DealDetailResponseDTO> loader) {
+        return local.get(dealId, id -> loadShared(id, loader));
+    }
+
+    @Override
+    public void evict(Long dealId) {
+        local.invalidate(dealId);
+
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + dealId, VERSION_KEY_PREFIX + dealId),
+                    Long.toString(VERSION_TTL.toSeconds()));
+            redisTemplate.convertAndSend(EVICT_CHANNEL, dealId.toString());
+        } catch (RuntimeException e) {
+            // 무효화 실패 시에도 TTL 이후에는 최신 값으로 갱신됨
+            errorCounter.increment();
+            log.warn("딜 상세 캐시 무효화 실패: dealId={}", dealId, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스(또는 자신)가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            local.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 딜 상세 캐시 무효화 메시지: {}", message);
+        }
+    }
+
+    private DealDetailResponseDTO loadShared(Long dealId, Function<Long, DealDetailResponseDTO> loader) {
+        String key = KEY_PREFIX + dealId;
+        String versionKey = VERSION_KEY_PREFIX + dealId;
+
+        // 상세와 버전을 한 번에 읽음 (조회 실패 시 버전을 모르므로 L2에 저장하지 않음)
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKey));
+            String json = values != null ? values.get(0) : null;
+            if (json != null) {
+                l2HitCounter.increment();
+                return objectMapper.readValue(json, DealDetailResponseDTO.class);
+            }
+            l2MissCounter.increment();
+            version = values != null && values.get(1) != null ? values.get(1) : "0";
+        } catch (RuntimeException | JsonProcessingException e) {
+            errorCounter.increment();
+            log.warn("딜 상세 캐시 조회 실패: key={}", key, e);
+        }
+
+        DealDetailResponseDTO loaded = loader.apply(dealId);
+        if (version == null) {
+            return loaded;
+        }
+
+        try {
+            Long stored = redisTemplate.execute(SET_IF_VERSION_SCRIPT, List.of(key, versionKey),
+                    version, objectMapper.writeValueAsString(loaded), Long.toString(redisTtl.toMillis()));
+            if (stored == null || stored == 0L) {
+                // 조회 중에 변경(evict)되어 버전이 바뀜: 예전 값일 수 있으므로 공유하지 않음
+                staleSkipCounter.increment();
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            errorCounter.increment();
+            log.warn("딜 상세 캐시 저장 실패: key={}", key, e);
+        }
+        return loaded;
+    }
+}
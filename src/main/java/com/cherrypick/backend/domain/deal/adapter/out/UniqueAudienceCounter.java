@@ -0,0 +1,246 @@
+package com.cherrypick.backend.domain.deal.adapter.out;
+
+import com.cherrypick.backend.domain.deal.adapter.out.RedisDuplicationPreventionAdapter.Behavior;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 딜/카테고리별 일자 단위 고유 방문자(기기) 수 집계 (Redis HyperLogLog)
+ *
+ * <p>24시간 중복 방지 키를 세는 대신, 행동(조회/구매/공유)마다 일자별 HLL 키에 기기 ID를 PFADD 합니다.
+ * 키 하나는 방문자가 아무리 많아도 최대 약 12KB이며, 오차는 표준오차 0.81% 수준입니다.</p>
+ *
+ * <p><b>키:</b></p>
+ * <ul>
+ *     <li>딜: {@code REPIK:audience:{행동}:deal:{dealId}:{yyyyMMdd}}</li>
+ *     <li>카테고리: {@code REPIK:audience:{행동}:category:{categoryId}:{yyyyMMdd}}</li>
+ *     <li>일자 키는 deal.audience.retention-days(기본 35일) 후 만료됩니다.</li>
+ * </ul>
+ *
+ * <p><b>기간 조회:</b></p>
+ * <ul>
+ *     <li>딜 기간(일/주) 조회는 여러 일자 키를 PFCOUNT 한 번으로 합집합 계산합니다. (같은 기기가 여러 날 방문해도 1명)</li>
+ *     <li>카테고리 롤업은 하위 카테고리 × 일자 키를 PFMERGE 로 합친 키를 잠시 보관해 반복 조회 비용을 줄입니다.</li>
+ * </ul>
+ *
+ * <p>통계 용도이므로 Redis 오류는 로그만 남기고 요청을 실패시키지 않습니다. (조회 시 0 반환)</p>
+ */
+@Slf4j
+@Component
+public class UniqueAudienceCounter {
+
+    private static final String KEY_PREFIX = "REPIK:audience:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 카테고리 롤업 결과 보관 시간
+    private static final Duration ROLLUP_TTL = Duration.ofMinutes(5);
+
+    /**
+     * 행동별 고유 기기 수
+     */
+    public record AudienceCounts(long viewers, long buyers, long sharers) {
+
+        public static final AudienceCounts EMPTY = new AudienceCounts(0, 0, 0);
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final long retentionSeconds;
+
+    public UniqueAudienceCounter(StringRedisTemplate redisTemplate,
+                                 @Value("${deal.audience.retention-days:35}") int retentionDays) {
+        this.redisTemplate = redisTemplate;
+        this.retentionSeconds = Duration.ofDays(retentionDays).toSeconds();
+    }
+
+    /**
+     * 오늘 일자의 딜/카테고리 HLL에 기기를 추가합니다. (PFADD 2회 + EXPIRE 2회를 한 번의 왕복으로 전송)
+     *
+     * <p>중복 방지 판정과 관계없이 호출해야 합니다. 24시간 중복 방지 창이 날짜 경계를 넘으면
+     * 다음 날 첫 방문이 중복으로 판정될 수 있기 때문입니다. (PFADD는 멱등)</p>
+     *
+     * @param behavior 행동
+     * @param dealId 딜 ID
+     * @param categoryId 딜의 카테고리 ID (null이면 카테고리 집계 생략)
+     * @param deviceId 기기 ID (없으면 무시)
+     */
+    public void record(Behavior behavior, Long dealId, Long categoryId, String deviceId) {
+        if (deviceId == null || deviceId.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        byte[] device = bytes(deviceId);
+        List<byte[]> keys = new ArrayList<>(2);
+        keys.add(bytes(dealKey(behavior, dealId, today)));
+        if (categoryId != null) {
+            keys.add(bytes(categoryKey(behavior, categoryId, today)));
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[] key : keys) {
+                    connection.hyperLogLogCommands().pfAdd(key, device);
+                    connection.keyCommands().expire(key, retentionSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("고유 방문자 집계 실패: behavior={}, dealId={}", behavior, dealId, e);
+        }
+    }
+
+    /**
+     * 딜의 기간 내 행동별 고유 기기 수 (PFCOUNT 3회를 한 번의 왕복으로 전송)
+     *
+     * @param dealId 딜 ID
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     */
+    public AudienceCounts countDeal(Long dealId, LocalDate from, LocalDate to) {
+        return countDeals(List.of(dealId), from, to).getOrDefault(dealId, AudienceCounts.EMPTY);
+    }
+
+    /**
+     * 여러 딜의 기간 내 행동별 고유 기기 수 (딜 수 × PFCOUNT 3회를 한 번의 왕복으로 전송)
+     *
+     * @param dealIds 딜 ID 목록
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return dealId → 고유 기기 수 (Redis 오류 시 빈 Map)
+     */
+    public Map<Long, AudienceCounts> countDeals(List<Long> dealIds, LocalDate from, LocalDate to) {
+        if (dealIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<LocalDate> days = days(from, to);
+        List<Behavior> behaviors = List.of(Behavior.VIEW, Behavior.PURCHASE, Behavior.SHARE);
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long dealId : dealIds) {
+                    for (Behavior behavior : behaviors) {
+                        byte[][] keys = days.stream()
+                                .map(day -> bytes(dealKey(behavior, dealId, day)))
+                                .toArray(byte[][]::new);
+                        connection.hyperLogLogCommands().pfCount(keys);
+                    }
+                }
+                return null;
+            });
+
+            Map<Long, AudienceCounts> counts = new HashMap<>(dealIds.size() * 2);
+            for (int i = 0; i < dealIds.size(); i++) {
+                int base = i * behaviors.size();
+                counts.put(dealIds.get(i), new AudienceCounts(
+                        toLong(results.get(base)), toLong(results.get(base + 1)), toLong(results.get(base + 2))));
+            }
+            return counts;
+        } catch (RuntimeException e) {
+            log.warn("고유 방문자 조회 실패: dealIds={}", dealIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 딜의 기간 내 특정 행동 고유 기기 수 (일자 키 합집합 PFCOUNT)
+     *
+     * @param behavior 행동
+     * @param dealId 딜 ID
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     */
+    public long countDeal(Behavior behavior, Long dealId, LocalDate from, LocalDate to) {
+        String[] keys = days(from, to).stream()
+                .map(day -> dealKey(behavior, dealId, day))
+                .toArray(String[]::new);
+
+        try {
+            Long count = redisTemplate.opsForHyperLogLog().size(keys);
+            return count == null ? 0L : count;
+        } catch (RuntimeException e) {
+            log.warn("고유 방문자 조회 실패: behavior={}, dealId={}", behavior, dealId, e);
+            return 0L;
+        }
+    }
+
+    /**
+     * 여러 카테고리(예: 상위 카테고리 + 하위 카테고리)의 기간 내 고유 기기 수
+     *
+     * <p>카테고리 × 일자 키를 PFMERGE 로 롤업 키에 합친 뒤 PFCOUNT 합니다.
+     * 롤업 키는 5분간 유지되어 같은 조건의 반복 조회는 PFCOUNT 한 번으로 끝납니다.</p>
+     *
+     * @param behavior 행동
+     * @param categoryIds 집계할 카테고리 ID (CategoryService.getCategoryWithChildren 결과 등)
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     */
+    public long countCategories(Behavior behavior, Collection<Long> categoryIds, LocalDate from, LocalDate to) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return 0L;
+        }
+
+        TreeSet<Long> sortedIds = new TreeSet<>(categoryIds);
+        String rollupKey = KEY_PREFIX + behavior.name() + ":rollup:category:"
+                + sortedIds.stream().map(String::valueOf).collect(Collectors.joining(",")) + ":"
+                + from.format(DAY_FORMAT) + "-" + to.format(DAY_FORMAT);
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(rollupKey))) {
+                List<String> sources = new ArrayList<>();
+                for (Long categoryId : sortedIds) {
+                    for (LocalDate day : days(from, to)) {
+                        sources.add(categoryKey(behavior, categoryId, day));
+                    }
+                }
+
+                redisTemplate.opsForHyperLogLog().union(rollupKey, sources.toArray(String[]::new));
+                redisTemplate.expire(rollupKey, ROLLUP_TTL);
+            }
+
+            Long count = redisTemplate.opsForHyperLogLog().size(rollupKey);
+            return count == null ? 0L : count;
+        } catch (RuntimeException e) {
+            log.warn("카테고리 고유 방문자 조회 실패: behavior={}, categoryIds={}", behavior, sortedIds, e);
+            return 0L;
+        }
+    }
+
+    private static String dealKey(Behavior behavior, Long dealId, LocalDate day) {
+        return KEY_PREFIX + behavior.name() + ":deal:" + dealId + ":" + day.format(DAY_FORMAT);
+    }
+
+    private static String categoryKey(Behavior behavior, Long categoryId, LocalDate day) {
+        return KEY_PREFIX + behavior.name() + ":category:" + categoryId + ":" + day.format(DAY_FORMAT);
+    }
+
+    private static List<LocalDate> days(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from: " + from + " > " + to);
+        }
+        return from.datesUntil(to.plusDays(1)).toList();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toLong(Object result) {
+        return result instanceof Number number ? number.longValue() : 0L;
+    }
+}
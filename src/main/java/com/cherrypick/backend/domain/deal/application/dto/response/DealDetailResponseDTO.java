@@ -33,10 +33,22 @@ public record DealDetailResponseDTO (
         Long categoryId,
         Long storeId,
         List<Long> discountIds,
-        String discountName
+        String discountName,
+        AudienceVO audience
 
 ) {
 
+    /**
+     * 조회자별 투표 타입을 덧씌운 응답 (나머지 필드는 공유 캐시 값 그대로)
+     */
+    public DealDetailResponseDTO withVoteType(VoteType voteType) {
+        return new DealDetailResponseDTO(
+                dealId, imageUrls, user, store, categorys, title, infoTags, shippingType, price, content,
+                discountDescription, heat, totalViews, totalLikes, totalUnLikes, totalComments, originalUrl,
+                deepLink, isSoldOut, voteType, categoryId, storeId, discountIds, discountName, audience
+        );
+    }
+
     public record StoreVO(
             Long storeId,
             String storeName,
@@ -44,4 +56,14 @@ public record DealDetailResponseDTO (
             String backgroundColor
     ) {}
 
+    /**
+     * 최근 기간 고유 기기 수 (HyperLogLog 근사치, 오차 약 1%)
+     */
+    public record AudienceVO(
+            int windowDays,
+            long uniqueViewers,
+            long uniqueBuyers,
+            long uniqueSharers
+    ) {}
+
 }
@@ -4,6 +4,16 @@ import java.util.List;
 
 public record DealSearchPageResponseDTO(
         List<DealSearchResponseDTO> deals,
-        boolean hasNext // 다음 페이지 여부
-) {}
+        boolean hasNext, // 다음 페이지 여부
+        String nextCursor // 다음 페이지 커서 (마지막 페이지면 null)
+) {
+
+    public DealSearchPageResponseDTO(List<DealSearchResponseDTO> deals, boolean hasNext) {
+        this(deals, hasNext, null);
+    }
+
+    public DealSearchPageResponseDTO withNextCursor(String nextCursor) {
+        return new DealSearchPageResponseDTO(deals, hasNext, nextCursor);
+    }
+}
 
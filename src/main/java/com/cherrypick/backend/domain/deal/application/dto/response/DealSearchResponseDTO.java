@@ -2,6 +2,7 @@ package com.cherrypick.backend.domain.deal.application.dto.response;
 
 import com.cherrypick.backend.domain.deal.domain.entity.vo.PriceVO;
 import com.cherrypick.backend.domain.image.vo.ImageUrl;
+import com.cherrypick.backend.domain.vote.enums.VoteType;
 import lombok.*;
 
 import java.util.List;
@@ -27,4 +28,8 @@ public class DealSearchResponseDTO {
     private int totalComments;
     private boolean isSoldout;
 
+    // 로그인 사용자의 투표 상태 (비로그인 또는 투표하지 않은 경우 NONE)
+    @With
+    private VoteType voteType;
+
 }
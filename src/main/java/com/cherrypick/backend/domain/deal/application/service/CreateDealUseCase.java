@@ -1,12 +1,14 @@
 package com.cherrypick.backend.domain.deal.application.service;
 import com.cherrypick.backend.domain.deal.application.dto.request.DealCreateRequestDTO;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealResponseDTOs;
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
 import com.cherrypick.backend.domain.deal.domain.service.DealCreateService;
 import com.cherrypick.backend.domain.image.enums.ImageType;
 import com.cherrypick.backend.domain.image.service.ImageService;
 import com.cherrypick.backend.global.exception.BaseException;
 import com.cherrypick.backend.global.util.AuthUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -23,6 +25,7 @@ public class CreateDealUseCase {
 
     private final DealCreateService dealCreateService;
     private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 딜을 생성합니다.
@@ -58,6 +61,9 @@ public class CreateDealUseCase {
         // 이미지 연결
         imageService.attachImage(dealId, dto.imageIds(), ImageType.DEAL);
 
+        // 딜 생성 이벤트는 이미지 연결 전에 발행되므로, 대표 이미지가 필요한 구독자(딜 카드)를 위해 한 번 더 알림
+        eventPublisher.publishEvent(DealChangedEvent.imagesChanged(dealId));
+
         return new DealResponseDTOs.Create(dealId, "핫딜 게시글 생성 성공");
     }
 
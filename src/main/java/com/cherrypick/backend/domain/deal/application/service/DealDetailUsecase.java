@@ -1,131 +1,66 @@
 package com.cherrypick.backend.domain.deal.application.service;
 
-import com.cherrypick.backend.domain.comment.repository.CommentRepository;
 import com.cherrypick.backend.domain.deal.adapter.out.RedisDuplicationPreventionAdapter;
+import com.cherrypick.backend.domain.deal.adapter.out.UniqueAudienceCounter;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealDetailResponseDTO;
-import com.cherrypick.backend.domain.deal.domain.entity.Deal;
-import com.cherrypick.backend.domain.deal.domain.entity.Discount;
-import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
-import com.cherrypick.backend.domain.deal.domain.service.DealValidationService;
-import com.cherrypick.backend.domain.deal.domain.service.reference.CategoryService;
-import com.cherrypick.backend.domain.deal.domain.service.reference.StoreService;
-import com.cherrypick.backend.domain.deal.util.InfoTagGenerator;
-import com.cherrypick.backend.domain.image.service.ImageService;
-import com.cherrypick.backend.domain.image.vo.ImageUrl;
-import com.cherrypick.backend.domain.user.service.UserService;
-import com.cherrypick.backend.domain.user.vo.AuthorDTO;
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
+import com.cherrypick.backend.domain.deal.domain.port.DealDetailCache;
+import com.cherrypick.backend.domain.deal.domain.service.DealDetailAssembler;
+import com.cherrypick.backend.domain.deal.domain.service.DealEngagementBuffer;
+import com.cherrypick.backend.domain.deal.domain.service.ranking.TrendingEngine;
 import com.cherrypick.backend.domain.vote.enums.VoteType;
 import com.cherrypick.backend.domain.vote.service.VoteService;
 import com.cherrypick.backend.global.util.AuthUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import static com.cherrypick.backend.domain.deal.adapter.out.RedisDuplicationPreventionAdapter.Behavior;
 
+/**
+ * 딜 상세 조회
+ *
+ * <p>조회자와 무관한 부분은 DealDetailCache(L1 메모리 + L2 Redis)에서 읽고,
+ * 조회자별 투표 타입만 따로 조회해 덧씌웁니다. 캐시 적중 시 DB 조회는 로그인 사용자의 투표 타입 1건뿐입니다.</p>
+ *
+ * <p>메서드 단위 트랜잭션을 두지 않아 캐시 적중 시에는 DB 커넥션을 잡지 않습니다.
+ * (미스 시 DealDetailAssembler가 읽기 전용 트랜잭션으로 조립)</p>
+ */
 @Service
 @RequiredArgsConstructor
 public class DealDetailUsecase {
 
     // 의존성
-    private final DealValidationService dealValidationService;
+    private final DealDetailAssembler dealDetailAssembler;
+    private final DealDetailCache dealDetailCache;
     private final VoteService voteService;
-    private final CategoryService categoryService;
-    private final UserService userService;
-    private final StoreService storeService;
-    private final ImageService imageService;
-    private final CommentRepository commentRepository;
     private final RedisDuplicationPreventionAdapter duplicationAdapter;
-    private final DealRepository dealRepository;
+    private final DealEngagementBuffer engagementBuffer;
+    private final UniqueAudienceCounter audienceCounter;
+    private final TrendingEngine trendingEngine;
 
-    @Transactional
     public DealDetailResponseDTO getDealDetail(Long dealId, String deviceId) {
 
-        // 1. Deal 유효성 검증 및 조회 ✅
-        Deal deal = dealValidationService.getValidatedDeal(dealId);
+        // 1. 조회자와 무관한 상세 응답 (캐시 미스 시 조립, 딜이 없으면 DEAL_NOT_FOUND)
+        DealDetailResponseDTO shared = dealDetailCache.get(dealId, dealDetailAssembler::assemble);
 
-        // 2. 조회수/온도 증가 (중복 방지)
+        // 2. 조회수/온도 증가 (중복 방지) 및 고유 방문자 집계
         incrementViewIfNeeded(dealId, deviceId);
+        audienceCounter.record(Behavior.VIEW, dealId, shared.categoryId(), deviceId);
 
-        // 3. 로그인 사용자 ID 추출
+        // 3. 로그인 사용자의 투표 타입을 덧씌워 반환
         Long userId = AuthUtil.isAuthenticated() ? AuthUtil.getUserDetail().userId() : null;
+        VoteType voteType = voteService.getUserVote(dealId, userId);
 
-        // 4. Vote 불러오기 ✅
-        VoteType voteType = voteService.getUserVote(deal, userId);
-
-        // 5. 카테고리 계층 불러오기 ✅
-        Long finalCategoryId = deal.getCategory().getCategoryId();
-        List<String> categoryNames = categoryService.getCategoryHierarchy(finalCategoryId);
-
-        // 6. 게시자 정보 불러오기
-        AuthorDTO authorDTO = AuthorDTO.from(deal.getUser(), null);
-
-        // 7. 스토어 정보 불러오기
-        DealDetailResponseDTO.StoreVO storeVO = storeService.getStoreInfo(deal);
-
-        // 8. 이미지 불러오기
-        List<ImageUrl> imageUrls = imageService.getImages(dealId);
-
-        // 9. 할인정보 불러오기
-        List<Long> discountIds = getDiscountIds(deal);
-
-        // 10. 메트릭스 불러오기 (좋아요/싫어요/댓글 수)
-        long likeCount = deal.getVotes().stream()
-                .filter(v -> v.getVoteType() == VoteType.TRUE)
-                .count();
-        long dislikeCount = deal.getVotes().stream()
-                .filter(v -> v.getVoteType() == VoteType.FALSE)
-                .count();
-        long commentCount = commentRepository.countByDealId_DealIdAndIsDeleteFalse(deal.getDealId());
-
-        // 11. 인포 태그 생성
-        List<String> infoTags = InfoTagGenerator.getInfoTags(deal);
-
-        // 12. DTO 조합 반환
-        return new DealDetailResponseDTO(
-                deal.getDealId(),
-                imageUrls,
-                authorDTO,
-                storeVO,
-                categoryNames,
-                deal.getTitle(),
-                infoTags,
-                deal.getShippingType(),
-                deal.getPrice(),
-                deal.getContent(),
-                deal.getDiscountDescription(),
-                deal.getHeat(),
-                deal.getTotalViews(),
-                (int) likeCount,
-                (int) dislikeCount,
-                (int) commentCount,
-                deal.getOriginalUrl(),
-                deal.getDeepLink(),
-                deal.isSoldOut(),
-                voteType,
-                finalCategoryId,
-                deal.getStore() != null ? deal.getStore().getStoreId() : null,
-                discountIds,
-                deal.getDiscountName()
-        );
+        return shared.withVoteType(voteType);
     }
 
     /**
-     * Deal에 연결된 할인 정보 ID 목록 조회
-     *
-     * @param deal 딜 엔티티
-     * @return 할인 ID 목록 (할인이 없는 경우 빈 리스트)
+     * 딜/투표/댓글/이미지 변경 시 상세 캐시 무효화 (커밋 이후, 트랜잭션이 없으면 즉시 실행)
      */
-    private List<Long> getDiscountIds(Deal deal) {
-        if (deal.getDiscounts() == null || deal.getDiscounts().isEmpty()) {
-            return List.of();
-        }
-
-        return deal.getDiscounts().stream()
-                .map(Discount::getDiscountId)
-                .toList();
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDealChanged(DealChangedEvent event) {
+        dealDetailCache.evict(event.dealId());
     }
 
     /**
@@ -136,13 +71,13 @@ public class DealDetailUsecase {
      * @param deviceId 디바이스 ID
      */
     private void incrementViewIfNeeded(Long dealId, String deviceId) {
-        if (duplicationAdapter.isDuplicate(Behavior.VIEW, dealId, deviceId)) {
+        if (!duplicationAdapter.markIfFirst(Behavior.VIEW, dealId, deviceId)) {
             return; // 이미 조회한 경우 증가하지 않음
         }
 
-        dealRepository.incrementViewCount(dealId);
-        dealRepository.updateHeat(dealId, +0.1);
-        duplicationAdapter.preventDuplicate(Behavior.VIEW, dealId, deviceId);
+        // 조회수 +1, heat +0.1 (버퍼에 모아 주기적으로 일괄 반영)
+        engagementBuffer.recordView(dealId);
+        trendingEngine.record(dealId, TrendingEngine.Signal.VIEW);
     }
 
 }
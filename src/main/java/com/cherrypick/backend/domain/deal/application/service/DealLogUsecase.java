@@ -1,9 +1,11 @@
 package com.cherrypick.backend.domain.deal.application.service;
 
 import com.cherrypick.backend.domain.deal.adapter.out.RedisDuplicationPreventionAdapter;
-import com.cherrypick.backend.domain.deal.domain.entity.Deal;
+import com.cherrypick.backend.domain.deal.adapter.out.UniqueAudienceCounter;
 import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
+import com.cherrypick.backend.domain.deal.domain.service.DealEngagementBuffer;
 import com.cherrypick.backend.domain.deal.domain.service.DealLogService;
+import com.cherrypick.backend.domain.deal.domain.service.ranking.TrendingEngine;
 import com.cherrypick.backend.global.exception.BaseException;
 import com.cherrypick.backend.global.exception.enums.DealErrorCode;
 import com.cherrypick.backend.global.util.AuthUtil;
@@ -11,77 +13,90 @@ import com.cherrypick.backend.global.log.domain.LogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 딜 구매/공유 버튼 클릭 기록
+ *
+ * <p>같은 기기의 반복 클릭은 Redis 중복 판정(markIfFirst)만 하고 끝냅니다. 딜 조회는 처음 클릭에서만 하며,
+ * 트랜잭션을 열지 않으므로 중복 클릭은 DB 커넥션을 잡지 않습니다.</p>
+ *
+ * <p>중복 클릭의 고유 방문자는 딜 단위로만 기록합니다. (카테고리 집계는 처음 클릭에서 기록되므로,
+ * 중복 판정 기간이 자정을 넘긴 경우 다음 날 카테고리 집계에서 그 기기가 빠질 수 있음)</p>
+ */
 @Slf4j
 @Service @RequiredArgsConstructor
 public class DealLogUsecase
 {
     private final DealRepository dealRepository;
+    private final DealEngagementBuffer engagementBuffer;
     private final DealLogService logService;
     private final RedisDuplicationPreventionAdapter duplicationPreventionAdapter;
+    private final UniqueAudienceCounter audienceCounter;
+    private final TrendingEngine trendingEngine;
 
-    @Transactional
     public String putPurchaseClickLog(Long dealId, String deviceId)
     {
         // 딜 구매버튼 클릭 시
-        if(duplicationPreventionAdapter.isDuplicate(RedisDuplicationPreventionAdapter.Behavior.PURCHASE, dealId, deviceId))
+        // 중복 클릭은 DB 를 읽지 않고 끝냄 (고유 방문자 집계는 중복 여부와 관계없이 딜 단위로 기록, HLL 은 같은 기기를 한 번만 셈)
+        if(!duplicationPreventionAdapter.markIfFirst(RedisDuplicationPreventionAdapter.Behavior.PURCHASE, dealId, deviceId))
         {
+            audienceCounter.record(RedisDuplicationPreventionAdapter.Behavior.PURCHASE, dealId, null, deviceId);
             return "DUPLICATE";
         }
-        duplicationPreventionAdapter.preventDuplicate(RedisDuplicationPreventionAdapter.Behavior.PURCHASE, dealId, deviceId);
 
-        var deal = dealRepository.findById(dealId).orElseThrow(() -> new BaseException(DealErrorCode.DEAL_NOT_FOUND));
-        var category = deal.getCategory();
+        var deal = dealRepository.findClickLogSourceById(dealId).orElseThrow(() -> new BaseException(DealErrorCode.DEAL_NOT_FOUND));
+        audienceCounter.record(RedisDuplicationPreventionAdapter.Behavior.PURCHASE, dealId, deal.getCategoryId(), deviceId);
+        trendingEngine.record(dealId, TrendingEngine.Signal.PURCHASE);
         Long user = null;
         try{
             user = AuthUtil.getUserDetail().userId();
         } catch (RuntimeException e) {
-            System.out.println("등록되지 않은 유저");
+            log.debug("등록되지 않은 유저: dealId={}", dealId);
         }
 
         // 구매 버튼을 눌렀으니 가중치를 2 추가
-        dealRepository.updateHeat(dealId, 2.0);
+        engagementBuffer.addHeat(dealId, 2.0);
         logService.clickPurchaseLog(
                 user,
                 deviceId,
                 deal.getDealId(),
                 deal.getTitle(),
-                category.getCategoryId(),
-                category.getName()
+                deal.getCategoryId(),
+                deal.getCategoryName()
         );
 
         return "success";
     }
 
-    @Transactional
     public String putShareClickLog(Long dealId, String deviceId)
     {
         // 딜 구매버튼 클릭 시
-        if(duplicationPreventionAdapter.isDuplicate(RedisDuplicationPreventionAdapter.Behavior.SHARE, dealId, deviceId))
+        // 중복 클릭은 DB 를 읽지 않고 끝냄 (고유 방문자 집계는 중복 여부와 관계없이 딜 단위로 기록, HLL 은 같은 기기를 한 번만 셈)
+        if(!duplicationPreventionAdapter.markIfFirst(RedisDuplicationPreventionAdapter.Behavior.SHARE, dealId, deviceId))
         {
+            audienceCounter.record(RedisDuplicationPreventionAdapter.Behavior.SHARE, dealId, null, deviceId);
             return "DUPLICATE";
         }
-        duplicationPreventionAdapter.preventDuplicate(RedisDuplicationPreventionAdapter.Behavior.SHARE, dealId, deviceId);
 
-        var deal = dealRepository.findById(dealId).orElseThrow(() -> new BaseException(DealErrorCode.DEAL_NOT_FOUND));
-        var category = deal.getCategory();
+        var deal = dealRepository.findClickLogSourceById(dealId).orElseThrow(() -> new BaseException(DealErrorCode.DEAL_NOT_FOUND));
+        audienceCounter.record(RedisDuplicationPreventionAdapter.Behavior.SHARE, dealId, deal.getCategoryId(), deviceId);
+        trendingEngine.record(dealId, TrendingEngine.Signal.SHARE);
         Long user = null;
         try{
             user = AuthUtil.getUserDetail().userId();
         } catch (RuntimeException e) {
-            System.out.println("등록되지 않은 유저");
+            log.debug("등록되지 않은 유저: dealId={}", dealId);
         }
 
         // 구매 버튼을 눌렀으니 가중치를 2 추가
-        dealRepository.updateHeat(dealId, 2.0);
+        engagementBuffer.addHeat(dealId, 2.0);
         logService.clickShareLog(
                 user,
                 deviceId,
                 deal.getDealId(),
                 deal.getTitle(),
-                category.getCategoryId(),
-                category.getName()
+                deal.getCategoryId(),
+                deal.getCategoryName()
         );
 
         return "success";
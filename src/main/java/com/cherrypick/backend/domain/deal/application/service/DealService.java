@@ -1,19 +1,19 @@
 package com.cherrypick.backend.domain.deal.application.service;
 
-import com.cherrypick.backend.domain.deal.domain.repository.reference.CategoryRepository;
 import com.cherrypick.backend.domain.deal.domain.entity.Category;
+import com.cherrypick.backend.domain.deal.domain.service.DealValidationService;
 import com.cherrypick.backend.domain.deal.domain.service.reference.CategoryService;
 import com.cherrypick.backend.domain.comment.repository.CommentRepository;
 import com.cherrypick.backend.domain.deal.application.dto.request.DealUpdateRequestDTO;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealDetailResponseDTO;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealResponseDTOs;
 import com.cherrypick.backend.domain.deal.domain.entity.Deal;
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
 import com.cherrypick.backend.domain.deal.domain.enums.SortType;
 import com.cherrypick.backend.domain.deal.domain.enums.TimeRangeType;
 import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
 import com.cherrypick.backend.domain.deal.util.InfoTagGenerator;
 import com.cherrypick.backend.domain.deal.domain.entity.Discount;
-import com.cherrypick.backend.domain.deal.domain.repository.reference.DiscountRepository;
 import com.cherrypick.backend.domain.image.entity.Image;
 import com.cherrypick.backend.domain.image.enums.ImageType;
 import com.cherrypick.backend.domain.image.repository.ImageRepository;
@@ -21,7 +21,6 @@ import com.cherrypick.backend.domain.image.service.ImageService;
 import com.cherrypick.backend.domain.image.vo.ImageUrl;
 import com.cherrypick.backend.domain.linkprice.service.LinkPriceService;
 import com.cherrypick.backend.domain.deal.domain.entity.Store;
-import com.cherrypick.backend.domain.deal.domain.repository.reference.StoreRepository;
 import com.cherrypick.backend.domain.auth.domain.vo.AuthenticatedUser;
 import com.cherrypick.backend.domain.deal.adapter.out.RedisDuplicationPreventionAdapter;
 import static com.cherrypick.backend.domain.deal.adapter.out.RedisDuplicationPreventionAdapter.Behavior;
@@ -39,6 +38,7 @@ import com.cherrypick.backend.global.exception.enums.ImageErrorCode;
 import com.cherrypick.backend.global.exception.enums.LinkPriceErrorCode;
 import com.cherrypick.backend.global.util.AuthUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,9 +53,7 @@ import java.util.*;
 public class DealService {
 
     private final DealRepository dealRepository;
-    private final CategoryRepository categoryRepository;
-    private final StoreRepository storeRepository;
-    private final DiscountRepository discountRepository;
+    private final DealValidationService validationService;
     private final UserRepository userRepository;
     private final VoteRepository voteRepository;
     private final CommentRepository commentRepository;
@@ -64,6 +62,7 @@ public class DealService {
     private final LinkPriceService linkPriceService;
     private final CategoryService categoryService;
     private final RedisDuplicationPreventionAdapter duplicationPreventionAdapter;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     // 게시글 수정
@@ -88,8 +87,7 @@ public class DealService {
         }
 
         if (dto.categoryId() != null) {
-            Category category = categoryRepository.findById(dto.categoryId())
-                    .orElseThrow(() -> new BaseException(DealErrorCode.CATEGORY_NOT_FOUND));
+            Category category = validationService.getValidatedCategory(dto.categoryId());
             deal.setCategory(category);
         }
 
@@ -115,8 +113,7 @@ public class DealService {
 
         Store store;
         if (dto.storeId() != null) {
-            store = storeRepository.findById(dto.storeId())
-                    .orElseThrow(() -> new BaseException(DealErrorCode.STORE_NOT_FOUND));
+            store = validationService.getValidatedStore(dto.storeId());
             deal.setStore(store);
             deal.setStoreName(null); // storeId 있으면 storeName은 무시
         } else if (dto.storeName() != null) {
@@ -137,11 +134,8 @@ public class DealService {
         }
 
         if (dto.discountIds() != null) {
-            List<Discount> foundDiscounts = discountRepository.findAllById(dto.discountIds());
-            if (foundDiscounts.size() != dto.discountIds().size()) {
-                throw new BaseException(DealErrorCode.DISCOUNT_NOT_FOUND);
-            }
-            deal.setDiscounts(foundDiscounts);
+            List<Discount> foundDiscounts = validationService.getValidatedDiscounts(dto.discountIds());
+            deal.setDiscounts(new ArrayList<>(foundDiscounts));
         }
 
         if (dto.discountNames() != null) {
@@ -186,6 +180,8 @@ public class DealService {
             }
         }
 
+        eventPublisher.publishEvent(DealChangedEvent.updated(deal.getDealId()));
+
         return new DealResponseDTOs.Update(deal.getDealId(), "핫딜 게시글 수정 성공");
     }
 
@@ -218,6 +214,8 @@ public class DealService {
             image.setTemp(true);
         }
 
+        eventPublisher.publishEvent(DealChangedEvent.deleted(dealId));
+
         return new DealResponseDTOs.Delete("핫딜 게시글 삭제 성공");
     }
 
@@ -227,7 +225,7 @@ public class DealService {
 
         switch (sortType) {
             case POPULARITY:
-                comparator = Comparator.comparingDouble(Deal::getHeat).reversed()
+                comparator = Comparator.comparingDouble(Deal::getHotScore).reversed()
                         .thenComparing(Deal::getCreatedAt, Comparator.reverseOrder());
                 break;
 
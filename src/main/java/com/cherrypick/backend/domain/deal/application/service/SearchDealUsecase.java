@@ -2,11 +2,16 @@ package com.cherrypick.backend.domain.deal.application.service;
 
 import com.cherrypick.backend.domain.deal.application.dto.request.DealSearchRequestDTO;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchPageResponseDTO;
-import com.cherrypick.backend.domain.deal.domain.entity.Deal;
+import com.cherrypick.backend.domain.deal.domain.entity.vo.DealCursor;
+import com.cherrypick.backend.domain.deal.domain.enums.SortType;
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
+import com.cherrypick.backend.domain.deal.domain.port.DealSearchCache;
 import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
+import com.cherrypick.backend.domain.deal.domain.repository.DealSearchRow;
 import com.cherrypick.backend.domain.deal.domain.service.DealSearchResponseFactory;
 import com.cherrypick.backend.domain.deal.domain.service.DealValidationService;
 import com.cherrypick.backend.domain.deal.domain.service.search.DealFilterFactory;
+import com.cherrypick.backend.domain.deal.domain.service.search.DealSearchCacheKey;
 import com.cherrypick.backend.domain.deal.domain.service.search.DealSortFactory;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -15,10 +20,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -29,9 +36,17 @@ public class SearchDealUsecase {
     private final DealSortFactory sortFactory;
     private final DealSearchResponseFactory responseFactory;
     private final DealRepository dealRepository;
+    private final DealSearchCache searchCache;
 
     public DealSearchPageResponseDTO searchDeals(DealSearchRequestDTO dto, int page, int size) {
 
+        // 0단계: 검색 결과 캐시 조회 (같은 조건의 홈 피드 요청이 반복되므로 짧은 TTL로 재사용)
+        String cacheKey = searchCache.versionedKey(DealSearchCacheKey.of(dto, page, size));
+        Optional<DealSearchPageResponseDTO> cached = searchCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return responseFactory.attachVoteTypes(cached.get());
+        }
+
         // 1단계: 유효성 검증
         validateSearchRequest(dto);
 
@@ -39,16 +54,87 @@ public class SearchDealUsecase {
         List<BooleanExpression> filters = buildFilters(dto);
 
         // 3단계: 정렬 조립
-        List<OrderSpecifier<?>> orders = sortFactory.createOrderSpecifiers(dto.getSortType());
+        List<OrderSpecifier<?>> orders = sortFactory.createOrderSpecifiers(dto.getSortType(), dto.getKeyword());
 
-        // 4단계: 검색 실행 (DB 필터링 + 정렬 + 페이징)
+        // 4단계: 검색 실행 (DB 필터링 + 정렬 + 페이징, dealId와 정렬 키만 조회)
+        SortType sortType = resolveSortType(dto);
         Pageable pageable = PageRequest.of(page, size);
-        Slice<Deal> dealSlice = dealRepository.searchWithFilters(filters, orders, pageable);
+        Slice<DealSearchRow> rowSlice = dealRepository.searchRows(filters, orders, sortFactory.createSortKey(sortType), pageable);
+
+        // 5단계: DTO 변환 (deal_card PK 조회)
+        var response = responseFactory.fromCards(toDealIds(rowSlice), rowSlice.hasNext());
+
+        // 오프셋 조회 결과에도 커서를 내려주어 다음 페이지부터 커서 모드로 전환할 수 있게 함
+        response = response.withNextCursor(createNextCursor(rowSlice, sortType));
+
+        // 캐시에는 조회자와 무관한 결과만 저장하고, 로그인 사용자의 투표 상태는 응답 직전에 덧씌움
+        searchCache.put(cacheKey, response);
+        return responseFactory.attachVoteTypes(response);
+    }
+
+    /**
+     * 딜/투표/댓글 변경 시 검색 결과 캐시 무효화 (세대 번호 증가, 키 스캔 없음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDealChanged(DealChangedEvent event) {
+        searchCache.invalidateAll();
+    }
+
+    /**
+     * 커서(Keyset) 기반 딜 검색
+     *
+     * <p>cursor가 가리키는 딜 다음부터 size개를 조회합니다.
+     * OFFSET을 사용하지 않으므로 페이지가 깊어져도 조회 비용이 일정합니다.</p>
+     *
+     * @param dto 검색 조건 (커서 발급 시와 같은 정렬 타입이어야 함)
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     */
+    public DealSearchPageResponseDTO searchDealsByCursor(DealSearchRequestDTO dto, String cursor, int size) {
+
+        // 1단계: 유효성 검증 + 커서 해석
+        validateSearchRequest(dto);
+        SortType sortType = resolveSortType(dto);
+        DealCursor dealCursor = DealCursor.decode(cursor, sortType);
 
-        // 5단계: DTO 변환
-        var response = responseFactory.loadRelations(dealSlice.getContent(), dealSlice.hasNext());
+        // 2단계: 필터 조립 (커서 조건 포함)
+        List<BooleanExpression> filters = new ArrayList<>(buildFilters(dto));
+        filters.add(filterFactory.createCursorFilter(dealCursor));
 
-        return response;
+        // 3단계: 정렬 조립
+        List<OrderSpecifier<?>> orders = sortFactory.createOrderSpecifiers(sortType, dto.getKeyword());
+
+        // 4단계: 검색 실행 (OFFSET 없이 size+1개 조회)
+        Slice<DealSearchRow> rowSlice = dealRepository.searchRows(filters, orders, sortFactory.createSortKey(sortType), PageRequest.of(0, size));
+
+        // 5단계: DTO 변환 (deal_card PK 조회)
+        var response = responseFactory.fromCards(toDealIds(rowSlice), rowSlice.hasNext());
+
+        return responseFactory.attachVoteTypes(response.withNextCursor(createNextCursor(rowSlice, sortType)));
+    }
+
+    /**
+     * 정렬 타입 기본값 처리 (null → 최신순)
+     */
+    private SortType resolveSortType(DealSearchRequestDTO dto) {
+        return dto.getSortType() != null ? dto.getSortType() : SortType.LATEST;
+    }
+
+    private List<Long> toDealIds(Slice<DealSearchRow> rowSlice) {
+        return rowSlice.getContent().stream().map(DealSearchRow::dealId).toList();
+    }
+
+    /**
+     * 페이지의 마지막 행으로 다음 페이지 커서 생성 (마지막 페이지면 null)
+     */
+    private String createNextCursor(Slice<DealSearchRow> rowSlice, SortType sortType) {
+        if (!rowSlice.hasNext() || rowSlice.getContent().isEmpty() || !DealCursor.supports(sortType)) {
+            return null;
+        }
+
+        List<DealSearchRow> content = rowSlice.getContent();
+        DealSearchRow last = content.get(content.size() - 1);
+        return DealCursor.of(sortType, last.dealId(), last.sortKey()).encode();
     }
 
     /**
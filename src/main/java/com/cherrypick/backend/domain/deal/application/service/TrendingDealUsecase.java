@@ -0,0 +1,38 @@
+package com.cherrypick.backend.domain.deal.application.service;
+
+import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchPageResponseDTO;
+import com.cherrypick.backend.domain.deal.domain.service.DealSearchResponseFactory;
+import com.cherrypick.backend.domain.deal.domain.service.ranking.TrendingDeal;
+import com.cherrypick.backend.domain.deal.domain.service.ranking.TrendingEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 실시간 급상승 딜 조회
+ *
+ * <p>TrendingEngine 이 1분마다 갱신하는 상위 K 스냅샷에서 앞쪽 size 개를 꺼내 deal_card 로 응답합니다.
+ * 점수 계산이나 정렬 쿼리 없이 카드 PK 조회 1회입니다.
+ * 삭제된 딜은 카드 변환 시 제외되므로 size 보다 적게 내려갈 수 있습니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendingDealUsecase {
+
+    private static final int MAX_SIZE = 50;
+
+    private final TrendingEngine trendingEngine;
+    private final DealSearchResponseFactory responseFactory;
+
+    public DealSearchPageResponseDTO getTrendingDeals(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        List<Long> dealIds = trendingEngine.snapshot().stream()
+                .limit(limit)
+                .map(TrendingDeal::dealId)
+                .toList();
+
+        return responseFactory.attachVoteTypes(responseFactory.fromCards(dealIds, false));
+    }
+}
@@ -85,15 +85,31 @@ public class Deal {
     private String discountName;
     private String discountDescription;
 
-    @Column(nullable = false)
+    // heat/조회수는 투표(DealCounterRepository)와 조회 버퍼(DealEngagementRepository)의 원자적 증감으로만 변경
+    @Column(nullable = false, updatable = false)
     private double heat = 0.0;
 
     @Builder.Default
+    @Column(updatable = false)
     private Long totalViews = 0L;
 
+    // 인기순 정렬용 시간 감쇠 점수 (DealHotScoreEngine 이 주기적으로 계산)
+    @Column(insertable = false, updatable = false)
+    private double hotScore;
+
     @Builder.Default
     private Boolean isDelete = false;
 
+    // 집계 컬럼: DealCounterRepository 의 원자적 증감으로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(insertable = false, updatable = false)
+    private long likeCount;
+
+    @Column(insertable = false, updatable = false)
+    private long dislikeCount;
+
+    @Column(insertable = false, updatable = false)
+    private long commentCount;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,164 @@
+package com.cherrypick.backend.domain.deal.domain.entity;
+
+import com.cherrypick.backend.domain.deal.domain.entity.converter.StringListJsonConverter;
+import com.cherrypick.backend.domain.deal.domain.entity.vo.PriceVO;
+import com.cherrypick.backend.domain.image.entity.Image;
+import com.cherrypick.backend.domain.user.entity.User;
+import com.cherrypick.backend.domain.deal.util.InfoTagGenerator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 딜 목록/검색 카드 읽기 모델 (deal_card)
+ *
+ * <p>검색 결과 한 행을 만들기 위해 필요했던 데이터 (작성자, 스토어, 할인, 대표 이미지, 좋아요/댓글 수, 인포 태그)를
+ * 미리 계산해 한 행에 저장한 비정규화 테이블입니다. 목록 조회 시 조인이나 집계 없이 PK로만 읽습니다.</p>
+ *
+ * <p>딜/투표/댓글/이미지 변경 이벤트와 주기적인 재조정(reconcile) 작업으로 갱신됩니다.
+ * 조회수/heat는 변경 빈도가 높아 재조정 주기만큼 늦게 반영될 수 있습니다.</p>
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "deal_card")
+public class DealCard implements Persistable<Long> {
+
+    @Id
+    private Long dealId;
+
+    private String title;
+
+    // 대표 이미지 (image_index가 가장 작은 이미지)
+    private Long thumbnailImageId;
+    private String thumbnailUrl;
+    private Integer thumbnailIndex;
+
+    // 스토어 표시명 (등록 스토어명 또는 직접 입력 스토어명)
+    private String storeName;
+
+    @Convert(converter = StringListJsonConverter.class)
+    @Column(length = 1000)
+    private List<String> infoTags;
+
+    @Embedded
+    private PriceVO price;
+
+    // 작성자
+    private Long userId;
+    private String nickname;
+    private Long badgeId;
+
+    // 정렬 키
+    private double heat;
+    private long totalViews;
+    private LocalDateTime createdAt;
+
+    // 집계
+    private long likeCount;
+    private long commentCount;
+
+    private boolean isSoldOut;
+    private boolean isDelete;
+
+    private LocalDateTime refreshedAt;
+
+    @Transient
+    private boolean isNew;
+
+    /**
+     * 딜과 연관 데이터로 카드 내용을 채웁니다.
+     *
+     * @param deal User, Store, Discounts가 로드된 딜
+     * @param thumbnail 대표 이미지 (없으면 null)
+     * @param likeCount 좋아요 수
+     * @param commentCount 댓글 수
+     */
+    public void refresh(Deal deal, Image thumbnail, long likeCount, long commentCount) {
+        User user = deal.getUser();
+
+        this.dealId = deal.getDealId();
+        this.title = deal.getTitle();
+        this.thumbnailImageId = thumbnail != null ? thumbnail.getImageId() : null;
+        this.thumbnailUrl = thumbnail != null ? thumbnail.getImageUrl() : null;
+        this.thumbnailIndex = thumbnail != null ? thumbnail.getImageIndex() : null;
+        this.storeName = deal.getStore() != null ? deal.getStore().getName() : deal.getStoreName();
+        this.infoTags = InfoTagGenerator.getInfoTags(deal);
+        this.price = deal.getPrice();
+        this.userId = user != null ? user.getUserId() : null;
+        this.nickname = user != null ? user.getNickname() : null;
+        this.badgeId = user != null && user.getBadge() != null ? user.getBadge().getBadgeId() : null;
+        this.heat = deal.getHeat();
+        this.totalViews = deal.getTotalViews() != null ? deal.getTotalViews() : 0L;
+        this.createdAt = deal.getCreatedAt();
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.isSoldOut = deal.isSoldOut();
+        this.isDelete = Boolean.TRUE.equals(deal.getIsDelete());
+        this.refreshedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 표시 내용이 같은지 비교합니다. (refreshedAt 제외)
+     *
+     * <p>재조정 시 내용이 그대로인 카드는 다시 쓰지 않기 위해 사용합니다.</p>
+     */
+    public boolean hasSameContent(DealCard other) {
+        return Objects.equals(title, other.title)
+                && Objects.equals(thumbnailImageId, other.thumbnailImageId)
+                && Objects.equals(thumbnailUrl, other.thumbnailUrl)
+                && Objects.equals(thumbnailIndex, other.thumbnailIndex)
+                && Objects.equals(storeName, other.storeName)
+                && Objects.equals(infoTags, other.infoTags)
+                && samePrice(price, other.price)
+                && Objects.equals(userId, other.userId)
+                && Objects.equals(nickname, other.nickname)
+                && Objects.equals(badgeId, other.badgeId)
+                && Double.compare(heat, other.heat) == 0
+                && totalViews == other.totalViews
+                && Objects.equals(createdAt, other.createdAt)
+                && likeCount == other.likeCount
+                && commentCount == other.commentCount
+                && isSoldOut == other.isSoldOut
+                && isDelete == other.isDelete;
+    }
+
+    private static boolean samePrice(PriceVO a, PriceVO b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getPriceType() == b.getPriceType()
+                && Double.compare(a.getDiscountedPrice(), b.getDiscountedPrice()) == 0;
+    }
+
+    public static DealCard from(Deal deal, Image thumbnail, long likeCount, long commentCount) {
+        DealCard card = new DealCard();
+        card.refresh(deal, thumbnail, likeCount, commentCount);
+        card.isNew = true;
+        return card;
+    }
+
+    @Override
+    public Long getId() {
+        return dealId;
+    }
+
+    // dealId를 직접 할당하므로 merge(SELECT) 대신 persist 되도록 신규 여부를 직접 관리
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.cherrypick.backend.domain.deal.domain.entity.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * List&lt;String&gt; ↔ JSON 배열 문자열 컬럼 변환기
+ */
+@Converter
+public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(attribute == null ? List.of() : attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 변환 실패", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return OBJECT_MAPPER.readValue(dbData, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.cherrypick.backend.domain.deal.domain.entity.vo;
+
+import com.cherrypick.backend.domain.deal.domain.enums.SortType;
+import com.cherrypick.backend.global.exception.BaseException;
+import com.cherrypick.backend.global.exception.enums.DealErrorCode;
+import com.cherrypick.backend.global.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 딜 검색 커서 (Keyset 페이지네이션)
+ *
+ * <p>마지막으로 내려준 딜의 정렬 키와 dealId를 담습니다.
+ * 다음 페이지는 OFFSET 대신 "(정렬 키, dealId) 가 커서보다 뒤인 행" 조건으로 조회하므로
+ * 몇 번째 페이지든 첫 페이지와 같은 비용으로 조회됩니다.</p>
+ *
+ * <p><b>정렬 키:</b></p>
+ * <ul>
+ *     <li>LATEST → createdAt</li>
+ *     <li>PRICE_HIGH / PRICE_LOW → price.discountedPrice</li>
+ *     <li>POPULARITY → hotScore</li>
+ *     <li>VIEWS → totalViews</li>
+ * </ul>
+ *
+ * <p><b>NULL 정렬 키:</b> 정렬 키가 NULL 인 딜은 빈 문자열로 인코딩합니다. (0 으로 바꾸면 실제 0 인 딜과 섞여 중복/누락 발생)
+ * MySQL 은 NULL 을 가장 작은 값으로 정렬하므로 내림차순에서는 마지막, 오름차순에서는 처음에 오며,
+ * DealFilterFactory.createCursorFilter 가 같은 규칙으로 다음 행을 고릅니다.</p>
+ *
+ * <p>RELEVANCE(관련도순)는 요청마다 계산되는 점수라 커서를 발급하지 않습니다. (page 방식만 지원)</p>
+ *
+ * @param sortType 커서를 발급할 때의 정렬 타입 (다른 정렬로 재사용 불가)
+ * @param sortKey 마지막 딜의 정렬 키 (문자열 직렬화, NULL 이면 null)
+ * @param dealId 마지막 딜의 ID (동일 정렬 키 사이의 순서 보장)
+ */
+public record DealCursor(
+        SortType sortType,
+        String sortKey,
+        long dealId
+) {
+
+    private static final int PARTS = 3;
+    private static final String NULL_KEY = "";
+
+    /**
+     * 커서 페이지네이션을 지원하는 정렬인지 확인합니다.
+     */
+    public static boolean supports(SortType sortType) {
+        return sortType != SortType.RELEVANCE;
+    }
+
+    /**
+     * 페이지의 마지막 행(dealId + 정렬 키)으로부터 커서를 생성합니다.
+     *
+     * @param sortType 정렬 타입
+     * @param dealId 마지막 딜 ID
+     * @param sortKey 마지막 딜의 정렬 키 (DealSortFactory.createSortKey로 조회한 값, null 가능)
+     */
+    public static DealCursor of(SortType sortType, long dealId, Object sortKey) {
+        if (!supports(sortType)) {
+            throw new IllegalArgumentException("커서를 지원하지 않는 정렬입니다: " + sortType);
+        }
+        if (sortKey == null) {
+            return new DealCursor(sortType, null, dealId);
+        }
+
+        String key = switch (sortType) {
+            case LATEST -> ((LocalDateTime) sortKey).toString();
+            case PRICE_HIGH, PRICE_LOW, POPULARITY -> Double.toString(((Number) sortKey).doubleValue());
+            case VIEWS -> Long.toString(((Number) sortKey).longValue());
+            case RELEVANCE -> throw new IllegalArgumentException("커서를 지원하지 않는 정렬입니다: " + sortType);
+        };
+
+        return new DealCursor(sortType, key, dealId);
+    }
+
+    /**
+     * 커서 토큰을 해석합니다.
+     *
+     * @param cursor 클라이언트가 전달한 커서 토큰
+     * @param sortType 현재 요청의 정렬 타입
+     * @throws BaseException 토큰이 손상되었거나 정렬 타입이 일치하지 않는 경우 (INVALID_CURSOR)
+     */
+    public static DealCursor decode(String cursor, SortType sortType) {
+        try {
+            String[] parts = CursorCodec.decode(cursor, PARTS);
+            String sortKey = NULL_KEY.equals(parts[1]) ? null : parts[1];
+            DealCursor decoded = new DealCursor(SortType.valueOf(parts[0]), sortKey, Long.parseLong(parts[2]));
+
+            if (decoded.sortType() != sortType || !supports(sortType)) {
+                throw new BaseException(DealErrorCode.INVALID_CURSOR);
+            }
+            if (decoded.isNullKey()) {
+                return decoded;
+            }
+
+            // 정렬 키 형식 검증 (파싱 실패 시 예외)
+            switch (sortType) {
+                case LATEST -> decoded.createdAtKey();
+                case PRICE_HIGH, PRICE_LOW, POPULARITY -> decoded.doubleKey();
+                case VIEWS -> decoded.longKey();
+            }
+
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(DealErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 토큰 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        return CursorCodec.encode(sortType.name(), isNullKey() ? NULL_KEY : sortKey, Long.toString(dealId));
+    }
+
+    /**
+     * 마지막 딜의 정렬 키가 NULL 인지 확인합니다.
+     */
+    public boolean isNullKey() {
+        return sortKey == null;
+    }
+
+    public LocalDateTime createdAtKey() {
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public double doubleKey() {
+        return Double.parseDouble(sortKey);
+    }
+
+    public long longKey() {
+        return Long.parseLong(sortKey);
+    }
+}
@@ -3,5 +3,8 @@ package com.cherrypick.backend.domain.deal.domain.enums;
 public enum SortType {
 
     // 랭킹순, 조회순, 투표순, 최신순, 고가순, 저가순, 할인율순
-    POPULARITY, VIEWS, LATEST, PRICE_HIGH, PRICE_LOW
+    POPULARITY, VIEWS, LATEST, PRICE_HIGH, PRICE_LOW,
+
+    // 검색어 관련도순 (FULLTEXT 검색 전략에서만 계산, 그 외에는 최신순)
+    RELEVANCE
 }
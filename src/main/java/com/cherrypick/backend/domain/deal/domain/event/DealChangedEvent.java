@@ -0,0 +1,56 @@
+package com.cherrypick.backend.domain.deal.domain.event;
+
+/**
+ * 딜 변경 이벤트
+ *
+ * <p>딜이 생성/수정/삭제되었거나 딜에 투표/댓글이 달렸을 때 발행됩니다.
+ * 검색 인덱스, 검색 결과 캐시처럼 딜 데이터를 별도로 들고 있는 컴포넌트들이 이 이벤트를 구독해 동기화합니다.</p>
+ *
+ * @param dealId 변경된 딜 ID
+ * @param changeType 변경 종류
+ */
+public record DealChangedEvent(
+        Long dealId,
+        ChangeType changeType
+) {
+
+    public enum ChangeType {
+        CREATED,    // 딜 생성
+        UPDATED,    // 딜 수정 (제목/내용/가격 등)
+        DELETED,    // 딜 삭제 (Soft Delete)
+        VOTED,      // 딜 투표 변경 (좋아요/싫어요 수, heat)
+        COMMENTED,  // 딜 댓글 작성/삭제 (댓글 수)
+        IMAGES_CHANGED; // 딜 이미지 연결/변경 (대표 이미지)
+
+        /**
+         * 딜 본문(제목/내용 등) 자체가 바뀌는 변경인지 여부
+         */
+        public boolean isContentChange() {
+            return this == CREATED || this == UPDATED || this == DELETED;
+        }
+    }
+
+    public static DealChangedEvent created(Long dealId) {
+        return new DealChangedEvent(dealId, ChangeType.CREATED);
+    }
+
+    public static DealChangedEvent updated(Long dealId) {
+        return new DealChangedEvent(dealId, ChangeType.UPDATED);
+    }
+
+    public static DealChangedEvent deleted(Long dealId) {
+        return new DealChangedEvent(dealId, ChangeType.DELETED);
+    }
+
+    public static DealChangedEvent voted(Long dealId) {
+        return new DealChangedEvent(dealId, ChangeType.VOTED);
+    }
+
+    public static DealChangedEvent commented(Long dealId) {
+        return new DealChangedEvent(dealId, ChangeType.COMMENTED);
+    }
+
+    public static DealChangedEvent imagesChanged(Long dealId) {
+        return new DealChangedEvent(dealId, ChangeType.IMAGES_CHANGED);
+    }
+}
@@ -0,0 +1,30 @@
+package com.cherrypick.backend.domain.deal.domain.port;
+
+import com.cherrypick.backend.domain.deal.application.dto.response.DealDetailResponseDTO;
+
+import java.util.function.Function;
+
+/**
+ * 딜 상세 응답(조회자와 무관한 부분) 캐시 포트입니다.
+ *
+ * 인스턴스 메모리(L1)와 공유 저장소(L2) 두 단계로 조회하며, 둘 다 없으면 loader로 만들어 양쪽에 저장합니다.
+ * 딜/투표/댓글/이미지 변경 시 evict로 모든 인스턴스의 캐시를 무효화합니다.
+ */
+public interface DealDetailCache {
+
+    /**
+     * 캐시된 상세 응답을 조회하고, 없으면 loader로 만들어 저장합니다.
+     *
+     * 같은 딜에 대한 동시 미스는 인스턴스 안에서 한 번만 loader를 실행합니다.
+     *
+     * @param dealId 딜 ID
+     * @param loader 캐시 미스 시 상세 응답을 조립하는 함수 (예외는 그대로 전파)
+     * @return 조회자와 무관한 상세 응답 (voteType = null)
+     */
+    DealDetailResponseDTO get(Long dealId, Function<Long, DealDetailResponseDTO> loader);
+
+    /**
+     * 딜의 상세 캐시를 모든 인스턴스에서 무효화합니다.
+     */
+    void evict(Long dealId);
+}
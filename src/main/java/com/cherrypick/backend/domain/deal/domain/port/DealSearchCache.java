@@ -0,0 +1,42 @@
+package com.cherrypick.backend.domain.deal.domain.port;
+
+import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchPageResponseDTO;
+
+import java.util.Optional;
+
+/**
+ * 딜 검색 결과 캐시 포트입니다.
+ *
+ * 동일한 검색 조건의 결과를 짧은 시간 동안 재사용합니다.
+ * 무효화는 키 삭제(SCAN) 대신 세대(generation) 번호를 올리는 방식으로, 이전 세대의 키는 TTL로 자연 소멸합니다.
+ */
+public interface DealSearchCache {
+
+    /**
+     * 요청 키에 현재 세대를 붙인 캐시 키를 반환합니다.
+     *
+     * 조회와 저장에 같은 키를 사용해야 계산 도중 무효화된 결과가 새 세대에 저장되지 않습니다.
+     *
+     * @param requestKey 정규화된 검색 조건 해시
+     * @return 세대가 포함된 캐시 키
+     */
+    String versionedKey(String requestKey);
+
+    /**
+     * 캐시된 검색 결과를 조회합니다.
+     *
+     * @param versionedKey {@link #versionedKey(String)} 로 만든 키
+     * @return 캐시된 결과 (없거나 캐시 장애 시 Optional.empty())
+     */
+    Optional<DealSearchPageResponseDTO> get(String versionedKey);
+
+    /**
+     * 검색 결과를 저장합니다.
+     */
+    void put(String versionedKey, DealSearchPageResponseDTO response);
+
+    /**
+     * 세대 번호를 올려 모든 검색 결과 캐시를 무효화합니다.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,7 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+import com.cherrypick.backend.domain.deal.domain.entity.DealCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DealCardRepository extends JpaRepository<DealCard, Long> {
+}
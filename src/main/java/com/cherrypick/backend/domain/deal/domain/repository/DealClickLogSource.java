@@ -0,0 +1,17 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+/**
+ * 구매/공유 클릭 로그 기록을 위한 딜 프로젝션
+ *
+ * <p>딜 엔티티와 카테고리를 올리지 않고 로그에 필요한 컬럼만 조회합니다.</p>
+ */
+public interface DealClickLogSource {
+
+    Long getDealId();
+
+    String getTitle();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+}
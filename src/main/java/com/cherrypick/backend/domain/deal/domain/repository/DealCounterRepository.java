@@ -0,0 +1,109 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+import com.cherrypick.backend.domain.vote.enums.VoteType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 딜 좋아요/싫어요/댓글 수 집계 컬럼 및 투표 heat 갱신
+ *
+ * <p>엔티티 값을 읽어 +1 해 저장하면 동시 요청끼리 덮어쓰므로, 증감은 항상 {@code col = col + ?} 한 문장으로 보냅니다.
+ * 호출 측 트랜잭션에 참여하므로 투표/댓글 저장이 롤백되면 카운터 변경도 함께 롤백됩니다.</p>
+ *
+ * <p>Deal 엔티티의 카운터/heat/조회수 필드는 읽기 전용(updatable = false)으로 매핑되어 있어 엔티티 저장이 이 값을 덮어쓰지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DealCounterRepository {
+
+    // heat 허용 범위
+    public static final double MIN_HEAT = -1000.0;
+    public static final double MAX_HEAT = 1000.0;
+
+    private static final String RECONCILE_SQL = """
+            UPDATE deal d
+                LEFT JOIN (SELECT deal_id,
+                                  SUM(vote_type = 'TRUE')  AS likes,
+                                  SUM(vote_type = 'FALSE') AS dislikes
+                           FROM vote
+                           WHERE deal_id > ? AND deal_id <= ?
+                           GROUP BY deal_id) v ON v.deal_id = d.deal_id
+                LEFT JOIN (SELECT deal_id, COUNT(*) AS comments
+                           FROM comment
+                           WHERE is_delete = 0 AND deal_id > ? AND deal_id <= ?
+                           GROUP BY deal_id) c ON c.deal_id = d.deal_id
+            SET d.like_count    = COALESCE(v.likes, 0),
+                d.dislike_count = COALESCE(v.dislikes, 0),
+                d.comment_count = COALESCE(c.comments, 0)
+            WHERE d.deal_id > ? AND d.deal_id <= ?
+              AND (d.like_count <> COALESCE(v.likes, 0)
+                OR d.dislike_count <> COALESCE(v.dislikes, 0)
+                OR d.comment_count <> COALESCE(c.comments, 0))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 투표 변경을 좋아요/싫어요 수와 heat 에 한 문장으로 반영합니다.
+     *
+     * <p>heat 는 DB에서 {@code heat + delta} 를 계산해 범위를 제한하므로, 같은 딜에 동시에 투표해도 증감이 유실되지 않습니다.
+     * 행 잠금은 이 UPDATE 한 문장 동안만 필요하며 딜 행을 미리 읽지 않습니다.</p>
+     *
+     * @param dealId 딜 ID
+     * @param previous 이전 투표 (처음 투표면 null)
+     * @param current 새 투표
+     * @param heatDelta heat 변화량 (새 점수 - 이전 점수)
+     */
+    public void applyVoteChange(Long dealId, VoteType previous, VoteType current, double heatDelta) {
+        int likeDelta = indicator(current, VoteType.TRUE) - indicator(previous, VoteType.TRUE);
+        int dislikeDelta = indicator(current, VoteType.FALSE) - indicator(previous, VoteType.FALSE);
+        if (likeDelta == 0 && dislikeDelta == 0 && heatDelta == 0.0) {
+            return;
+        }
+
+        jdbcTemplate.update("""
+                        UPDATE deal
+                        SET like_count    = GREATEST(like_count + ?, 0),
+                            dislike_count = GREATEST(dislike_count + ?, 0),
+                            heat          = LEAST(GREATEST(heat + ?, ?), ?)
+                        WHERE deal_id = ?""",
+                likeDelta, dislikeDelta, heatDelta, MIN_HEAT, MAX_HEAT, dealId);
+    }
+
+    /**
+     * 댓글 수를 증감합니다.
+     *
+     * @param dealId 딜 ID
+     * @param delta 작성 +1, 삭제 -1
+     */
+    public void addCommentCount(Long dealId, int delta) {
+        jdbcTemplate.update(
+                "UPDATE deal SET comment_count = GREATEST(comment_count + ?, 0) WHERE deal_id = ?",
+                delta, dealId);
+    }
+
+    /**
+     * dealId 구간의 카운터를 vote/comment 원본 기준으로 다시 계산합니다.
+     *
+     * @param afterDealId 구간 시작 (미포함)
+     * @param toDealId 구간 끝 (포함)
+     * @return 값이 어긋나 고쳐진 딜 수
+     */
+    public int reconcile(long afterDealId, long toDealId) {
+        return jdbcTemplate.update(RECONCILE_SQL,
+                afterDealId, toDealId, afterDealId, toDealId, afterDealId, toDealId);
+    }
+
+    /**
+     * 가장 큰 dealId (딜이 없으면 0)
+     */
+    public long findMaxDealId() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(deal_id) FROM deal", Long.class);
+        return max == null ? 0L : max;
+    }
+
+    private static int indicator(VoteType voteType, VoteType target) {
+        return voteType == target ? 1 : 0;
+    }
+}
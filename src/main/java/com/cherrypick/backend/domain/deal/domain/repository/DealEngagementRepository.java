@@ -0,0 +1,76 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 딜 조회수/heat 누적값 일괄 반영
+ *
+ * <p>딜마다 UPDATE를 따로 보내지 않고, 여러 딜의 증가분을 CASE 식 하나로 묶어 한 문장으로 반영합니다.</p>
+ *
+ * <pre>
+ * UPDATE deal
+ *    SET total_views = total_views + CASE deal_id WHEN ? THEN ? ... ELSE 0 END,
+ *        heat        = heat        + CASE deal_id WHEN ? THEN ? ... ELSE 0 END
+ *  WHERE deal_id IN (?, ...)
+ * </pre>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DealEngagementRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 증가분을 반영합니다.
+     *
+     * @param deltas dealId → 증가분 (한 번에 보낼 만큼 잘라서 전달)
+     * @return 갱신된 행 수
+     */
+    public int applyDeltas(Map<Long, EngagementDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder views = new StringBuilder("total_views = total_views + CASE deal_id");
+        StringBuilder heat = new StringBuilder("heat = heat + CASE deal_id");
+        List<Object> viewArgs = new ArrayList<>(deltas.size() * 2);
+        List<Object> heatArgs = new ArrayList<>(deltas.size() * 2);
+
+        for (Map.Entry<Long, EngagementDelta> entry : deltas.entrySet()) {
+            views.append(" WHEN ? THEN ?");
+            viewArgs.add(entry.getKey());
+            viewArgs.add(entry.getValue().views());
+
+            heat.append(" WHEN ? THEN ?");
+            heatArgs.add(entry.getKey());
+            heatArgs.add(entry.getValue().heat());
+        }
+        views.append(" ELSE 0 END");
+        heat.append(" ELSE 0 END");
+
+        String sql = "UPDATE deal SET " + views + ", " + heat
+                + " WHERE deal_id IN (" + String.join(", ", Collections.nCopies(deltas.size(), "?")) + ")";
+
+        List<Object> args = new ArrayList<>(viewArgs.size() + heatArgs.size() + deltas.size());
+        args.addAll(viewArgs);
+        args.addAll(heatArgs);
+        args.addAll(deltas.keySet());
+
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * 딜 하나의 누적 증가분
+     *
+     * @param views 조회수 증가분
+     * @param heat heat 증가분
+     */
+    public record EngagementDelta(long views, double heat) {}
+}
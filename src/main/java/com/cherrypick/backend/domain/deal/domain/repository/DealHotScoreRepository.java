@@ -0,0 +1,112 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 딜 인기 점수(hot_score) 계산용 조회/일괄 반영
+ *
+ * <p>엔티티를 올리지 않고 점수 계산에 필요한 컬럼만 읽고, 청크의 점수를 CASE 식 UPDATE 한 문장으로 반영합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DealHotScoreRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 활성 구간의 가장 작은 dealId 를 조회합니다.
+     *
+     * <p>idx_deal_is_delete_created_at 만 읽으므로 구간 밖 딜의 PK 를 처음부터 훑지 않습니다.</p>
+     *
+     * @param since 활성 구간 시작 시각
+     * @return 구간 첫 dealId, 구간에 딜이 없으면 empty
+     */
+    public Optional<Long> findFirstActiveDealId(LocalDateTime since) {
+        Long dealId = jdbcTemplate.queryForObject(
+                "SELECT MIN(deal_id) FROM deal WHERE is_delete = 0 AND created_at >= ?",
+                Long.class, Timestamp.valueOf(since));
+        return Optional.ofNullable(dealId);
+    }
+
+    /**
+     * 활성 구간(since 이후 작성, 삭제되지 않음)의 딜을 dealId 순으로 청크 조회합니다.
+     *
+     * @param since 활성 구간 시작 시각
+     * @param afterDealId 이전 청크의 마지막 dealId (처음은 구간 첫 dealId - 1)
+     * @param limit 청크 크기
+     */
+    public List<HotScoreSource> findActiveAfter(LocalDateTime since, long afterDealId, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT deal_id, created_at, like_count, dislike_count, total_views
+                        FROM deal
+                        WHERE is_delete = 0 AND created_at >= ? AND deal_id > ?
+                        ORDER BY deal_id
+                        LIMIT ?""",
+                (rs, rowNum) -> new HotScoreSource(
+                        rs.getLong("deal_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getLong("like_count"),
+                        rs.getLong("dislike_count"),
+                        rs.getLong("total_views")),
+                Timestamp.valueOf(since), afterDealId, limit);
+    }
+
+    /**
+     * 점수를 반영합니다.
+     *
+     * @param scores dealId → 점수 (한 번에 보낼 만큼 잘라서 전달)
+     * @return 갱신된 행 수
+     */
+    public int updateScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE deal SET hot_score = CASE deal_id");
+        List<Object> args = new ArrayList<>(scores.size() * 3);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        sql.append(" ELSE hot_score END WHERE deal_id IN (")
+                .append(String.join(", ", Collections.nCopies(scores.size(), "?")))
+                .append(")");
+        args.addAll(scores.keySet());
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 활성 구간을 벗어난 딜의 점수를 0 으로 내립니다.
+     *
+     * <p>구간 밖 딜은 더 이상 재계산되지 않으므로 마지막 점수가 그대로 남으면 인기순 상단에 고정됩니다.
+     * 점수가 남은 딜만 idx_deal_is_delete_hot_score 로 찾고, 한 문장이 잡는 락을 줄이려고 limit 건씩 끊어 반영합니다.</p>
+     *
+     * @param before 활성 구간 시작 시각
+     * @param limit 한 번에 갱신할 최대 행 수
+     * @return 갱신된 행 수
+     */
+    public int resetExpiredScores(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("""
+                        UPDATE deal SET hot_score = 0
+                        WHERE is_delete = 0 AND hot_score <> 0 AND created_at < ?
+                        LIMIT ?""",
+                Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * 점수 계산에 필요한 딜 컬럼
+     */
+    public record HotScoreSource(long dealId, LocalDateTime createdAt, long likes, long dislikes, long views) {}
+}
@@ -0,0 +1,17 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+/**
+ * 키워드 인덱스 구성을 위한 딜 텍스트 프로젝션
+ *
+ * <p>연관 엔티티 없이 인덱싱에 필요한 컬럼만 조회합니다.</p>
+ */
+public interface DealKeywordSource {
+
+    Long getDealId();
+
+    String getTitle();
+
+    String getContent();
+
+    Boolean getIsDelete();
+}
@@ -9,7 +9,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface DealRepository extends JpaRepository<Deal, Long>, DealRepositoryCustom {
     @Query(value = "SELECT b.* " +
@@ -24,8 +26,41 @@ public interface DealRepository extends JpaRepository<Deal, Long>, DealRepositor
     @Query("UPDATE Deal d SET d.totalViews = d.totalViews + 1 WHERE d.dealId = :dealId")
     int incrementViewCount(@Param("dealId") Long dealId);
 
-    @Modifying
-    @Query("UPDATE Deal d SET d.heat = d.heat + :amount WHERE d.dealId = :dealId")
-    int updateHeat(@Param("dealId") Long dealId, @Param("amount") Double amount);
+    // 키워드 인덱스 초기 적재용 (dealId 기준 청크 조회)
+    @Query("SELECT d.dealId AS dealId, d.title AS title, d.content AS content, d.isDelete AS isDelete " +
+            "FROM Deal d WHERE d.isDelete = false AND d.dealId > :lastDealId ORDER BY d.dealId ASC")
+    List<DealKeywordSource> findKeywordSourcesAfter(@Param("lastDealId") Long lastDealId, Pageable pageable);
+
+    // 키워드 인덱스 동기화용 (마지막 동기화 이후 변경된 딜, 삭제 포함)
+    @Query("SELECT d.dealId AS dealId, d.title AS title, d.content AS content, d.isDelete AS isDelete " +
+            "FROM Deal d WHERE d.updatedAt > :since")
+    List<DealKeywordSource> findKeywordSourcesUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT d.dealId AS dealId, d.title AS title, d.content AS content, d.isDelete AS isDelete " +
+            "FROM Deal d WHERE d.dealId = :dealId")
+    Optional<DealKeywordSource> findKeywordSourceById(@Param("dealId") Long dealId);
+
+    // 구매/공유 클릭 로그용 (중복이 아닌 클릭에서만 조회)
+    @Query("SELECT d.dealId AS dealId, d.title AS title, c.categoryId AS categoryId, c.name AS categoryName " +
+            "FROM Deal d LEFT JOIN d.category c WHERE d.dealId = :dealId")
+    Optional<DealClickLogSource> findClickLogSourceById(@Param("dealId") Long dealId);
+
+    // 딜 카드 생성용 (작성자, 스토어, 할인 fetchJoin, 페이징 없음)
+    @Query("SELECT DISTINCT d FROM Deal d " +
+            "LEFT JOIN FETCH d.user LEFT JOIN FETCH d.store LEFT JOIN FETCH d.discounts " +
+            "WHERE d.dealId IN :dealIds")
+    List<Deal> findAllForCardByDealIdIn(@Param("dealIds") Collection<Long> dealIds);
+
+    // 딜 카드 재조정용 (dealId 기준 청크 조회)
+    @Query("SELECT d.dealId FROM Deal d WHERE d.dealId > :lastDealId ORDER BY d.dealId ASC")
+    List<Long> findDealIdsAfter(@Param("lastDealId") Long lastDealId, Pageable pageable);
+
+    // 딜 카드 재조정용 (최근 작성 구간의 첫 dealId, 없으면 null)
+    @Query("SELECT MIN(d.dealId) FROM Deal d WHERE d.createdAt >= :since")
+    Long findFirstDealIdCreatedSince(@Param("since") LocalDateTime since);
+
+    // 딜 카드 재조정용 (마지막 재조정 이후 수정된 딜, idx_deal_updated_at)
+    @Query("SELECT d.dealId FROM Deal d WHERE d.updatedAt >= :since ORDER BY d.dealId ASC")
+    List<Long> findDealIdsUpdatedSince(@Param("since") LocalDateTime since);
 
 }
\ No newline at end of file
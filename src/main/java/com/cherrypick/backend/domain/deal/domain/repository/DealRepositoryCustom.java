@@ -1,6 +1,7 @@
 package com.cherrypick.backend.domain.deal.domain.repository;
 
 import com.cherrypick.backend.domain.deal.domain.entity.Deal;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import org.springframework.data.domain.Pageable;
@@ -26,4 +27,23 @@ public interface DealRepositoryCustom {
             List<OrderSpecifier<?>> orders,
             Pageable pageable
     );
+
+    /**
+     * 필터/정렬을 적용한 딜 ID 페이지 조회 (연관 엔티티 로드 없음)
+     *
+     * <p>검색 결과 표시 데이터는 deal_card 읽기 모델에서 PK로 읽으므로 이 단계에서는 dealId와 정렬 키만 조회합니다.
+     * 커서 조회는 커서 조건을 filters에 포함하고 첫 페이지(offset 0)로 요청합니다.</p>
+     *
+     * @param filters BooleanExpression 필터 리스트 (커서 필터 포함 가능)
+     * @param orders OrderSpecifier 정렬 리스트
+     * @param sortKey 함께 조회할 정렬 키 (null이면 조회하지 않음)
+     * @param pageable 페이징 정보
+     * @return Slice (hasNext 포함)
+     */
+    Slice<DealSearchRow> searchRows(
+            List<BooleanExpression> filters,
+            List<OrderSpecifier<?>> orders,
+            Expression<?> sortKey,
+            Pageable pageable
+    );
 }
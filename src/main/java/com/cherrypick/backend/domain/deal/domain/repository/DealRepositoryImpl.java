@@ -2,9 +2,12 @@ package com.cherrypick.backend.domain.deal.domain.repository;
 
 import com.cherrypick.backend.domain.deal.domain.entity.Deal;
 import com.cherrypick.backend.domain.deal.domain.entity.QDeal;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -12,7 +15,10 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -23,8 +29,10 @@ import java.util.stream.Stream;
  * <p><b>주요 최적화 기법:</b></p>
  * <ul>
  *     <li>QueryDSL을 사용한 타입 안전 동적 쿼리</li>
- *     <li>fetchJoin을 통한 N+1 문제 해결</li>
+ *     <li>2단계 조회 (ID 페이지 → fetchJoin) 로 컬렉션 fetchJoin + 페이징 충돌 회피</li>
  *     <li>Slice 패턴으로 COUNT 쿼리 없이 hasNext 판별</li>
+ *     <li>커서(Keyset) 조회로 깊은 페이지에서도 OFFSET 스캔 없음</li>
+ *     <li>검색 API는 ID + 정렬 키만 조회하고 표시 데이터는 deal_card에서 PK로 읽음</li>
  * </ul>
  */
 @Repository
@@ -36,19 +44,20 @@ public class DealRepositoryImpl implements DealRepositoryCustom {
     /**
      * 동적 필터와 정렬을 적용한 딜 검색
      *
-     * <p><b>작동 방식:</b></p>
+     * <p><b>작동 방식 (2단계 조회):</b></p>
      * <ol>
-     *     <li>필터 리스트에 기본 조건(삭제되지 않은 딜) 추가</li>
-     *     <li>size+1개 조회로 다음 페이지 존재 여부 판별</li>
-     *     <li>fetchJoin으로 연관 엔티티 한 번에 로드 (N+1 방지)</li>
-     *     <li>조회 결과가 size+1개면 hasNext=true, size개만 반환</li>
+     *     <li>1단계: 필터/정렬/페이징을 적용해 dealId만 size+1개 조회 (fetchJoin 없음)</li>
+     *     <li>조회 결과가 size+1개면 hasNext=true, size개만 사용</li>
+     *     <li>2단계: 해당 ID들만 대상으로 연관 엔티티를 fetchJoin (페이징 없음)</li>
+     *     <li>1단계의 ID 순서대로 재정렬</li>
      * </ol>
      *
-     * <p><b>성능 최적화:</b></p>
+     * <p><b>왜 2단계인가:</b></p>
      * <ul>
-     *     <li>COUNT 쿼리 불필요 (size+1 조회로 hasNext 판별)</li>
-     *     <li>fetchJoin으로 1개 쿼리에 모든 연관 데이터 로드</li>
-     *     <li>N+1 문제 완전 해결 (User, Category, Store, Discounts)</li>
+     *     <li>컬렉션(discounts) fetchJoin과 limit/offset을 같이 쓰면 Hibernate가 SQL에 LIMIT을 붙이지 못하고
+     *     필터 결과 전체를 메모리로 가져와 페이징함 (HHH90003004)</li>
+     *     <li>ID 조회는 컬렉션 조인이 없어 DB에서 LIMIT이 그대로 적용됨</li>
+     *     <li>fetchJoin은 최대 size개 ID에 대해서만 수행되어 메모리 사용량이 페이지 크기로 제한됨</li>
      * </ul>
      *
      * @param filters QueryDSL BooleanExpression 필터 리스트 (동적 조건)
@@ -62,19 +71,86 @@ public class DealRepositoryImpl implements DealRepositoryCustom {
             List<OrderSpecifier<?>> orders,
             Pageable pageable
     ) {
-        QDeal deal = QDeal.deal;
-
-        // ===== 쿼리 실행 =====
+        // ===== 1단계: ID 페이지 조회 =====
         // size+1 조회: hasNext 판별을 위해 요청한 size보다 1개 더 조회
         // 예: size=20 요청 → limit=21로 조회
-        List<Deal> deals = queryFactory
-                .selectFrom(deal)
-                // fetchJoin: 연관 엔티티를 LEFT JOIN으로 한 번에 로드 (N+1 방지)
-                // 일반 join은 Deal만 조회하지만, fetchJoin은 연관 엔티티도 함께 SELECT
-                .leftJoin(deal.user).fetchJoin()          // User 즉시 로드
-                .leftJoin(deal.category).fetchJoin()       // Category 즉시 로드
-                .leftJoin(deal.discounts).fetchJoin()      // Discounts 즉시 로드 (컬렉션)
-                .leftJoin(deal.store).fetchJoin()          // Store 즉시 로드
+        List<Long> dealIds = buildIdPageQuery(filters, orders, pageable.getOffset(), pageable.getPageSize() + 1)
+                .fetch();
+
+        // ===== hasNext 판별 =====
+        // 조회된 ID가 요청한 size보다 크면 다음 페이지 존재
+        boolean hasNext = dealIds.size() > pageable.getPageSize();
+        List<Long> pageIds = hasNext
+                ? dealIds.subList(0, pageable.getPageSize())  // size개만 자르기
+                : dealIds;                                     // 전체 사용
+
+        if (pageIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        // ===== 2단계: 연관 엔티티 fetchJoin 조회 =====
+        List<Deal> deals = buildFetchByIdsQuery(pageIds).fetch();
+
+        // ===== 순서 복원 =====
+        // IN 조회는 순서를 보장하지 않으므로 1단계 ID 순서대로 재정렬
+        Map<Long, Deal> dealById = new HashMap<>();
+        for (Deal deal : deals) {
+            dealById.putIfAbsent(deal.getDealId(), deal);
+        }
+
+        List<Deal> content = pageIds.stream()
+                .map(dealById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // SliceImpl: Spring Data의 Slice 구현체
+        // content: 실제 데이터, pageable: 페이징 정보, hasNext: 다음 페이지 존재 여부
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * 1단계: 필터/정렬/페이징을 적용한 dealId 조회 쿼리
+     *
+     * <p>fetchJoin을 절대 포함하지 않습니다. (LIMIT/OFFSET이 SQL에 그대로 적용되어야 함)</p>
+     */
+    JPAQuery<Long> buildIdPageQuery(
+            List<BooleanExpression> filters,
+            List<OrderSpecifier<?>> orders,
+            long offset,
+            long limit
+    ) {
+        QDeal deal = QDeal.deal;
+
+        return applyPage(queryFactory.select(deal.dealId).from(deal), filters, orders, offset, limit);
+    }
+
+    /**
+     * 1단계 (정렬 키 포함): dealId와 정렬 키를 함께 조회하는 쿼리
+     *
+     * <p>buildIdPageQuery와 조건/정렬/페이징이 같고 select 절만 다릅니다. 정렬 키는 deal 테이블의 컬럼이므로 조인이 추가되지 않습니다.</p>
+     */
+    JPAQuery<Tuple> buildRowPageQuery(
+            List<BooleanExpression> filters,
+            List<OrderSpecifier<?>> orders,
+            Expression<?> sortKey,
+            long offset,
+            long limit
+    ) {
+        QDeal deal = QDeal.deal;
+
+        return applyPage(queryFactory.select(deal.dealId, sortKey).from(deal), filters, orders, offset, limit);
+    }
+
+    private <T> JPAQuery<T> applyPage(
+            JPAQuery<T> query,
+            List<BooleanExpression> filters,
+            List<OrderSpecifier<?>> orders,
+            long offset,
+            long limit
+    ) {
+        QDeal deal = QDeal.deal;
+
+        return query
                 .where(
                         // List<BooleanExpression>을 Predicate[] 배열로 변환
                         // QueryDSL의 where()는 가변인자(Predicate...)를 받음
@@ -86,29 +162,69 @@ public class DealRepositoryImpl implements DealRepositoryCustom {
                 )
                 .orderBy(
                         // List<OrderSpecifier<?>>를 배열로 변환
-                        // 여러 정렬 조건 적용 가능 (예: heat DESC, createdAt DESC)
+                        // 여러 정렬 조건 적용 가능 (예: heat DESC, dealId DESC)
                         orders.toArray(new OrderSpecifier[0])
                 )
-                .offset(pageable.getOffset())              // 시작 위치 (page * size)
-                .limit(pageable.getPageSize() + 1)         // size+1 조회 (hasNext 판별용)
-                .fetch();
+                .offset(offset)     // 시작 위치 (page * size), 커서 조회는 0
+                .limit(limit);      // size+1 조회 (hasNext 판별용)
+    }
 
-        // ===== hasNext 판별 =====
-        // 조회된 결과가 요청한 size보다 크면 다음 페이지 존재
-        // 예: size=20, 결과=21개 → hasNext=true
-        //     size=20, 결과=15개 → hasNext=false
-        boolean hasNext = deals.size() > pageable.getPageSize();
-
-        // ===== 실제 반환 데이터 =====
-        // hasNext=true면 마지막 1개 제외하고 size개만 반환
-        // 예: 21개 조회 → 0~19번 인덱스(20개) 반환, 20번은 버림
-        // hasNext=false면 조회된 전체 반환
-        List<Deal> content = hasNext
-                ? deals.subList(0, pageable.getPageSize())  // size개만 자르기
-                : deals;                                     // 전체 반환
+    /**
+     * 2단계: ID 목록에 해당하는 딜과 연관 엔티티를 fetchJoin으로 조회하는 쿼리
+     *
+     * <p>컬렉션(discounts)을 fetchJoin하므로 limit/offset을 절대 붙이지 않습니다.
+     * 조회 대상은 1단계에서 이미 페이지 크기로 제한된 ID들입니다.</p>
+     */
+    JPAQuery<Deal> buildFetchByIdsQuery(List<Long> dealIds) {
+        QDeal deal = QDeal.deal;
+
+        return queryFactory
+                .selectFrom(deal)
+                // fetchJoin: 연관 엔티티를 LEFT JOIN으로 한 번에 로드 (N+1 방지)
+                .leftJoin(deal.user).fetchJoin()          // User 즉시 로드
+                .leftJoin(deal.category).fetchJoin()       // Category 즉시 로드
+                .leftJoin(deal.discounts).fetchJoin()      // Discounts 즉시 로드 (컬렉션)
+                .leftJoin(deal.store).fetchJoin()          // Store 즉시 로드
+                .where(deal.dealId.in(dealIds));
+    }
+
+    /**
+     * 딜 ID + 정렬 키 페이지 조회
+     *
+     * <p>검색 결과 표시 데이터는 deal_card에서 PK로 읽으므로 연관 엔티티를 전혀 로드하지 않습니다.
+     * 커서 조회는 커서 조건(정렬 키, dealId)이 filters에 포함되어 offset 0으로 호출되므로
+     * N번째 페이지도 첫 페이지와 같은 비용이 듭니다.</p>
+     *
+     * @param filters QueryDSL BooleanExpression 필터 리스트 (커서 필터 포함 가능)
+     * @param orders QueryDSL OrderSpecifier 정렬 리스트
+     * @param sortKey 함께 조회할 정렬 키 (null이면 dealId만 조회)
+     * @param pageable 페이징 정보 (page, size)
+     * @return Slice (dealId + 정렬 키, hasNext)
+     */
+    @Override
+    public Slice<DealSearchRow> searchRows(
+            List<BooleanExpression> filters,
+            List<OrderSpecifier<?>> orders,
+            Expression<?> sortKey,
+            Pageable pageable
+    ) {
+        long limit = pageable.getPageSize() + 1;
+        List<DealSearchRow> rows;
+
+        if (sortKey == null) {
+            rows = buildIdPageQuery(filters, orders, pageable.getOffset(), limit).fetch().stream()
+                    .map(dealId -> new DealSearchRow(dealId, null))
+                    .toList();
+        } else {
+            QDeal deal = QDeal.deal;
+            rows = buildRowPageQuery(filters, orders, sortKey, pageable.getOffset(), limit).fetch().stream()
+                    .map(tuple -> new DealSearchRow(tuple.get(deal.dealId), tuple.get(sortKey)))
+                    .toList();
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<DealSearchRow> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
 
-        // SliceImpl: Spring Data의 Slice 구현체
-        // content: 실제 데이터, pageable: 페이징 정보, hasNext: 다음 페이지 존재 여부
         return new SliceImpl<>(content, pageable, hasNext);
     }
 }
@@ -0,0 +1,15 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+/**
+ * 검색 1단계(ID 페이지) 조회 결과 한 행
+ *
+ * <p>다음 페이지 커서를 만들 때 딜 엔티티를 다시 읽지 않도록 정렬 키를 함께 조회합니다.</p>
+ *
+ * @param dealId 딜 ID
+ * @param sortKey 정렬 키 값 (createdAt, discountedPrice, hotScore, totalViews 중 하나, 관련도순이면 null)
+ */
+public record DealSearchRow(
+        Long dealId,
+        Object sortKey
+) {
+}
@@ -0,0 +1,106 @@
+package com.cherrypick.backend.domain.deal.domain.service;
+
+import com.cherrypick.backend.domain.deal.domain.entity.Deal;
+import com.cherrypick.backend.domain.deal.domain.entity.DealCard;
+import com.cherrypick.backend.domain.deal.domain.repository.DealCardRepository;
+import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
+import com.cherrypick.backend.domain.image.entity.Image;
+import com.cherrypick.backend.domain.image.enums.ImageType;
+import com.cherrypick.backend.domain.image.repository.ImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 딜 카드(deal_card) 읽기 모델 생성/갱신 서비스
+ *
+ * <p>여러 딜을 한 번에 갱신할 때도 쿼리 수는 딜 개수와 무관하게 고정입니다.</p>
+ * <ol>
+ *     <li>딜 + 작성자/스토어/할인 fetchJoin 조회 (좋아요/댓글 수는 딜의 카운터 컬럼)</li>
+ *     <li>대표 이미지 조회</li>
+ *     <li>기존 카드 PK 조회 후 갱신 또는 신규 저장</li>
+ * </ol>
+ *
+ * <p>내용이 그대로인 카드는 다시 쓰지 않습니다. 재조정이 같은 딜을 반복해서 확인해도 바뀐 행만 UPDATE 됩니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class DealCardProjector {
+
+    private final DealRepository dealRepository;
+    private final DealCardRepository dealCardRepository;
+    private final ImageRepository imageRepository;
+
+    /**
+     * 딜 카드를 현재 딜 데이터로 다시 계산해 저장합니다.
+     *
+     * <p>이벤트 리스너(커밋 이후)에서도 호출되므로 항상 새 트랜잭션에서 실행합니다.</p>
+     *
+     * @param dealIds 갱신할 딜 ID 목록
+     * @return 새로 만들거나 내용이 바뀐 카드 (존재하지 않는 딜, 내용이 같은 카드는 제외)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<DealCard> refresh(Collection<Long> dealIds) {
+        if (dealIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(dealIds));
+
+        List<Deal> deals = dealRepository.findAllForCardByDealIdIn(ids);
+        Map<Long, Image> imageMap = findThumbnails(ids);
+        Map<Long, DealCard> existingCards = dealCardRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(DealCard::getDealId, Function.identity()));
+
+        List<DealCard> changed = new ArrayList<>(deals.size());
+        for (Deal deal : deals) {
+            Long dealId = deal.getDealId();
+            Image thumbnail = imageMap.get(dealId);
+            long likeCount = deal.getLikeCount();
+            long commentCount = deal.getCommentCount();
+
+            DealCard latest = DealCard.from(deal, thumbnail, likeCount, commentCount);
+            DealCard card = existingCards.get(dealId);
+            if (card == null) {
+                changed.add(latest);
+            } else if (!card.hasSameContent(latest)) {
+                card.refresh(deal, thumbnail, likeCount, commentCount);
+                changed.add(card);
+            }
+        }
+
+        return dealCardRepository.saveAll(changed);
+    }
+
+    /**
+     * 딜 카드를 현재 딜 데이터로 계산만 하고 저장하지 않습니다.
+     *
+     * <p>조회 경로에서 아직 카드가 없는 딜을 응답하기 위해 사용합니다. 카드 저장은 DealCardSynchronizer 가 담당합니다.</p>
+     *
+     * @param dealIds 계산할 딜 ID 목록
+     * @return 저장되지 않은 카드 (존재하지 않는 딜은 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<DealCard> project(Collection<Long> dealIds) {
+        if (dealIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(dealIds));
+        Map<Long, Image> imageMap = findThumbnails(ids);
+
+        return dealRepository.findAllForCardByDealIdIn(ids).stream()
+                .map(deal -> DealCard.from(deal, imageMap.get(deal.getDealId()), deal.getLikeCount(), deal.getCommentCount()))
+                .toList();
+    }
+
+    private Map<Long, Image> findThumbnails(List<Long> dealIds) {
+        return imageRepository.findTopImagesByDealIds(dealIds, ImageType.DEAL).stream()
+                .collect(Collectors.toMap(Image::getRefId, img -> img, (a, b) -> a));
+    }
+}
@@ -0,0 +1,224 @@
+package com.cherrypick.backend.domain.deal.domain.service;
+
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
+import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 딜 카드(deal_card) 동기화
+ *
+ * <ul>
+ *     <li>쓰기 경로: 딜 생성/수정/삭제, 투표, 댓글, 이미지 변경 이벤트 수신 시 해당 딜 카드만 갱신 (커밋 이후)</li>
+ *     <li>증분 재조정: 시작 시 1회 + 10분마다 마지막 재조정 이후 수정된(updated_at) 딜과 최근 작성 구간(기본 7일)의 딜만 다시 계산
+ *     (이벤트 유실, 조회수/heat/카운터 변경 반영. 카운터 갱신은 updated_at 을 바꾸지 않으므로 최근 구간은 매번 확인)</li>
+ *     <li>전체 재조정: 하루 1회(기본 05:00) 전체 딜을 청크 단위로 확인 (작성자 닉네임/뱃지 변경, 오래된 딜의 조회수 반영)</li>
+ * </ul>
+ *
+ * <p><b>실행 방식:</b></p>
+ * <ul>
+ *     <li>재조정은 전용 스레드 하나에서 실행합니다. 시작 이벤트 스레드와 스케줄러 스레드(다른 @Scheduled 작업과 공유)를 막지 않습니다.</li>
+ *     <li>여러 인스턴스 중 한 곳만 실행하도록 Redis 락(REPIK:lock:deal_card_reconcile, SET NX PX)을 잡습니다.
+ *     락을 잡지 못하면 이번 회차는 건너뜁니다.</li>
+ *     <li>마지막 재조정 시작 시각은 Redis(REPIK:deal_card:reconciled_at)에 저장해 인스턴스 간에 공유합니다. 값이 없으면 전체 재조정합니다.</li>
+ *     <li>내용이 그대로인 카드는 DealCardProjector 가 다시 쓰지 않습니다.</li>
+ * </ul>
+ *
+ * <p>카드 갱신 실패는 원래 요청을 실패시키지 않으며, 다음 재조정에서 복구됩니다.</p>
+ */
+@Slf4j
+@Component
+public class DealCardSynchronizer {
+
+    private static final int RECONCILE_CHUNK_SIZE = 200;
+
+    private static final String LOCK_KEY = "REPIK:lock:deal_card_reconcile";
+    private static final String WATERMARK_KEY = "REPIK:deal_card:reconciled_at";
+
+    // 실행 중 커밋된 변경과 인스턴스 간 시계 차이를 놓치지 않도록 이전 구간과 겹쳐 읽음
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+
+    // 자신이 잡은 락만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final DealRepository dealRepository;
+    private final DealCardProjector dealCardProjector;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration recentWindow;
+    private final Duration lockTtl;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deal-card-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+    public DealCardSynchronizer(DealRepository dealRepository,
+                                DealCardProjector dealCardProjector,
+                                StringRedisTemplate redisTemplate,
+                                @Value("${deal.card.recent-window-days:7}") int recentWindowDays,
+                                @Value("${deal.card.lock-ttl-minutes:30}") int lockTtlMinutes) {
+        this.dealRepository = dealRepository;
+        this.dealCardProjector = dealCardProjector;
+        this.redisTemplate = redisTemplate;
+        this.recentWindow = Duration.ofDays(recentWindowDays);
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDealChanged(DealChangedEvent event) {
+        try {
+            dealCardProjector.refresh(List.of(event.dealId()));
+        } catch (RuntimeException e) {
+            log.warn("딜 카드 갱신 실패: dealId={}, changeType={}", event.dealId(), event.changeType(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        submit(false);
+    }
+
+    /**
+     * 증분 재조정 (10분 간격)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void reconcile() {
+        submit(false);
+    }
+
+    /**
+     * 전체 재조정 (기본 매일 05:00)
+     */
+    @Scheduled(cron = "${deal.card.full-reconcile-cron:0 0 5 * * *}")
+    public void reconcileAll() {
+        submit(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(boolean full) {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    reconcileWithLock(full);
+                } finally {
+                    reconciling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reconciling.set(false);
+        }
+    }
+
+    private void reconcileWithLock(boolean full) {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTtl))) {
+                log.debug("딜 카드 재조정 건너뜀: 다른 인스턴스가 실행 중");
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("딜 카드 재조정 락 획득 실패", e);
+            return;
+        }
+
+        try {
+            run(full);
+        } finally {
+            try {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+            } catch (RuntimeException e) {
+                log.warn("딜 카드 재조정 락 해제 실패 (TTL 후 만료)", e);
+            }
+        }
+    }
+
+    private void run(boolean full) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastDealId = 0L;
+        int checked = 0;
+        int changed = 0;
+        try {
+            LocalDateTime reconciledAt = full ? null : readWatermark();
+            if (reconciledAt != null) {
+                // 최근 작성 구간은 아래 dealId 순회에서 모두 확인하므로 그 앞의 수정된 딜만 따로 갱신
+                Long firstRecentDealId = dealRepository.findFirstDealIdCreatedSince(startedAt.minus(recentWindow));
+                long recentFrom = firstRecentDealId != null ? firstRecentDealId : Long.MAX_VALUE;
+
+                List<Long> updated = dealRepository.findDealIdsUpdatedSince(reconciledAt.minus(WATERMARK_OVERLAP)).stream()
+                        .filter(dealId -> dealId < recentFrom)
+                        .toList();
+                for (int from = 0; from < updated.size(); from += RECONCILE_CHUNK_SIZE) {
+                    List<Long> chunk = updated.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, updated.size()));
+                    changed += dealCardProjector.refresh(chunk).size();
+                    checked += chunk.size();
+                }
+
+                if (firstRecentDealId == null) {
+                    finish(full, startedAt, checked, changed);
+                    return;
+                }
+                lastDealId = firstRecentDealId - 1;
+            }
+
+            List<Long> chunk;
+            do {
+                chunk = dealRepository.findDealIdsAfter(lastDealId, PageRequest.of(0, RECONCILE_CHUNK_SIZE));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                changed += dealCardProjector.refresh(chunk).size();
+                checked += chunk.size();
+                lastDealId = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == RECONCILE_CHUNK_SIZE);
+
+            finish(full || reconciledAt == null, startedAt, checked, changed);
+        } catch (RuntimeException e) {
+            log.error("딜 카드 재조정 실패: lastDealId={}, 확인 {}건", lastDealId, checked, e);
+        }
+    }
+
+    private void finish(boolean full, LocalDateTime startedAt, int checked, int changed) {
+        redisTemplate.opsForValue().set(WATERMARK_KEY, startedAt.toString());
+        log.info("딜 카드 {} 재조정 완료: 확인 {}건, 갱신 {}건", full ? "전체" : "증분", checked, changed);
+    }
+
+    private LocalDateTime readWatermark() {
+        String value = redisTemplate.opsForValue().get(WATERMARK_KEY);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
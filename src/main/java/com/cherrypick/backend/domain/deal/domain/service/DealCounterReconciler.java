@@ -0,0 +1,56 @@
+package com.cherrypick.backend.domain.deal.domain.service;
+
+import com.cherrypick.backend.domain.deal.domain.repository.DealCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 딜 좋아요/싫어요/댓글 수 카운터 재조정
+ *
+ * <p>카운터는 쓰기 경로에서 원자적으로 증감되지만, 직접 DB 수정이나 배포 중 실패 등으로 원본과 어긋날 수 있습니다.
+ * 주기적으로 dealId 구간(기본 1000건)마다 vote/comment 를 다시 세어 다른 값만 고칩니다.</p>
+ *
+ * <p>구간마다 별도 문장(자동 커밋)으로 실행해 한 번에 잡는 행 잠금을 구간 크기로 제한합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DealCounterReconciler {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final DealCounterRepository dealCounterRepository;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+    /**
+     * 전체 딜 카운터 재조정 (기본 매일 04:30)
+     */
+    @Scheduled(cron = "${deal.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+
+        long afterDealId = 0L;
+        int corrected = 0;
+        try {
+            long maxDealId = dealCounterRepository.findMaxDealId();
+            while (afterDealId < maxDealId) {
+                long toDealId = Math.min(afterDealId + CHUNK_SIZE, maxDealId);
+                corrected += dealCounterRepository.reconcile(afterDealId, toDealId);
+                afterDealId = toDealId;
+            }
+
+            log.info("딜 카운터 재조정 완료: maxDealId={}, 보정 {}건", maxDealId, corrected);
+        } catch (RuntimeException e) {
+            log.error("딜 카운터 재조정 실패: afterDealId={}, 보정 {}건", afterDealId, corrected, e);
+        } finally {
+            reconciling.set(false);
+        }
+    }
+}
@@ -2,23 +2,21 @@ package com.cherrypick.backend.domain.deal.domain.service;
 
 import com.cherrypick.backend.domain.deal.domain.entity.Category;
 import com.cherrypick.backend.domain.deal.domain.enums.ShippingType;
-import com.cherrypick.backend.domain.deal.domain.repository.reference.CategoryRepository;
 import com.cherrypick.backend.domain.deal.domain.entity.Deal;
 import com.cherrypick.backend.domain.deal.domain.entity.vo.PriceVO;
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
 import com.cherrypick.backend.domain.deal.domain.port.DeepLinkConverter;
 import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
 import com.cherrypick.backend.domain.deal.util.ValidUrlUtil;
 import com.cherrypick.backend.domain.deal.domain.entity.Discount;
-import com.cherrypick.backend.domain.deal.domain.repository.reference.DiscountRepository;
 import com.cherrypick.backend.domain.deal.domain.entity.Store;
-import com.cherrypick.backend.domain.deal.domain.repository.reference.StoreRepository;
 import com.cherrypick.backend.domain.user.entity.User;
 import com.cherrypick.backend.domain.user.repository.UserRepository;
 import com.cherrypick.backend.global.exception.BaseException;
-import com.cherrypick.backend.global.exception.enums.DealErrorCode;
 import com.cherrypick.backend.global.exception.enums.GlobalErrorCode;
 import com.cherrypick.backend.global.exception.enums.LinkPriceErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -37,11 +35,10 @@ import java.util.List;
 public class DealCreateService
 {
     private final DealRepository dealRepository;
-    private final StoreRepository storeRepository;
-    private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final DiscountRepository discountRepository;
+    private final DealValidationService validationService;
     private final DeepLinkConverter deepLinkConverter;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -82,14 +79,9 @@ public class DealCreateService
         // 1. 엔티티 검증 및 조회
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new BaseException(GlobalErrorCode.UNAUTHORIZED));
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new BaseException(DealErrorCode.CATEGORY_NOT_FOUND));
-
-        Store store = null;
-        if (storeId != null) {
-            store = storeRepository.findById(storeId)
-                    .orElseThrow(() -> new BaseException(DealErrorCode.STORE_NOT_FOUND));
-        }
+        // 카테고리/스토어/할인은 참조 데이터 스냅샷으로 검증 (DB 조회 없이 프록시 참조)
+        Category category = validationService.getValidatedCategory(categoryId);
+        Store store = validationService.getValidatedStore(storeId);
 
         // 2. 할인 정보 처리
         List<Discount> discounts = processDiscounts(discountIds);
@@ -132,6 +124,9 @@ public class DealCreateService
 
         Deal saved = dealRepository.save(deal);
 
+        // 5. 변경 이벤트 발행 (검색 색인 등 동기화)
+        eventPublisher.publishEvent(DealChangedEvent.created(saved.getDealId()));
+
         return saved.getDealId();
 
     }
@@ -144,16 +139,6 @@ public class DealCreateService
      * @throws BaseException 할인 ID가 존재하지 않는 경우
      */
     private List<Discount> processDiscounts(List<Long> discountIds) {
-        List<Discount> discounts = new ArrayList<>();
-
-        if (discountIds != null && !discountIds.isEmpty()) {
-            List<Discount> foundDiscounts = discountRepository.findAllById(discountIds);
-            if (foundDiscounts.size() != discountIds.size()) {
-                throw new BaseException(DealErrorCode.DISCOUNT_NOT_FOUND);
-            }
-            discounts.addAll(foundDiscounts);
-        }
-
-        return discounts;
+        return new ArrayList<>(validationService.getValidatedDiscounts(discountIds));
     }
 }
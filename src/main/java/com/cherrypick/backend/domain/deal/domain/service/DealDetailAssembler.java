@@ -0,0 +1,130 @@
+package com.cherrypick.backend.domain.deal.domain.service;
+
+import com.cherrypick.backend.domain.deal.adapter.out.UniqueAudienceCounter;
+import com.cherrypick.backend.domain.deal.application.dto.response.DealDetailResponseDTO;
+import com.cherrypick.backend.domain.deal.domain.entity.Deal;
+import com.cherrypick.backend.domain.deal.domain.entity.Discount;
+import com.cherrypick.backend.domain.deal.domain.service.reference.CategoryService;
+import com.cherrypick.backend.domain.deal.domain.service.reference.StoreService;
+import com.cherrypick.backend.domain.deal.util.InfoTagGenerator;
+import com.cherrypick.backend.domain.image.service.ImageService;
+import com.cherrypick.backend.domain.image.vo.ImageUrl;
+import com.cherrypick.backend.domain.user.service.AuthorProfileCache;
+import com.cherrypick.backend.domain.user.vo.AuthorDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 딜 상세 응답 중 조회자와 무관한 부분을 조립하는 서비스
+ *
+ * <p>딜 본문, 이미지, 작성자, 카테고리 계층, 스토어, 투표/댓글 수(카운터 컬럼), 고유 방문자 수는 누가 보든 같으므로
+ * 한 번 조립해 캐시(DealDetailCache)에 보관합니다. 조회자별 값(voteType)은 비워 두고
+ * 호출 측에서 {@link DealDetailResponseDTO#withVoteType}으로 덧씌웁니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class DealDetailAssembler {
+
+    private final DealValidationService dealValidationService;
+    private final CategoryService categoryService;
+    private final StoreService storeService;
+    private final ImageService imageService;
+    private final UniqueAudienceCounter audienceCounter;
+    private final AuthorProfileCache authorProfileCache;
+
+    // 상세 화면 고유 방문자 집계 기간 (오늘 포함)
+    @Value("${deal.audience.detail-window-days:7}")
+    private int audienceWindowDays;
+
+    /**
+     * 조회자와 무관한 딜 상세 응답 조립 (voteType = null)
+     *
+     * @param dealId 딜 ID
+     * @throws com.cherrypick.backend.global.exception.BaseException 딜이 없는 경우 (DEAL_NOT_FOUND)
+     */
+    @Transactional(readOnly = true)
+    public DealDetailResponseDTO assemble(Long dealId) {
+
+        // 1. Deal 유효성 검증 및 조회 ✅
+        Deal deal = dealValidationService.getValidatedDeal(dealId);
+
+        // 2. 고유 방문자 수 (Redis PFCOUNT 한 번)
+        LocalDate today = LocalDate.now();
+        UniqueAudienceCounter.AudienceCounts audience =
+                audienceCounter.countDeal(dealId, today.minusDays(audienceWindowDays - 1L), today);
+
+        // 3. 카테고리 계층 불러오기 (메모리 조회) ✅
+        Long categoryId = deal.getCategory().getCategoryId();
+        List<String> categoryNames = categoryService.getCategoryHierarchy(categoryId);
+
+        // 4. 게시자 정보 불러오기 (닉네임/배지/프로필 이미지, 작성자 프로필 캐시)
+        AuthorDTO authorDTO = authorProfileCache.get(deal.getUser());
+
+        // 5. 스토어 정보 불러오기
+        DealDetailResponseDTO.StoreVO storeVO = storeService.getStoreInfo(deal);
+
+        // 6. 할인정보 불러오기
+        List<Long> discountIds = getDiscountIds(deal);
+
+        // 7. 인포 태그 생성
+        List<String> infoTags = InfoTagGenerator.getInfoTags(deal);
+
+        // 8. 이미지 조회
+        List<ImageUrl> imageUrls = imageService.getImages(dealId);
+
+        // 9. DTO 조합 반환
+        return new DealDetailResponseDTO(
+                deal.getDealId(),
+                imageUrls,
+                authorDTO,
+                storeVO,
+                categoryNames,
+                deal.getTitle(),
+                infoTags,
+                deal.getShippingType(),
+                deal.getPrice(),
+                deal.getContent(),
+                deal.getDiscountDescription(),
+                deal.getHeat(),
+                deal.getTotalViews(),
+                (int) deal.getLikeCount(),      // 투표/댓글 수는 딜의 카운터 컬럼 (집계 쿼리 없음)
+                (int) deal.getDislikeCount(),
+                (int) deal.getCommentCount(),
+                deal.getOriginalUrl(),
+                deal.getDeepLink(),
+                deal.isSoldOut(),
+                null,
+                categoryId,
+                deal.getStore() != null ? deal.getStore().getStoreId() : null,
+                discountIds,
+                deal.getDiscountName(),
+                new DealDetailResponseDTO.AudienceVO(
+                        audienceWindowDays,
+                        audience.viewers(),
+                        audience.buyers(),
+                        audience.sharers()
+                )
+        );
+    }
+
+    /**
+     * Deal에 연결된 할인 정보 ID 목록 조회
+     *
+     * @param deal 딜 엔티티
+     * @return 할인 ID 목록 (할인이 없는 경우 빈 리스트)
+     */
+    private List<Long> getDiscountIds(Deal deal) {
+        if (deal.getDiscounts() == null || deal.getDiscounts().isEmpty()) {
+            return List.of();
+        }
+
+        return deal.getDiscounts().stream()
+                .map(Discount::getDiscountId)
+                .toList();
+    }
+}
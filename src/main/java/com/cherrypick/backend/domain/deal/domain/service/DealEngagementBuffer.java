@@ -0,0 +1,161 @@
+package com.cherrypick.backend.domain.deal.domain.service;
+
+import com.cherrypick.backend.domain.deal.domain.repository.DealEngagementRepository;
+import com.cherrypick.backend.domain.deal.domain.repository.DealEngagementRepository.EngagementDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 딜 조회수/heat 쓰기 지연(write-behind) 버퍼
+ *
+ * <p>조회(+1 조회수, +0.1 heat), 구매/공유 클릭(+2.0 heat)마다 deal 행을 UPDATE하면
+ * 인기 딜 한 행에 행 잠금 경합이 몰립니다. 증가분을 메모리에 모았다가 몇 초마다 한 문장으로 반영합니다.</p>
+ *
+ * <p><b>동작 방식:</b></p>
+ * <ul>
+ *     <li>기록: dealId별 LongAdder/DoubleAdder에 더함 (셀 단위로 분산되어 같은 딜에 동시 기록해도 경합이 적음)</li>
+ *     <li>반영: 주기적으로 버퍼를 새 맵으로 교체한 뒤, 이전 맵의 증가분을 sumThenReset으로 꺼내 CASE UPDATE로 일괄 반영</li>
+ *     <li>실패: 반영하지 못한 증가분은 버퍼에 다시 합쳐 다음 주기에 재시도</li>
+ *     <li>종료: 빈 소멸 시 남은 증가분을 모두 반영 (server.shutdown=graceful 로 요청 처리 완료 후 실행)</li>
+ * </ul>
+ *
+ * <p>기록 경로에는 잠금이 없습니다. (모든 요청이 공유하는 잠금은 그 자체로 경합 지점이 되어 Adder 분산이 무의미해짐)
+ * 교체 직전에 이전 맵을 읽은 기록은 교체 뒤 이전 맵에 더해질 수 있으므로, 교체한 맵은 다음 주기에 한 번 더 비웁니다.
+ * sumThenReset은 셀마다 값을 원자적으로 0으로 바꾸므로 두 번 비워도 중복 반영되지 않습니다.</p>
+ *
+ * <p>프로세스가 비정상 종료되면 마지막 반영 이후 증가분(최대 반영 주기만큼)은 유실될 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+public class DealEngagementBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final DealEngagementRepository engagementRepository;
+    private final Counter flushFailureCounter;
+
+    private volatile Map<Long, Pending> buffer = new ConcurrentHashMap<>();
+
+    // 직전 주기에 교체한 맵 (늦게 더해진 증가분 확인용, flush 에서만 접근)
+    private Map<Long, Pending> retired = Map.of();
+
+    public DealEngagementBuffer(DealEngagementRepository engagementRepository, MeterRegistry meterRegistry) {
+        this.engagementRepository = engagementRepository;
+        this.flushFailureCounter = Counter.builder("deal.engagement.flush.failure").register(meterRegistry);
+
+        // 아직 DB에 반영되지 않은 딜 수 (반영 지연/실패 감시용)
+        Gauge.builder("deal.engagement.backlog", this, DealEngagementBuffer::backlog)
+                .description("반영 대기 중인 딜 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 1회 기록 (조회수 +1, heat +0.1)
+     */
+    public void recordView(Long dealId) {
+        record(dealId, 1L, 0.1);
+    }
+
+    /**
+     * heat 증가분 기록 (구매/공유 클릭 등)
+     */
+    public void addHeat(Long dealId, double amount) {
+        record(dealId, 0L, amount);
+    }
+
+    /**
+     * 반영 대기 중인 딜 수
+     */
+    public int backlog() {
+        return buffer.size();
+    }
+
+    /**
+     * 모인 증가분을 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${deal.engagement.flush-interval-ms:3000}")
+    public synchronized void flush() {
+        Map<Long, Pending> previous = retired;
+        Map<Long, Pending> drained = buffer;
+        if (drained.isEmpty()) {
+            drained = Map.of();
+        } else {
+            buffer = new ConcurrentHashMap<>();
+        }
+        retired = drained;
+
+        Map<Long, EngagementDelta> deltas = new LinkedHashMap<>();
+        previous.forEach((dealId, pending) -> pending.drainTo(dealId, deltas));
+        drained.forEach((dealId, pending) -> pending.drainTo(dealId, deltas));
+
+        Map<Long, EngagementDelta> chunk = new LinkedHashMap<>();
+        for (Map.Entry<Long, EngagementDelta> entry : deltas.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == FLUSH_CHUNK_SIZE) {
+                apply(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        apply(chunk);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush();
+        if (backlog() > 0) {
+            log.error("종료 시 딜 조회수/heat 반영 실패: {}건 유실", backlog());
+        }
+    }
+
+    private void record(Long dealId, long views, double heat) {
+        Pending pending = buffer.computeIfAbsent(dealId, id -> new Pending());
+        if (views != 0) {
+            pending.views.add(views);
+        }
+        if (heat != 0) {
+            pending.heat.add(heat);
+        }
+    }
+
+    private void apply(Map<Long, EngagementDelta> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            engagementRepository.applyDeltas(chunk);
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.warn("딜 조회수/heat 반영 실패, 다음 주기에 재시도: {}건", chunk.size(), e);
+            chunk.forEach((dealId, delta) -> record(dealId, delta.views(), delta.heat()));
+        }
+    }
+
+    private static final class Pending {
+
+        private final LongAdder views = new LongAdder();
+        private final DoubleAdder heat = new DoubleAdder();
+
+        private void drainTo(Long dealId, Map<Long, EngagementDelta> deltas) {
+            long drainedViews = views.sumThenReset();
+            double drainedHeat = heat.sumThenReset();
+            if (drainedViews == 0 && drainedHeat == 0) {
+                return;
+            }
+            deltas.merge(dealId, new EngagementDelta(drainedViews, drainedHeat),
+                    (a, b) -> new EngagementDelta(a.views() + b.views(), a.heat() + b.heat()));
+        }
+    }
+}
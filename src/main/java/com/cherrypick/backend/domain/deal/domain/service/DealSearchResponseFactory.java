@@ -1,92 +1,119 @@
 package com.cherrypick.backend.domain.deal.domain.service;
 
-import com.cherrypick.backend.domain.comment.repository.CommentRepository;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchPageResponseDTO;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchResponseDTO;
-import com.cherrypick.backend.domain.deal.domain.entity.Deal;
-import com.cherrypick.backend.domain.deal.util.InfoTagGenerator;
-import com.cherrypick.backend.domain.image.entity.Image;
-import com.cherrypick.backend.domain.image.enums.ImageType;
-import com.cherrypick.backend.domain.image.repository.ImageRepository;
+import com.cherrypick.backend.domain.deal.domain.entity.DealCard;
+import com.cherrypick.backend.domain.deal.domain.repository.DealCardRepository;
 import com.cherrypick.backend.domain.image.vo.ImageUrl;
-import com.cherrypick.backend.domain.deal.domain.entity.Store;
-import com.cherrypick.backend.domain.user.entity.User;
 import com.cherrypick.backend.domain.vote.enums.VoteType;
-import com.cherrypick.backend.domain.vote.repository.VoteRepository;
+import com.cherrypick.backend.domain.vote.service.VoteService;
+import com.cherrypick.backend.global.util.AuthUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
- * Deal 엔티티를 검색 결과 DTO로 변환하는 팩토리 서비스
+ * 검색된 딜을 검색 결과 DTO로 변환하는 팩토리 서비스
  *
- * <p>검색된 Deal 리스트에 연관 데이터(좋아요, 댓글, 이미지)를 조회하여
- * 응답 DTO로 변환합니다. User, Store, Category는 fetchJoin으로 이미 로드되어 있습니다.</p>
+ * <p>검색 API는 연관 데이터가 미리 계산된 deal_card 읽기 모델을 PK로 읽어 변환합니다. ({@link #fromCards})</p>
+ *
+ * <p>fromCards 결과는 조회자와 무관(voteType = NONE)해 캐시할 수 있으며,
+ * 로그인 사용자의 투표 상태는 캐시 이후 {@link #attachVoteTypes}로 페이지당 IN 쿼리 1회로 덧씌웁니다.</p>
  */
 @Service @RequiredArgsConstructor
 public class DealSearchResponseFactory
 {
-    private final VoteRepository voteRepository;
-    private final CommentRepository commentRepository;
-    private final ImageRepository imageRepository;
+    private final DealCardRepository dealCardRepository;
+    private final DealCardProjector dealCardProjector;
+    private final VoteService voteService;
 
     /**
-     * Deal 리스트에 연관 데이터를 로드하여 검색 응답 DTO로 변환
+     * 딜 ID 목록을 deal_card 읽기 모델로 검색 응답 DTO로 변환
+     *
+     * <p>카드는 PK로만 조회하며 조인/집계/이미지 조회/인포 태그 계산이 없습니다.
+     * 아직 카드가 만들어지지 않은 딜(재조정 전, 이벤트 유실)은 원본 딜에서 카드 내용을 계산해 응답만 하고 저장하지 않습니다.
+     * 조회 경로에서는 쓰지 않으며, 빠진 카드는 DealCardSynchronizer 재조정이 채웁니다.</p>
      *
-     * @param deals fetchJoin으로 User, Store, Category가 로드된 Deal 리스트
+     * @param dealIds 정렬된 딜 ID 리스트 (검색 1단계 결과)
      * @param hasNext 다음 페이지 존재 여부
-     * @return 검색 결과 페이지 응답 DTO
+     * @return 검색 결과 페이지 응답 DTO (dealIds 순서 유지)
      */
-    public DealSearchPageResponseDTO loadRelations(List<Deal> deals, boolean hasNext)
+    public DealSearchPageResponseDTO fromCards(List<Long> dealIds, boolean hasNext)
     {
-        if (deals.isEmpty()) {
-            return new DealSearchPageResponseDTO(List.of(), false);
+        if (dealIds.isEmpty()) {
+            return new DealSearchPageResponseDTO(List.of(), hasNext);
         }
 
-        List<Long> dealIds = deals.stream().map(Deal::getDealId).toList();
+        Map<Long, DealCard> cardMap = dealCardRepository.findAllById(dealIds).stream()
+                .collect(Collectors.toMap(DealCard::getDealId, Function.identity()));
 
-        // 좋아요 수 일괄 조회 (IN 쿼리)
-        Map<Long, Long> likeCountMap = voteRepository.countByDealIdsAndVoteTypeGrouped(dealIds, VoteType.TRUE);
+        // 카드가 없는 딜은 원본에서 계산만 (저장 X)
+        List<Long> missingIds = new ArrayList<>();
+        for (Long dealId : dealIds) {
+            if (!cardMap.containsKey(dealId)) {
+                missingIds.add(dealId);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            dealCardProjector.project(missingIds).forEach(card -> cardMap.put(card.getDealId(), card));
+        }
 
-        // 댓글 수 일괄 조회 (IN 쿼리)
-        Map<Long, Long> commentCountMap = commentRepository.countByDealIdsGrouped(dealIds);
+        List<DealSearchResponseDTO> responseList = dealIds.stream()
+                .map(cardMap::get)
+                .filter(card -> card != null && !card.isDelete())
+                .map(card -> new DealSearchResponseDTO(
+                        card.getDealId(),
+                        card.getThumbnailImageId() != null
+                                ? new ImageUrl(card.getThumbnailImageId(), card.getThumbnailUrl(), card.getThumbnailIndex())
+                                : null,
+                        card.getTitle(),
+                        card.getStoreName(),
+                        card.getInfoTags(),
+                        card.getPrice(),
+                        card.getNickname(),
+                        card.getBadgeId(),
+                        card.getCreatedAt().toString(),
+                        card.getHeat(),
+                        (int) card.getLikeCount(),
+                        (int) card.getCommentCount(),
+                        card.isSoldOut(),
+                        VoteType.NONE
+                ))
+                .toList();
 
-        // 대표 이미지 일괄 조회 (IN 쿼리)
-        Map<Long, Image> imageMap = imageRepository.findTopImagesByDealIds(dealIds, ImageType.DEAL).stream()
-                .collect(Collectors.toMap(Image::getRefId, img -> img, (a, b) -> a));
+        return new DealSearchPageResponseDTO(responseList, hasNext);
+    }
 
-        // Deal → DTO 변환
-        List<DealSearchResponseDTO> responseList = deals.stream().map(deal -> {
-            Long dealId = deal.getDealId();
-            long likeCount = likeCountMap.getOrDefault(dealId, 0L);
-            long commentCount = commentCountMap.getOrDefault(dealId, 0L);
-            Image image = imageMap.get(dealId);
+    /**
+     * 로그인 사용자의 투표 상태를 각 딜에 덧씌웁니다.
+     *
+     * <p>비로그인 요청은 조회/복사 없이 그대로 반환합니다. (모든 딜 NONE)
+     * 캐시된 페이지를 수정하지 않도록 투표한 딜만 새 DTO로 교체한 새 페이지를 반환합니다.</p>
+     *
+     * @param page 조회자와 무관한 검색 결과 페이지
+     * @return 투표 상태가 반영된 페이지
+     */
+    public DealSearchPageResponseDTO attachVoteTypes(DealSearchPageResponseDTO page)
+    {
+        if (!AuthUtil.isAuthenticated() || page.deals().isEmpty()) {
+            return page;
+        }
 
-            // fetchJoin으로 이미 로드된 데이터 사용 (추가 쿼리 없음)
-            User user = deal.getUser();
-            Store store = deal.getStore();
+        List<Long> dealIds = page.deals().stream().map(DealSearchResponseDTO::getDealId).toList();
+        Map<Long, VoteType> voteTypes = voteService.getUserVotes(AuthUtil.getUserDetail().userId(), dealIds);
+        if (voteTypes.isEmpty()) {
+            return page;
+        }
 
-            return new DealSearchResponseDTO(
-                    dealId,
-                    image != null ? new ImageUrl(image.getImageId(), image.getImageUrl(), image.getImageIndex()) : null,
-                    deal.getTitle(),
-                    store != null ? store.getName() : deal.getStoreName(),
-                    InfoTagGenerator.getInfoTags(deal),
-                    deal.getPrice(),
-                    user != null ? user.getNickname() : null,
-                    user != null ? user.getBadge().getBadgeId() : null,
-                    deal.getCreatedAt().toString(),
-                    deal.getHeat(),
-                    (int) likeCount,
-                    (int) commentCount,
-                    deal.isSoldOut()
-            );
-        }).toList();
+        List<DealSearchResponseDTO> deals = page.deals().stream()
+                .map(dto -> dto.withVoteType(voteTypes.getOrDefault(dto.getDealId(), VoteType.NONE)))
+                .toList();
 
-        return new DealSearchPageResponseDTO(responseList, hasNext);
+        return new DealSearchPageResponseDTO(deals, page.hasNext(), page.nextCursor());
     }
-
-}
\ No newline at end of file
+}
@@ -9,6 +9,7 @@ import com.cherrypick.backend.domain.deal.domain.entity.Discount;
 import com.cherrypick.backend.domain.deal.domain.repository.reference.DiscountRepository;
 import com.cherrypick.backend.domain.deal.domain.entity.Store;
 import com.cherrypick.backend.domain.deal.domain.repository.reference.StoreRepository;
+import com.cherrypick.backend.domain.deal.domain.service.reference.ReferenceDataRegistry;
 import com.cherrypick.backend.global.exception.BaseException;
 import com.cherrypick.backend.global.exception.enums.DealErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,9 @@ import java.util.List;
  * - 엔티티 존재 여부 검증
  * - 비즈니스 규칙 검증
  * - 엔티티 조회 및 검증
+ *
+ * 카테고리/할인/스토어 존재 여부는 ReferenceDataRegistry 스냅샷으로 확인하고 DB를 조회하지 않는다.
+ * 엔티티가 필요한 경우(딜 생성/수정)에도 존재 확인 후 getReferenceById 프록시를 반환하므로 SELECT가 발생하지 않는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,6 +34,7 @@ public class DealValidationService {
     private final DiscountRepository discountRepository;
     private final StoreRepository storeRepository;
     private final DealRepository dealRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /**
      * 딜 존재 여부 검증 및 조회
@@ -53,7 +58,7 @@ public class DealValidationService {
      * @throws BaseException 카테고리가 존재하지 않는 경우 (CATEGORY_NOT_FOUND)
      */
     public void validateCategoryExists(Long categoryId) {
-        if (categoryId != null && !categoryRepository.existsById(categoryId)) {
+        if (categoryId != null && !referenceDataRegistry.current().hasCategory(categoryId)) {
             throw new BaseException(DealErrorCode.CATEGORY_NOT_FOUND);
         }
     }
@@ -74,12 +79,7 @@ public class DealValidationService {
         validateDiscountIds(discountIds);
 
         // 존재 여부 검증
-        List<Long> foundDiscountIds = discountRepository.findAllById(discountIds)
-                .stream()
-                .map(Discount::getDiscountId)
-                .toList();
-
-        if (foundDiscountIds.size() != discountIds.size()) {
+        if (!referenceDataRegistry.current().hasAllDiscounts(discountIds)) {
             throw new BaseException(DealErrorCode.DISCOUNT_NOT_FOUND);
         }
     }
@@ -95,12 +95,7 @@ public class DealValidationService {
             return;
         }
 
-        List<Long> foundStoreIds = storeRepository.findAllById(storeIds)
-                .stream()
-                .map(Store::getStoreId)
-                .toList();
-
-        if (foundStoreIds.size() != storeIds.size()) {
+        if (!referenceDataRegistry.current().hasAllStores(storeIds)) {
             throw new BaseException(DealErrorCode.STORE_NOT_FOUND);
         }
     }
@@ -113,8 +108,11 @@ public class DealValidationService {
      * @throws BaseException 카테고리가 존재하지 않는 경우 (CATEGORY_NOT_FOUND)
      */
     public Category getValidatedCategory(Long categoryId) {
-        return categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new BaseException(DealErrorCode.CATEGORY_NOT_FOUND));
+        if (!referenceDataRegistry.current().hasCategory(categoryId)) {
+            throw new BaseException(DealErrorCode.CATEGORY_NOT_FOUND);
+        }
+
+        return categoryRepository.getReferenceById(categoryId);
     }
 
     /**
@@ -129,13 +127,13 @@ public class DealValidationService {
             return List.of();
         }
 
-        List<Discount> foundDiscounts = discountRepository.findAllById(discountIds);
-
-        if (foundDiscounts.size() != discountIds.size()) {
+        if (!referenceDataRegistry.current().hasAllDiscounts(discountIds)) {
             throw new BaseException(DealErrorCode.DISCOUNT_NOT_FOUND);
         }
 
-        return foundDiscounts;
+        return discountIds.stream()
+                .map(discountRepository::getReferenceById)
+                .toList();
     }
 
     /**
@@ -150,8 +148,11 @@ public class DealValidationService {
             return null;
         }
 
-        return storeRepository.findById(storeId)
-                .orElseThrow(() -> new BaseException(DealErrorCode.STORE_NOT_FOUND));
+        if (!referenceDataRegistry.current().hasStore(storeId)) {
+            throw new BaseException(DealErrorCode.STORE_NOT_FOUND);
+        }
+
+        return storeRepository.getReferenceById(storeId);
     }
 
     /**
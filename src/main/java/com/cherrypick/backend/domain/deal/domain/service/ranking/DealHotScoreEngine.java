@@ -0,0 +1,125 @@
+package com.cherrypick.backend.domain.deal.domain.service.ranking;
+
+import com.cherrypick.backend.domain.deal.adapter.out.UniqueAudienceCounter;
+import com.cherrypick.backend.domain.deal.domain.repository.DealHotScoreRepository;
+import com.cherrypick.backend.domain.deal.domain.repository.DealHotScoreRepository.HotScoreSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 딜 인기 점수(hot_score) 주기 재계산
+ *
+ * <p>인기순 정렬(SortType.POPULARITY)은 요청마다 점수를 계산하지 않고 이 작업이 저장한 hot_score 를 인덱스로 정렬합니다.</p>
+ *
+ * <ul>
+ *     <li>활성 구간(기본 최근 7일)의 삭제되지 않은 딜만 구간 첫 dealId 부터 dealId 순 청크(500건)로 처리합니다.</li>
+ *     <li>좋아요/싫어요/조회수는 딜 카운터 컬럼, 구매/공유는 UniqueAudienceCounter(HLL) 고유 기기 수를 사용합니다.</li>
+ *     <li>청크마다 Redis PFCOUNT 는 파이프라인 한 번, DB 반영은 CASE 식 UPDATE 한 문장입니다.</li>
+ *     <li>활성 구간을 벗어난 딜은 hot_score 를 0 으로 내립니다. 마지막 점수가 남으면 재계산 없이 상단에 고정되기 때문입니다.</li>
+ * </ul>
+ *
+ * <p>새 딜은 다음 실행(기본 5분) 전까지 hot_score = 0 입니다.</p>
+ */
+@Slf4j
+@Component
+public class DealHotScoreEngine {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final DealHotScoreRepository hotScoreRepository;
+    private final UniqueAudienceCounter audienceCounter;
+    private final HotScoreCalculator calculator;
+    private final Duration activeWindow;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DealHotScoreEngine(DealHotScoreRepository hotScoreRepository,
+                              UniqueAudienceCounter audienceCounter,
+                              @Value("${deal.hot-score.gravity:1.5}") double gravity,
+                              @Value("${deal.hot-score.active-window-days:7}") int activeWindowDays) {
+        this.hotScoreRepository = hotScoreRepository;
+        this.audienceCounter = audienceCounter;
+        this.calculator = new HotScoreCalculator(gravity);
+        this.activeWindow = Duration.ofDays(activeWindowDays);
+    }
+
+    /**
+     * 활성 구간 딜의 hot_score 재계산 (기본 5분 간격)
+     */
+    @Scheduled(fixedDelayString = "${deal.hot-score.interval-ms:300000}", initialDelay = 60_000)
+    public void recompute() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minus(activeWindow);
+        long lastDealId = 0L;
+        int updated = 0;
+        int expired = 0;
+        try {
+            expired = resetExpired(since);
+
+            Optional<Long> firstDealId = hotScoreRepository.findFirstActiveDealId(since);
+            if (firstDealId.isEmpty()) {
+                log.debug("딜 인기 점수 재계산 대상 없음: 만료 {}건", expired);
+                return;
+            }
+            lastDealId = firstDealId.get() - 1;
+
+            List<HotScoreSource> chunk;
+            do {
+                chunk = hotScoreRepository.findActiveAfter(since, lastDealId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                updated += hotScoreRepository.updateScores(score(chunk, since, now));
+                lastDealId = chunk.get(chunk.size() - 1).dealId();
+            } while (chunk.size() == CHUNK_SIZE);
+
+            log.debug("딜 인기 점수 재계산 완료: {}건, 만료 {}건", updated, expired);
+        } catch (RuntimeException e) {
+            log.error("딜 인기 점수 재계산 실패: lastDealId={}", lastDealId, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int resetExpired(LocalDateTime since) {
+        int total = 0;
+        int reset;
+        do {
+            reset = hotScoreRepository.resetExpiredScores(since, CHUNK_SIZE);
+            total += reset;
+        } while (reset == CHUNK_SIZE);
+        return total;
+    }
+
+    private Map<Long, Double> score(List<HotScoreSource> chunk, LocalDateTime since, LocalDateTime now) {
+        List<Long> dealIds = chunk.stream().map(HotScoreSource::dealId).toList();
+        Map<Long, UniqueAudienceCounter.AudienceCounts> audience =
+                audienceCounter.countDeals(dealIds, since.toLocalDate(), now.toLocalDate());
+
+        Map<Long, Double> scores = new LinkedHashMap<>(chunk.size() * 2);
+        for (HotScoreSource source : chunk) {
+            UniqueAudienceCounter.AudienceCounts counts =
+                    audience.getOrDefault(source.dealId(), UniqueAudienceCounter.AudienceCounts.EMPTY);
+
+            HotScoreCalculator.Signals signals = new HotScoreCalculator.Signals(
+                    source.likes(), source.dislikes(), source.views(), counts.buyers(), counts.sharers());
+            scores.put(source.dealId(), calculator.score(signals, Duration.between(source.createdAt(), now)));
+        }
+        return scores;
+    }
+}
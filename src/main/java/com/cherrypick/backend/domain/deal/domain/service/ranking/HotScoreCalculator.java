@@ -0,0 +1,65 @@
+package com.cherrypick.backend.domain.deal.domain.service.ranking;
+
+import java.time.Duration;
+
+/**
+ * 딜 인기 점수 계산기 (시간 감쇠)
+ *
+ * <p>반응 점수를 경과 시간의 거듭제곱으로 나누어, 같은 반응이라도 오래된 딜일수록 점수가 낮아지게 합니다.</p>
+ *
+ * <pre>
+ * points = 좋아요 - 싫어요 + 2 × 구매 클릭 + 2 × 공유 + log10(1 + 조회수)
+ * score  = points / (경과 시간(h) + 2) ^ gravity
+ * </pre>
+ *
+ * <ul>
+ *     <li>구매/공유 가중치는 클릭 로그가 heat 에 더하던 값(2)과 같습니다.</li>
+ *     <li>조회수는 로그 스케일로 반영해 조회수만 많은 딜이 투표를 압도하지 않게 합니다.</li>
+ *     <li>gravity 가 클수록 빨리 식습니다. (기본 1.5)</li>
+ * </ul>
+ */
+public class HotScoreCalculator {
+
+    static final double LIKE_WEIGHT = 1.0;
+    static final double DISLIKE_WEIGHT = 1.0;
+    static final double PURCHASE_WEIGHT = 2.0;
+    static final double SHARE_WEIGHT = 2.0;
+    static final double AGE_OFFSET_HOURS = 2.0;
+
+    private final double gravity;
+
+    public HotScoreCalculator(double gravity) {
+        if (gravity <= 0) {
+            throw new IllegalArgumentException("gravity must be positive: " + gravity);
+        }
+        this.gravity = gravity;
+    }
+
+    /**
+     * 딜 하나의 인기 점수
+     *
+     * @param signals 누적 반응 수
+     * @param age 딜 작성 후 경과 시간 (음수면 0으로 취급)
+     */
+    public double score(Signals signals, Duration age) {
+        double points = LIKE_WEIGHT * signals.likes()
+                - DISLIKE_WEIGHT * signals.dislikes()
+                + PURCHASE_WEIGHT * signals.purchases()
+                + SHARE_WEIGHT * signals.shares()
+                + Math.log10(1 + Math.max(0, signals.views()));
+
+        double ageHours = Math.max(0, age.toMinutes()) / 60.0;
+        return points / Math.pow(ageHours + AGE_OFFSET_HOURS, gravity);
+    }
+
+    /**
+     * 딜 하나의 반응 신호
+     *
+     * @param likes 좋아요 수
+     * @param dislikes 싫어요 수
+     * @param views 조회수
+     * @param purchases 구매 버튼 클릭 고유 기기 수
+     * @param shares 공유 클릭 고유 기기 수
+     */
+    public record Signals(long likes, long dislikes, long views, long purchases, long shares) {}
+}
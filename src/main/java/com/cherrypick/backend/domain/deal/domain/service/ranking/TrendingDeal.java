@@ -0,0 +1,10 @@
+package com.cherrypick.backend.domain.deal.domain.service.ranking;
+
+/**
+ * 급상승 딜
+ *
+ * @param dealId 딜 ID
+ * @param score 급상승 점수 (최근 5분 반응의 z-score)
+ * @param recentWeight 최근 5분 반응 가중치 합
+ */
+public record TrendingDeal(long dealId, double score, double recentWeight) {}
@@ -0,0 +1,263 @@
+package com.cherrypick.backend.domain.deal.domain.service.ranking;
+
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 실시간 급상승 딜 감지 (분 단위 슬라이딩 윈도우)
+ *
+ * <p>조회/투표/댓글/구매/공유 신호를 분 단위로 모아 딜별 최근 60분 링 버퍼(TrendingWindow)에 반영하고,
+ * 최근 5분이 평소(직전 55분)보다 얼마나 많은지를 z-score 로 계산해 상위 K개를 스냅샷으로 보관합니다.
+ * 조회 API는 스냅샷을 그대로 읽으므로 O(K) 입니다.</p>
+ *
+ * <p><b>인스턴스 간 공유:</b></p>
+ * <ul>
+ *     <li>요청 스레드는 현재 분 버킷의 DoubleAdder 에 더하기만 합니다. (락/IO 없음)</li>
+ *     <li>매 분 5초에 지난 분 버킷을 꺼내 {@code REPIK:trending:minute:{epochMinute}} 해시에 HINCRBYFLOAT 로 합산합니다. (파이프라인 1회, 2시간 후 만료)</li>
+ *     <li>이어서 2분 전까지의 분 해시를 HGETALL 로 읽어 윈도우에 반영합니다. 다른 인스턴스의 flush 가 늦어도 1분의 여유가 있습니다.</li>
+ *     <li>Redis 장애 시 꺼낸 버킷을 로컬 윈도우에만 반영합니다. (이 인스턴스의 신호만으로 동작)</li>
+ * </ul>
+ *
+ * <p>삭제된 딜은 삭제 이벤트를 받은 뒤 60분 동안 윈도우에서 빼고 스냅샷에 올리지 않습니다.
+ * 삭제 이벤트는 삭제를 처리한 인스턴스에서만 발행되므로, 다른 인스턴스에서는 신호가 끊겨 점수가 떨어질 때까지 남을 수 있습니다.</p>
+ *
+ * <p>통계 용도이므로 신호 기록과 집계 오류는 요청을 실패시키지 않습니다.
+ * 버킷을 꺼내는 순간 기록 중이던 신호 몇 건은 유실될 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+public class TrendingEngine {
+
+    private static final String KEY_PREFIX = "REPIK:trending:minute:";
+    private static final long KEY_TTL_SECONDS = Duration.ofHours(2).toSeconds();
+
+    // 다른 인스턴스의 flush 를 기다리는 분 수 (현재 분 - 2 까지만 병합)
+    private static final int MERGE_LAG_MINUTES = 2;
+
+    /**
+     * 급상승 신호와 가중치
+     */
+    public enum Signal {
+        VIEW(1.0),
+        COMMENT(2.0),
+        VOTE(3.0),
+        SHARE(4.0),
+        PURCHASE(5.0);
+
+        private final double weight;
+
+        Signal(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final int topK;
+    private final double minRecentWeight;
+
+    // epochMinute → dealId → 가중치 합
+    private final Map<Long, Map<Long, DoubleAdder>> pending = new ConcurrentHashMap<>();
+
+    // dealId → 삭제된 분
+    private final Map<Long, Long> deletedDealIds = new ConcurrentHashMap<>();
+
+    // tick() 스레드에서만 접근
+    private final TrendingWindow window = new TrendingWindow();
+    private long lastMergedMinute;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile List<TrendingDeal> snapshot = List.of();
+
+    public TrendingEngine(StringRedisTemplate redisTemplate,
+                          @Value("${deal.trending.top-k:50}") int topK,
+                          @Value("${deal.trending.min-recent-weight:5}") double minRecentWeight) {
+        this.redisTemplate = redisTemplate;
+        this.topK = topK;
+        this.minRecentWeight = minRecentWeight;
+        this.lastMergedMinute = currentMinute() - TrendingWindow.WINDOW_MINUTES;
+    }
+
+    /**
+     * 신호를 현재 분 버킷에 기록합니다.
+     */
+    public void record(Long dealId, Signal signal) {
+        if (dealId == null) {
+            return;
+        }
+
+        pending.computeIfAbsent(currentMinute(), minute -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dealId, id -> new DoubleAdder())
+                .add(signal.weight);
+    }
+
+    /**
+     * 현재 급상승 딜 (점수 내림차순, 최대 top-k 개)
+     */
+    public List<TrendingDeal> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 투표/댓글 변경을 신호로 기록하고, 삭제된 딜은 다음 tick 에 윈도우에서 제거 (커밋 이후, 트랜잭션이 없으면 즉시 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDealChanged(DealChangedEvent event) {
+        switch (event.changeType()) {
+            case VOTED -> record(event.dealId(), Signal.VOTE);
+            case COMMENTED -> record(event.dealId(), Signal.COMMENT);
+            case DELETED -> {
+                if (event.dealId() != null) {
+                    deletedDealIds.put(event.dealId(), currentMinute());
+                }
+            }
+            default -> { }
+        }
+    }
+
+    /**
+     * 지난 분 버킷 flush → Redis 분 해시 병합 → 상위 K 스냅샷 갱신 (매 분 5초)
+     */
+    @Scheduled(cron = "${deal.trending.tick-cron:5 * * * * *}")
+    public void tick() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = currentMinute();
+            Map<Long, Map<Long, Double>> drained = drain(now);
+            long mergeUntil = now - MERGE_LAG_MINUTES;
+
+            if (flush(drained)) {
+                merge(mergeUntil);
+            } else {
+                drained.forEach(window::apply);
+            }
+            removeDeleted(mergeUntil);
+
+            snapshot = window.topK(mergeUntil, topK, minRecentWeight);
+        } catch (RuntimeException e) {
+            log.warn("급상승 딜 집계 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 삭제된 딜을 윈도우에서 제거합니다.
+     *
+     * <p>삭제 전 신호가 담긴 분 해시가 이후 병합으로 다시 반영될 수 있으므로, 해당 분이 윈도우를 벗어날 때까지 매 tick 제거합니다.</p>
+     */
+    private void removeDeleted(long mergeUntil) {
+        deletedDealIds.forEach((dealId, deletedMinute) -> {
+            window.remove(dealId);
+            if (deletedMinute <= mergeUntil - TrendingWindow.WINDOW_MINUTES) {
+                deletedDealIds.remove(dealId, deletedMinute);
+            }
+        });
+    }
+
+    /**
+     * 현재 분 이전 버킷을 꺼냅니다.
+     */
+    private Map<Long, Map<Long, Double>> drain(long now) {
+        Map<Long, Map<Long, Double>> drained = new TreeMap<>();
+        for (Long minute : new ArrayList<>(pending.keySet())) {
+            if (minute >= now) {
+                continue;
+            }
+
+            Map<Long, DoubleAdder> bucket = pending.remove(minute);
+            if (bucket == null) {
+                continue;
+            }
+
+            Map<Long, Double> weights = new HashMap<>(bucket.size() * 2);
+            bucket.forEach((dealId, adder) -> weights.put(dealId, adder.sum()));
+            drained.put(minute, weights);
+        }
+        return drained;
+    }
+
+    /**
+     * 꺼낸 버킷을 분 해시에 합산합니다.
+     *
+     * @return 성공 여부 (실패 시 호출 측에서 로컬 반영)
+     */
+    private boolean flush(Map<Long, Map<Long, Double>> drained) {
+        try {
+            if (!drained.isEmpty()) {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    drained.forEach((minute, weights) -> {
+                        byte[] key = bytes(KEY_PREFIX + minute);
+                        weights.forEach((dealId, weight) ->
+                                connection.hashCommands().hIncrBy(key, bytes(dealId.toString()), weight));
+                        connection.keyCommands().expire(key, KEY_TTL_SECONDS);
+                    });
+                    return null;
+                });
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("급상승 신호 Redis 반영 실패 (로컬 집계로 대체): minutes={}", drained.keySet(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 아직 병합하지 않은 분 해시를 읽어 윈도우에 반영합니다. (최대 60분, 파이프라인 1회)
+     */
+    private void merge(long mergeUntil) {
+        long from = Math.max(lastMergedMinute + 1, mergeUntil - TrendingWindow.WINDOW_MINUTES + 1);
+        if (from > mergeUntil) {
+            return;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long minute = from; minute <= mergeUntil; minute++) {
+                connection.hashCommands().hGetAll(bytes(KEY_PREFIX + minute));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) instanceof Map<?, ?> hash && !hash.isEmpty()) {
+                window.apply(from + i, parse(hash));
+            }
+        }
+        lastMergedMinute = mergeUntil;
+    }
+
+    private Map<Long, Double> parse(Map<?, ?> hash) {
+        Map<Long, Double> weights = new HashMap<>(hash.size() * 2);
+        hash.forEach((field, value) -> {
+            try {
+                weights.put(Long.parseLong(field.toString()), Double.parseDouble(value.toString()));
+            } catch (NumberFormatException e) {
+                // 손상된 필드는 무시
+            }
+        });
+        return weights;
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000L;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,126 @@
+package com.cherrypick.backend.domain.deal.domain.service.ranking;
+
+import java.util.*;
+
+/**
+ * 딜별 분 단위 반응 링 버퍼와 급상승 점수 계산 (단일 스레드 전용)
+ *
+ * <p>딜마다 최근 60분의 분 단위 가중치 합을 링 버퍼로 보관합니다.
+ * 기준 분 r 에 대해 최근 5분 합을 직전 55분의 5분 평균과 비교한 z-score 로 "가속 정도"를 계산합니다.</p>
+ *
+ * <pre>
+ * recent   = sum(r-4 .. r)
+ * baseline = sum(r-59 .. r-5) / 11
+ * score    = (recent - baseline) / sqrt(baseline + 1)   (분당 반응 수를 포아송으로 보고 표준편차 ≈ sqrt(평균))
+ * </pre>
+ *
+ * <p>누적 반응이 많은 딜이 아니라 평소보다 갑자기 반응이 늘어난 딜이 위로 올라옵니다.
+ * 60분 동안 반응이 없는 딜의 링 버퍼는 점수 계산 시 제거됩니다.</p>
+ */
+class TrendingWindow {
+
+    static final int WINDOW_MINUTES = 60;
+    static final int RECENT_MINUTES = 5;
+    private static final double BASELINE_WINDOWS = (double) (WINDOW_MINUTES - RECENT_MINUTES) / RECENT_MINUTES;
+
+    private final Map<Long, MinuteRing> rings = new HashMap<>();
+
+    /**
+     * 한 분 동안의 딜별 가중치 합을 반영합니다. (분 순서와 무관하게 호출 가능)
+     */
+    void apply(long minute, Map<Long, Double> weights) {
+        weights.forEach((dealId, weight) ->
+                rings.computeIfAbsent(dealId, id -> new MinuteRing()).add(minute, weight));
+    }
+
+    /**
+     * 딜을 제거합니다.
+     */
+    void remove(long dealId) {
+        rings.remove(dealId);
+    }
+
+    /**
+     * 기준 분의 급상승 상위 K개를 계산합니다. (크기 K의 최소 힙, O(N log K))
+     *
+     * @param referenceMinute 기준 분 (epoch minute, 이 분까지 집계가 끝났다고 보는 시점)
+     * @param k 최대 개수
+     * @param minRecent 최근 5분 가중치 합이 이 값 미만인 딜은 제외 (소수 반응에 의한 급등 방지)
+     * @return 점수 내림차순 목록
+     */
+    List<TrendingDeal> topK(long referenceMinute, int k, double minRecent) {
+        PriorityQueue<TrendingDeal> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(TrendingDeal::score));
+
+        Iterator<Map.Entry<Long, MinuteRing>> iterator = rings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, MinuteRing> entry = iterator.next();
+            MinuteRing ring = entry.getValue();
+            if (ring.newestMinute <= referenceMinute - WINDOW_MINUTES) {
+                iterator.remove();
+                continue;
+            }
+
+            double recent = ring.sum(referenceMinute - RECENT_MINUTES + 1, referenceMinute);
+            if (recent < minRecent) {
+                continue;
+            }
+
+            double baseline = ring.sum(referenceMinute - WINDOW_MINUTES + 1, referenceMinute - RECENT_MINUTES) / BASELINE_WINDOWS;
+            double score = (recent - baseline) / Math.sqrt(baseline + 1);
+
+            heap.offer(new TrendingDeal(entry.getKey(), score, recent));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<TrendingDeal> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(TrendingDeal::score).reversed()
+                .thenComparing(Comparator.comparingLong(TrendingDeal::dealId).reversed()));
+        return List.copyOf(result);
+    }
+
+    int size() {
+        return rings.size();
+    }
+
+    /**
+     * 최근 60분의 분 단위 가중치 합 (인덱스 = epoch minute mod 60)
+     */
+    static final class MinuteRing {
+
+        private final double[] buckets = new double[WINDOW_MINUTES];
+        private long newestMinute = Long.MIN_VALUE;
+
+        void add(long minute, double weight) {
+            if (newestMinute == Long.MIN_VALUE) {
+                newestMinute = minute;
+            } else if (minute > newestMinute) {
+                // 비어 있던 분의 버킷(이전 바퀴 값)을 비움
+                long gap = Math.min(minute - newestMinute, WINDOW_MINUTES);
+                for (long m = minute - gap + 1; m <= minute; m++) {
+                    buckets[index(m)] = 0;
+                }
+                newestMinute = minute;
+            } else if (minute <= newestMinute - WINDOW_MINUTES) {
+                return; // 창 밖의 늦은 값
+            }
+
+            buckets[index(minute)] += weight;
+        }
+
+        double sum(long fromMinute, long toMinute) {
+            double sum = 0;
+            long from = Math.max(fromMinute, newestMinute - WINDOW_MINUTES + 1);
+            long to = Math.min(toMinute, newestMinute);
+            for (long m = from; m <= to; m++) {
+                sum += buckets[index(m)];
+            }
+            return sum;
+        }
+
+        private static int index(long minute) {
+            return (int) Math.floorMod(minute, (long) WINDOW_MINUTES);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.cherrypick.backend.domain.deal.domain.service.reference;
+
+import com.cherrypick.backend.domain.deal.domain.entity.Category;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ *
+ * <p>생성 시점에 노드별로 다음 값을 미리 계산해 두므로 조회는 Map 조회 한 번이며 새 객체를 만들지 않습니다.</p>
+ * <ul>
+ *     <li>자기 자신 + 모든 하위 카테고리 ID (전위 순회 순서)</li>
+ *     <li>최상위 → 자기 자신까지의 카테고리 이름 경로</li>
+ * </ul>
+ *
+ * <p>카테고리가 바뀌면 트리를 새로 만들어 통째로 교체합니다. ({@link ReferenceDataRegistry})</p>
+ */
+public final class CategoryTree {
+
+    private final Map<Long, Node> nodes;
+
+    private record Node(List<Long> descendantIds, List<String> path) {}
+
+    private CategoryTree(Map<Long, Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * 카테고리 목록으로 트리를 만듭니다.
+     *
+     * <p>parentId가 null 또는 0이면 최상위 카테고리입니다. 부모가 목록에 없는 카테고리는 경로가 자기 자신에서 끝납니다.</p>
+     */
+    public static CategoryTree of(Collection<Category> categories) {
+        Map<Long, Category> byId = new HashMap<>();
+        Map<Long, List<Long>> childrenByParent = new HashMap<>();
+        for (Category category : categories) {
+            byId.put(category.getCategoryId(), category);
+            Long parentId = Optional.ofNullable(category.getParentId()).orElse(0L);
+            childrenByParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(category.getCategoryId());
+        }
+
+        Map<Long, Node> nodes = new HashMap<>(byId.size() * 2);
+        for (Category category : byId.values()) {
+            Long categoryId = category.getCategoryId();
+
+            List<Long> descendantIds = new ArrayList<>();
+            collectDescendants(categoryId, childrenByParent, descendantIds, new HashSet<>());
+
+            nodes.put(categoryId, new Node(List.copyOf(descendantIds), List.copyOf(buildPath(category, byId))));
+        }
+
+        return new CategoryTree(Map.copyOf(nodes));
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리 ID (없는 카테고리면 빈 리스트)
+     */
+    public List<Long> descendantIds(Long categoryId) {
+        Node node = categoryId != null ? nodes.get(categoryId) : null;
+        return node != null ? node.descendantIds() : List.of();
+    }
+
+    /**
+     * 최상위부터 해당 카테고리까지의 이름 경로 (없는 카테고리면 null)
+     */
+    public List<String> path(Long categoryId) {
+        Node node = categoryId != null ? nodes.get(categoryId) : null;
+        return node != null ? node.path() : null;
+    }
+
+    public boolean contains(Long categoryId) {
+        return categoryId != null && nodes.containsKey(categoryId);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    // 전위 순회 (자기 자신 → 자식 → 손자 ...), 잘못된 데이터로 순환이 생겨도 무한 루프 방지
+    private static void collectDescendants(Long categoryId, Map<Long, List<Long>> childrenByParent,
+                                           List<Long> out, Set<Long> visited) {
+        if (!visited.add(categoryId)) {
+            return;
+        }
+
+        out.add(categoryId);
+        for (Long childId : childrenByParent.getOrDefault(categoryId, List.of())) {
+            collectDescendants(childId, childrenByParent, out, visited);
+        }
+    }
+
+    private static List<String> buildPath(Category category, Map<Long, Category> byId) {
+        LinkedList<String> path = new LinkedList<>();
+        Set<Long> visited = new HashSet<>();
+
+        Category current = category;
+        while (current != null && visited.add(current.getCategoryId())) {
+            path.addFirst(current.getName());
+            Long parentId = current.getParentId();
+            current = parentId != null ? byId.get(parentId) : null;
+        }
+
+        return path;
+    }
+}
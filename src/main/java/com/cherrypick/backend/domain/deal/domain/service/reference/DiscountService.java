@@ -1,28 +1,18 @@
 package com.cherrypick.backend.domain.deal.domain.service.reference;
 
 import com.cherrypick.backend.domain.deal.application.dto.response.DiscountResponseListDTO;
-import com.cherrypick.backend.domain.deal.domain.entity.Deal;
-import com.cherrypick.backend.domain.deal.domain.entity.Discount;
-import com.cherrypick.backend.domain.deal.domain.repository.reference.DiscountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Service @RequiredArgsConstructor @Log4j2
 public class DiscountService {
 
-    private final DiscountRepository discountRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
+    // 할인 목록 (참조 데이터 스냅샷에 미리 만들어 둔 DTO)
     public DiscountResponseListDTO getDiscountList() {
-
-        var list = discountRepository.findAll();
-        return new DiscountResponseListDTO(
-                list.stream().map(DiscountResponseListDTO::from)
-                .toList()
-        );
+        return referenceDataRegistry.current().discountList();
     }
 
 }
@@ -0,0 +1,122 @@
+package com.cherrypick.backend.domain.deal.domain.service.reference;
+
+import com.cherrypick.backend.domain.deal.application.dto.response.CategoryListDTO;
+import com.cherrypick.backend.domain.deal.application.dto.response.DiscountResponseListDTO;
+import com.cherrypick.backend.domain.deal.application.dto.response.StoreResponseListDTO;
+import com.cherrypick.backend.domain.deal.domain.entity.Category;
+import com.cherrypick.backend.domain.deal.domain.entity.Discount;
+import com.cherrypick.backend.domain.deal.domain.entity.Store;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 참조 데이터 스냅샷 (카테고리, 스토어, 할인) - 불변
+ *
+ * <p><b>보관 형태:</b></p>
+ * <ul>
+ *     <li>카테고리: {@link CategoryTree} (하위 ID 목록, 이름 경로 미리 계산)</li>
+ *     <li>스토어/할인 ID: 정렬된 long[] (박싱 없이 이진 탐색으로 존재 여부 확인)</li>
+ *     <li>/api/category, /api/store, /api/discount 응답 DTO (요청마다 변환하지 않음)</li>
+ * </ul>
+ */
+public final class ReferenceData {
+
+    private final CategoryTree categoryTree;
+    private final long[] storeIds;
+    private final long[] discountIds;
+
+    private final CategoryListDTO categoryList;
+    private final StoreResponseListDTO storeList;
+    private final DiscountResponseListDTO discountList;
+
+    private ReferenceData(CategoryTree categoryTree, long[] storeIds, long[] discountIds,
+                          CategoryListDTO categoryList, StoreResponseListDTO storeList, DiscountResponseListDTO discountList) {
+        this.categoryTree = categoryTree;
+        this.storeIds = storeIds;
+        this.discountIds = discountIds;
+        this.categoryList = categoryList;
+        this.storeList = storeList;
+        this.discountList = discountList;
+    }
+
+    public static ReferenceData of(List<Category> categories, List<Store> stores, List<Discount> discounts) {
+        return new ReferenceData(
+                CategoryTree.of(categories),
+                sortedIds(stores.stream().map(Store::getStoreId).toList()),
+                sortedIds(discounts.stream().map(Discount::getDiscountId).toList()),
+                new CategoryListDTO(toCategoryDTOs(0L, categories)),
+                // 스토어 목록 응답은 숨김(blind) 스토어 제외, 검증은 전체 스토어 기준 (기존 동작과 동일)
+                new StoreResponseListDTO(stores.stream()
+                        .filter(store -> !store.isBlind())
+                        .map(StoreResponseListDTO.StoreResponseDTO::from)
+                        .toList()),
+                new DiscountResponseListDTO(discounts.stream()
+                        .map(DiscountResponseListDTO::from)
+                        .toList())
+        );
+    }
+
+    public CategoryTree categoryTree() {
+        return categoryTree;
+    }
+
+    public boolean hasCategory(Long categoryId) {
+        return categoryTree.contains(categoryId);
+    }
+
+    public boolean hasStore(Long storeId) {
+        return contains(storeIds, storeId);
+    }
+
+    public boolean hasDiscount(Long discountId) {
+        return contains(discountIds, discountId);
+    }
+
+    /**
+     * 모든 스토어 ID가 존재하고 중복이 없는지 확인 (findAllById 결과 개수 비교와 같은 의미)
+     */
+    public boolean hasAllStores(Collection<Long> ids) {
+        return ids.stream().distinct().filter(this::hasStore).count() == ids.size();
+    }
+
+    /**
+     * 모든 할인 ID가 존재하고 중복이 없는지 확인 (findAllById 결과 개수 비교와 같은 의미)
+     */
+    public boolean hasAllDiscounts(Collection<Long> ids) {
+        return ids.stream().distinct().filter(this::hasDiscount).count() == ids.size();
+    }
+
+    public CategoryListDTO categoryList() {
+        return categoryList;
+    }
+
+    public StoreResponseListDTO storeList() {
+        return storeList;
+    }
+
+    public DiscountResponseListDTO discountList() {
+        return discountList;
+    }
+
+    private static long[] sortedIds(List<Long> ids) {
+        long[] sorted = ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static boolean contains(long[] sortedIds, Long id) {
+        return id != null && Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    // 계층을 타고 내려가서 각 카테고리를 리스트에 담음, 이후 상위 객체에 해당 리스트를 전달.
+    private static List<CategoryListDTO.CategoryDTO> toCategoryDTOs(Long parentId, List<Category> categories) {
+        return categories.stream()
+                .filter(c -> Optional.ofNullable(c.getParentId()).orElse(0L).equals(parentId))
+                .map(c -> CategoryListDTO.CategoryDTO.of(c, toCategoryDTOs(c.getCategoryId(), categories)))
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.cherrypick.backend.domain.deal.domain.service.reference;
+
+import com.cherrypick.backend.domain.deal.domain.repository.reference.CategoryRepository;
+import com.cherrypick.backend.domain.deal.domain.repository.reference.DiscountRepository;
+import com.cherrypick.backend.domain.deal.domain.repository.reference.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 참조 데이터(카테고리, 스토어, 할인) 보관소
+ *
+ * <p>세 테이블 모두 작고 거의 바뀌지 않으므로 한 번 읽어 불변 스냅샷({@link ReferenceData})으로 보관합니다.
+ * 검색/딜 생성 시 존재 여부 검증과 참조 데이터 조회 API는 DB 왕복 없이 이 스냅샷만 사용합니다.</p>
+ *
+ * <p>변경 반영은 새 스냅샷을 만든 뒤 참조만 원자적으로 교체하므로, 조회 중인 스레드는 항상 완성된 스냅샷 하나만 봅니다.</p>
+ *
+ * <p><b>갱신 시점:</b></p>
+ * <ul>
+ *     <li>최초 조회 시 (지연 로딩)</li>
+ *     <li>10분마다 (참조 데이터를 수정하는 API가 없어 DB에서 직접 수정되므로, 수정 후 최대 10분 뒤 반영)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+
+    private final CategoryRepository categoryRepository;
+    private final StoreRepository storeRepository;
+    private final DiscountRepository discountRepository;
+
+    private final AtomicReference<ReferenceData> snapshot = new AtomicReference<>();
+
+    /**
+     * 현재 참조 데이터 스냅샷 (아직 로드되지 않았으면 로드 후 반환)
+     */
+    public ReferenceData current() {
+        ReferenceData current = snapshot.get();
+        if (current == null) {
+            reload();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    /**
+     * DB에서 참조 데이터를 다시 읽어 스냅샷을 교체합니다.
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void reload() {
+        ReferenceData loaded = ReferenceData.of(
+                categoryRepository.findAll(),
+                storeRepository.findAll(),
+                discountRepository.findAll()
+        );
+        snapshot.set(loaded);
+        log.debug("참조 데이터 갱신: 카테고리 {}건", loaded.categoryTree().size());
+    }
+}
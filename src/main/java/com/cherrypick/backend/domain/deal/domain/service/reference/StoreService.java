@@ -3,34 +3,19 @@ package com.cherrypick.backend.domain.deal.domain.service.reference;
 import com.cherrypick.backend.domain.deal.application.dto.response.DealDetailResponseDTO;
 import com.cherrypick.backend.domain.deal.application.dto.response.StoreResponseListDTO;
 import com.cherrypick.backend.domain.deal.domain.entity.Deal;
-import com.cherrypick.backend.domain.deal.domain.repository.reference.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
 @Service @Slf4j @RequiredArgsConstructor
 public class StoreService {
 
-    private final StoreRepository storeRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
+    // 숨김 처리되지 않은 스토어 목록 (참조 데이터 스냅샷에 미리 만들어 둔 DTO)
     public StoreResponseListDTO getStoreList()
     {
-        var response = redisTemplate.opsForValue().get("cache:stores");
-        if(response == null)
-        {
-            var list = storeRepository.findAllVisible();
-            response = new StoreResponseListDTO(
-                    list.stream()
-                            .map(StoreResponseListDTO.StoreResponseDTO::from)
-                            .toList());
-            redisTemplate.opsForValue().set("cache:stores", response, 1, TimeUnit.DAYS);
-        }
-
-        return (StoreResponseListDTO) response;
+        return referenceDataRegistry.current().storeList();
     }
 
     /**
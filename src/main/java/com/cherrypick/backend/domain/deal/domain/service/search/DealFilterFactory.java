@@ -1,17 +1,18 @@
 package com.cherrypick.backend.domain.deal.domain.service.search;
 
 import com.cherrypick.backend.domain.deal.domain.service.reference.CategoryService;
-import com.cherrypick.backend.domain.comment.entity.QComment;
 import com.cherrypick.backend.domain.deal.domain.entity.QDeal;
+import com.cherrypick.backend.domain.deal.domain.entity.vo.DealCursor;
 import com.cherrypick.backend.domain.deal.domain.entity.vo.Filter;
 import com.cherrypick.backend.domain.deal.domain.entity.vo.PriceFilter;
 import com.cherrypick.backend.domain.deal.domain.enums.PriceType;
 import com.cherrypick.backend.domain.deal.domain.enums.ShippingType;
+import com.cherrypick.backend.domain.deal.domain.enums.SortType;
 import com.cherrypick.backend.domain.deal.domain.enums.TimeRangeType;
-import com.cherrypick.backend.domain.vote.entity.QVote;
-import com.cherrypick.backend.domain.vote.enums.VoteType;
+import com.cherrypick.backend.global.exception.BaseException;
+import com.cherrypick.backend.global.exception.enums.DealErrorCode;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.SimpleExpression;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +28,7 @@ import java.util.List;
 public class DealFilterFactory {
 
     private final CategoryService categoryService;
+    private final KeywordSearchStrategy keywordSearchStrategy;
 
     /**
      * 카테고리 필터 (하위 카테고리 포함)
@@ -44,15 +46,15 @@ public class DealFilterFactory {
 
     /**
      * 키워드 필터 (제목 또는 내용에 포함)
+     *
+     * <p>설정된 KeywordSearchStrategy (LIKE / FULLTEXT / 인메모리 색인)에 위임합니다.</p>
      */
     public BooleanExpression createKeywordFilter(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return null;
         }
 
-        QDeal deal = QDeal.deal;
-        return deal.title.containsIgnoreCase(keyword)
-                .or(deal.content.containsIgnoreCase(keyword));
+        return keywordSearchStrategy.createFilter(keyword.trim());
     }
 
     /**
@@ -196,52 +198,60 @@ public class DealFilterFactory {
     }
 
     /**
-     * 작성자 필터 (특정 사용자가 작성한 딜)
-     */
-    public BooleanExpression createAuthorFilter(Long userId) {
-        if (userId == null) {
-            return null;
-        }
-
-        QDeal deal = QDeal.deal;
-        return deal.user.userId.eq(userId);
-    }
-
-    /**
-     * 좋아요 필터 (특정 사용자가 좋아요를 누른 딜)
+     * 커서 필터 (Keyset 페이지네이션)
+     *
+     * <p>DealSortFactory의 정렬 순서 (정렬 키, dealId DESC) 기준으로
+     * 커서보다 뒤에 오는 딜만 조회합니다.</p>
+     *
+     * <p>정렬 키가 NULL 인 딜은 MySQL 기본 정렬대로 내림차순에서는 마지막, 오름차순에서는 처음에 옵니다.
+     * (ORDER BY 에 NULLS FIRST/LAST 를 붙이면 Hibernate 가 CASE 식으로 바꿔 인덱스 정렬을 쓰지 못하므로 기본 순서에 맞춤)</p>
+     *
+     * <pre>
+     * 내림차순: sortKey &lt; :key OR (sortKey = :key AND dealId &lt; :dealId) OR sortKey IS NULL
+     *          커서 키가 NULL: sortKey IS NULL AND dealId &lt; :dealId
+     * 오름차순: sortKey &gt; :key OR (sortKey = :key AND dealId &lt; :dealId)
+     *          커서 키가 NULL: (sortKey IS NULL AND dealId &lt; :dealId) OR sortKey IS NOT NULL
+     * </pre>
      */
-    public BooleanExpression createLikedByUserFilter(Long userId) {
-        if (userId == null) {
+    public BooleanExpression createCursorFilter(DealCursor cursor) {
+        if (cursor == null) {
             return null;
         }
 
         QDeal deal = QDeal.deal;
-        QVote vote = QVote.vote;
-
-        return JPAExpressions
-                .selectFrom(vote)
-                .where(vote.dealId.eq(deal)
-                        .and(vote.userId.userId.eq(userId))
-                        .and(vote.voteType.eq(VoteType.TRUE)))
-                .exists();
-    }
-
-    /**
-     * 댓글 필터 (특정 사용자가 댓글을 작성한 딜)
-     */
-    public BooleanExpression createCommentedByUserFilter(Long userId) {
-        if (userId == null) {
-            return null;
+        BooleanExpression tieBreak = deal.dealId.lt(cursor.dealId());
+
+        if (cursor.isNullKey()) {
+            SimpleExpression<?> key = switch (cursor.sortType()) {
+                case LATEST -> deal.createdAt;
+                case PRICE_HIGH, PRICE_LOW -> deal.price.discountedPrice;
+                case POPULARITY -> deal.hotScore;
+                case VIEWS -> deal.totalViews;
+                case RELEVANCE -> throw new BaseException(DealErrorCode.INVALID_CURSOR);
+            };
+            BooleanExpression remainingNulls = key.isNull().and(tieBreak);
+
+            // 오름차순은 NULL 다음에 값이 있는 행이 이어지고, 내림차순은 NULL 이 마지막
+            return cursor.sortType() == SortType.PRICE_LOW ? remainingNulls.or(key.isNotNull()) : remainingNulls;
         }
 
-        QDeal deal = QDeal.deal;
-        QComment comment = QComment.comment;
-
-        return JPAExpressions
-                .selectFrom(comment)
-                .where(comment.dealId.eq(deal)
-                        .and(comment.userId.userId.eq(userId)))
-                .exists();
+        return switch (cursor.sortType()) {
+            case LATEST -> deal.createdAt.lt(cursor.createdAtKey())
+                    .or(deal.createdAt.eq(cursor.createdAtKey()).and(tieBreak))
+                    .or(deal.createdAt.isNull());
+            case PRICE_HIGH -> deal.price.discountedPrice.lt(cursor.doubleKey())
+                    .or(deal.price.discountedPrice.eq(cursor.doubleKey()).and(tieBreak))
+                    .or(deal.price.discountedPrice.isNull());
+            case PRICE_LOW -> deal.price.discountedPrice.gt(cursor.doubleKey())
+                    .or(deal.price.discountedPrice.eq(cursor.doubleKey()).and(tieBreak));
+            case POPULARITY -> deal.hotScore.lt(cursor.doubleKey())
+                    .or(deal.hotScore.eq(cursor.doubleKey()).and(tieBreak))
+                    .or(deal.hotScore.isNull());
+            case VIEWS -> deal.totalViews.lt(cursor.longKey())
+                    .or(deal.totalViews.eq(cursor.longKey()).and(tieBreak))
+                    .or(deal.totalViews.isNull());
+            case RELEVANCE -> throw new BaseException(DealErrorCode.INVALID_CURSOR);
+        };
     }
 
     /**
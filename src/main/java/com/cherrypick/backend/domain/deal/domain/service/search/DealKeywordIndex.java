@@ -0,0 +1,162 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
+import com.cherrypick.backend.domain.deal.domain.repository.DealKeywordSource;
+import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 딜 제목/내용 키워드 인메모리 색인
+ *
+ * <p>{@code title LIKE %kw% OR content LIKE %kw%} 는 TEXT 컬럼 전체 스캔이 발생하므로,
+ * n-gram 역색인으로 후보 dealId를 먼저 좁힌 뒤 DB에는 PK IN 조건으로 전달합니다.</p>
+ *
+ * <p><b>동기화:</b></p>
+ * <ul>
+ *     <li>애플리케이션 시작 시 삭제되지 않은 딜 전체를 청크 단위로 적재 (전용 스레드에서 실행해 기동을 지연시키지 않음)</li>
+ *     <li>DealChangedEvent (생성/수정/삭제) 수신 시 해당 딜만 재색인</li>
+ *     <li>1분마다 updatedAt 기준으로 변경분 반영 (다른 인스턴스에서 발생한 변경 포함)</li>
+ * </ul>
+ *
+ * <p>적재가 끝나기 전이거나 후보가 너무 많으면 Optional.empty()를 반환하며,
+ * 이 경우 호출 측은 기존 LIKE 검색으로 동작해야 합니다.</p>
+ *
+ * <p>키워드 검색 전략이 ngram일 때만 생성됩니다. (다른 전략에서는 메모리를 사용하지 않음)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "deal.search.keyword-strategy", havingValue = "ngram", matchIfMissing = true)
+public class DealKeywordIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int MAX_CANDIDATES = 2000;         // IN 절 최대 크기 (초과 시 LIKE 검색이 더 효율적)
+    private static final long SYNC_OVERLAP_SECONDS = 5;     // 동기화 경계 누락 방지용 중첩 구간
+
+    private final DealRepository dealRepository;
+
+    private final NgramInvertedIndex index = new NgramInvertedIndex();
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deal-keyword-index-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 애플리케이션 시작 시 색인 적재 시작 (적재가 끝날 때까지 검색은 LIKE 로 동작)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        loader.execute(this::load);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * 삭제되지 않은 딜 전체를 색인에 적재
+     */
+    void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastDealId = 0L;
+
+        try {
+            List<DealKeywordSource> chunk;
+            do {
+                chunk = dealRepository.findKeywordSourcesAfter(lastDealId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (DealKeywordSource source : chunk) {
+                    index.put(source.getDealId(), source.getTitle(), source.getContent());
+                    lastDealId = source.getDealId();
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+            lastSyncedAt = startedAt;
+            ready = true;
+            log.info("딜 키워드 색인 적재 완료: {}건", index.size());
+        } catch (RuntimeException e) {
+            log.error("딜 키워드 색인 적재 실패 (LIKE 검색으로 동작)", e);
+        }
+    }
+
+    /**
+     * 키워드를 포함할 수 있는 dealId 후보 조회
+     *
+     * @param keyword 검색어
+     * @return 후보 dealId (색인을 사용할 수 없으면 Optional.empty())
+     */
+    public Optional<Set<Long>> findCandidates(String keyword) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        return index.search(keyword)
+                .filter(candidates -> candidates.size() <= MAX_CANDIDATES);
+    }
+
+    /**
+     * 딜 변경 시 해당 딜만 재색인 (커밋 이후, 트랜잭션이 없으면 즉시 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDealChanged(DealChangedEvent event) {
+        if (!event.changeType().isContentChange()) {
+            return;
+        }
+
+        try {
+            if (event.changeType() == DealChangedEvent.ChangeType.DELETED) {
+                index.remove(event.dealId());
+                return;
+            }
+
+            dealRepository.findKeywordSourceById(event.dealId()).ifPresent(this::apply);
+        } catch (RuntimeException e) {
+            // 색인 갱신 실패가 딜 변경 요청을 실패시키지 않도록 하고, 주기 동기화에서 복구
+            log.warn("딜 키워드 색인 갱신 실패: dealId={}", event.dealId(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 변경 사항 반영 (updatedAt 기준)
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void syncUpdatedDeals() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        List<DealKeywordSource> updated = dealRepository.findKeywordSourcesUpdatedSince(
+                lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        updated.forEach(this::apply);
+        lastSyncedAt = syncStartedAt;
+    }
+
+    private void apply(DealKeywordSource source) {
+        if (Boolean.TRUE.equals(source.getIsDelete())) {
+            index.remove(source.getDealId());
+        } else {
+            index.put(source.getDealId(), source.getTitle(), source.getContent());
+        }
+    }
+}
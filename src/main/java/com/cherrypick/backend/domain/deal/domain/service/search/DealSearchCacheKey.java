@@ -0,0 +1,85 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import com.cherrypick.backend.domain.deal.application.dto.request.DealSearchRequestDTO;
+import com.cherrypick.backend.domain.deal.domain.entity.vo.Filter;
+import com.cherrypick.backend.domain.deal.domain.entity.vo.PriceFilter;
+import com.cherrypick.backend.domain.deal.domain.enums.SortType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 딜 검색 조건을 정규화해 캐시 키(SHA-256)로 만듭니다.
+ *
+ * <p><b>정규화 규칙:</b> 의미가 같은 요청은 같은 키가 되어야 합니다.</p>
+ * <ul>
+ *     <li>ID 목록은 중복 제거 후 정렬 (순서 무관)</li>
+ *     <li>키워드는 trim + 소문자 (LIKE 검색이 대소문자를 구분하지 않음)</li>
+ *     <li>기본값(null)은 실제 기본값으로 치환 (sortType=LATEST, variousPrice=true)</li>
+ *     <li>시간 범위가 있으면 현재 시각을 분 단위로 포함 (같은 분 안의 요청만 같은 결과)</li>
+ * </ul>
+ */
+public class DealSearchCacheKey {
+
+    private DealSearchCacheKey(){}
+
+    public static String of(DealSearchRequestDTO dto, int page, int size) {
+        return sha256(canonicalize(dto, page, size, LocalDateTime.now()));
+    }
+
+    static String canonicalize(DealSearchRequestDTO dto, int page, int size, LocalDateTime now) {
+        Filter filters = dto.getFilters();
+        PriceFilter priceFilter = dto.getPriceFilter();
+
+        StringJoiner joiner = new StringJoiner("|");
+        joiner.add("c=" + dto.getCategoryId());
+        joiner.add("k=" + normalizeKeyword(dto.getKeyword()));
+        joiner.add("f=" + (filters == null ? "-"
+                : filters.viewSoldOut() + "," + filters.freeShipping() + "," + filters.globalShipping()));
+        joiner.add("t=" + (dto.getTimeRange() == null ? "-"
+                : dto.getTimeRange().name() + "@" + now.truncatedTo(ChronoUnit.MINUTES)));
+        joiner.add("s=" + (dto.getSortType() == null ? SortType.LATEST : dto.getSortType()));
+        joiner.add("p=" + (priceFilter == null ? "-"
+                : priceFilter.priceType() + "," + priceFilter.minPrice() + "," + priceFilter.maxPrice()));
+        joiner.add("v=" + (dto.getVariousPrice() == null || dto.getVariousPrice()));
+        joiner.add("d=" + sortedIds(dto.getDiscountIds()));
+        joiner.add("st=" + sortedIds(dto.getStoreIds()));
+        joiner.add("page=" + page);
+        joiner.add("size=" + size);
+
+        return joiner.toString();
+    }
+
+    private static String normalizeKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return "-";
+        }
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String sortedIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return "-";
+        }
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
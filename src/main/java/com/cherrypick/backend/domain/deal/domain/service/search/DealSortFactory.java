@@ -2,7 +2,9 @@ package com.cherrypick.backend.domain.deal.domain.service.search;
 
 import com.cherrypick.backend.domain.deal.domain.entity.QDeal;
 import com.cherrypick.backend.domain.deal.domain.enums.SortType;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -12,15 +14,39 @@ import java.util.List;
  * 딜 검색 결과 정렬을 처리하는 서비스
  */
 @Service
+@RequiredArgsConstructor
 public class DealSortFactory {
 
+    private final KeywordSearchStrategy keywordSearchStrategy;
+
     /**
      * SortType을 QueryDSL OrderSpecifier로 변환
      *
+     * <p>모든 정렬의 마지막에 dealId DESC를 붙여 전순서(total order)를 보장합니다.
+     * 정렬 키가 같은 행끼리의 순서가 고정되어야 커서 페이지네이션에서 중복/누락이 생기지 않습니다.
+     * (dealId는 IDENTITY로 발급되어 createdAt과 같은 순서를 가지므로 기존 보조 정렬과 결과가 동일)</p>
+     *
+     * <p>정렬 키가 NULL 인 딜은 MySQL 기본 순서(NULL 이 가장 작음)를 따릅니다. 커서 필터(DealFilterFactory.createCursorFilter)가
+     * 이 순서를 전제로 하므로 NULLS FIRST/LAST 를 따로 지정하지 않습니다.</p>
+     *
      * @param sortType 정렬 타입
      * @return QueryDSL OrderSpecifier 리스트
      */
     public List<OrderSpecifier<?>> createOrderSpecifiers(SortType sortType) {
+        return createOrderSpecifiers(sortType, null);
+    }
+
+    /**
+     * SortType을 QueryDSL OrderSpecifier로 변환 (관련도 정렬 포함)
+     *
+     * <p>RELEVANCE는 검색 전략이 관련도를 계산할 수 있고 (FULLTEXT) 키워드가 있을 때만 적용되며,
+     * 그 외에는 최신순으로 정렬합니다.</p>
+     *
+     * @param sortType 정렬 타입
+     * @param keyword 검색어 (null 가능)
+     * @return QueryDSL OrderSpecifier 리스트
+     */
+    public List<OrderSpecifier<?>> createOrderSpecifiers(SortType sortType, String keyword) {
         if (sortType == null) {
             sortType = SortType.LATEST; // 기본값: 최신순
         }
@@ -32,15 +58,40 @@ public class DealSortFactory {
             case LATEST -> orders.add(deal.createdAt.desc());
             case PRICE_HIGH -> orders.add(deal.price.discountedPrice.desc());
             case PRICE_LOW -> orders.add(deal.price.discountedPrice.asc());
-            case POPULARITY -> orders.add(deal.heat.desc());
+            case POPULARITY -> orders.add(deal.hotScore.desc());
             case VIEWS -> orders.add(deal.totalViews.desc());
+            case RELEVANCE -> {
+                OrderSpecifier<?> relevance = (keyword == null || keyword.isBlank())
+                        ? null
+                        : keywordSearchStrategy.createRelevanceOrder(keyword.trim());
+                orders.add(relevance != null ? relevance : deal.createdAt.desc());
+            }
         }
 
-        // 동일 값에 대한 보조 정렬: createdAt desc
-        if (sortType != SortType.LATEST) {
-            orders.add(deal.createdAt.desc());
-        }
+        // 동일 값에 대한 보조 정렬: dealId desc (커서의 tie-breaker)
+        orders.add(deal.dealId.desc());
 
         return orders;
     }
-}
\ No newline at end of file
+
+    /**
+     * 다음 페이지 커서를 만들기 위해 ID와 함께 조회할 정렬 키
+     *
+     * @param sortType 정렬 타입
+     * @return 정렬 키 (커서를 지원하지 않는 RELEVANCE는 null)
+     */
+    public Expression<?> createSortKey(SortType sortType) {
+        if (sortType == null) {
+            sortType = SortType.LATEST;
+        }
+
+        QDeal deal = QDeal.deal;
+        return switch (sortType) {
+            case LATEST -> deal.createdAt;
+            case PRICE_HIGH, PRICE_LOW -> deal.price.discountedPrice;
+            case POPULARITY -> deal.hotScore;
+            case VIEWS -> deal.totalViews;
+            case RELEVANCE -> null;
+        };
+    }
+}
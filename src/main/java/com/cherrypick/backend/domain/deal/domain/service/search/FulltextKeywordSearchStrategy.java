@@ -0,0 +1,82 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import com.cherrypick.backend.domain.deal.domain.entity.QDeal;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram) 키워드 검색 전략
+ *
+ * <p>deal(title, content)의 ngram FULLTEXT 인덱스를 BOOLEAN MODE로 조회합니다.
+ * 검색어를 공백 기준으로 나눠 모든 단어를 포함(+"단어")하는 딜을 찾으며, MATCH 점수를 관련도 정렬에 사용합니다.</p>
+ *
+ * <p>ngram_token_size(기본 2)보다 짧은 단어가 있으면 FULLTEXT로 찾을 수 없으므로 LIKE 검색으로 동작합니다.</p>
+ *
+ * @see com.cherrypick.backend.global.config.MySqlFunctionContributor
+ */
+@Component
+@ConditionalOnProperty(name = "deal.search.keyword-strategy", havingValue = "fulltext")
+public class FulltextKeywordSearchStrategy implements KeywordSearchStrategy {
+
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    @Override
+    public BooleanExpression createFilter(String keyword) {
+        String booleanQuery = toBooleanQuery(keyword);
+        if (booleanQuery == null) {
+            return KeywordSearchStrategy.likeFilter(keyword);
+        }
+
+        return matchAgainst(booleanQuery).gt(0.0);
+    }
+
+    @Override
+    public OrderSpecifier<?> createRelevanceOrder(String keyword) {
+        String booleanQuery = toBooleanQuery(keyword);
+        if (booleanQuery == null) {
+            return null;
+        }
+
+        return matchAgainst(booleanQuery).desc();
+    }
+
+    /**
+     * MATCH(title, content) AGAINST (:query IN BOOLEAN MODE)
+     */
+    private NumberTemplate<Double> matchAgainst(String booleanQuery) {
+        QDeal deal = QDeal.deal;
+        return Expressions.numberTemplate(Double.class,
+                "function('match_against', {0}, {1}, {2})",
+                deal.title, deal.content, booleanQuery);
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 쿼리로 변환
+     *
+     * <p>예: "아이폰 15 프로" → +"아이폰" +"15" +"프로"</p>
+     *
+     * @return BOOLEAN MODE 쿼리 (FULLTEXT로 처리할 수 없으면 null)
+     */
+    static String toBooleanQuery(String keyword) {
+        List<String> terms = new ArrayList<>();
+        for (String term : keyword.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (term.length() < NGRAM_TOKEN_SIZE) {
+                return null;
+            }
+            terms.add("+\"" + term + "\"");
+        }
+
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
@@ -0,0 +1,45 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import com.cherrypick.backend.domain.deal.domain.entity.QDeal;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+/**
+ * 키워드 검색 전략
+ *
+ * <p>배포 환경별로 {@code deal.search.keyword-strategy} 설정으로 선택합니다.</p>
+ * <ul>
+ *     <li>like : 제목/내용 LIKE 검색 (인덱스 미사용, 전체 스캔)</li>
+ *     <li>fulltext : MySQL FULLTEXT(ngram) 인덱스 MATCH ... AGAINST 검색 (관련도 정렬 지원)</li>
+ *     <li>ngram : 인메모리 n-gram 색인으로 후보 dealId를 좁힌 뒤 LIKE로 확인 (기본값)</li>
+ * </ul>
+ */
+public interface KeywordSearchStrategy {
+
+    /**
+     * 키워드 필터 생성
+     *
+     * @param keyword 공백이 아닌 검색어
+     * @return QueryDSL 필터
+     */
+    BooleanExpression createFilter(String keyword);
+
+    /**
+     * 관련도 정렬 생성
+     *
+     * @param keyword 공백이 아닌 검색어
+     * @return 관련도 내림차순 정렬 (관련도를 계산할 수 없는 전략이면 null)
+     */
+    default OrderSpecifier<?> createRelevanceOrder(String keyword) {
+        return null;
+    }
+
+    /**
+     * 제목 또는 내용에 키워드가 포함된 딜 (LIKE %keyword%)
+     */
+    static BooleanExpression likeFilter(String keyword) {
+        QDeal deal = QDeal.deal;
+        return deal.title.containsIgnoreCase(keyword)
+                .or(deal.content.containsIgnoreCase(keyword));
+    }
+}
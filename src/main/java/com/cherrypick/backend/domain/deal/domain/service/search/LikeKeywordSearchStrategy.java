@@ -0,0 +1,20 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIKE 키워드 검색 전략
+ *
+ * <p>추가 인덱스 없이 동작하지만 TEXT 컬럼 전체 스캔이 발생합니다. 비교 기준선(baseline) 용도입니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "deal.search.keyword-strategy", havingValue = "like")
+public class LikeKeywordSearchStrategy implements KeywordSearchStrategy {
+
+    @Override
+    public BooleanExpression createFilter(String keyword) {
+        return KeywordSearchStrategy.likeFilter(keyword);
+    }
+}
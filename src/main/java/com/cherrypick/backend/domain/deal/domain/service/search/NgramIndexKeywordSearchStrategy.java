@@ -0,0 +1,43 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import com.cherrypick.backend.domain.deal.domain.entity.QDeal;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 인메모리 n-gram 색인 키워드 검색 전략
+ *
+ * <p>DealKeywordIndex에서 후보 dealId를 얻을 수 있으면 PK IN 조건으로 먼저 좁히고,
+ * LIKE는 후보 행에 대해서만 최종 확인용으로 평가됩니다.
+ * 색인을 사용할 수 없으면 (적재 전, 1글자 검색어, 후보 과다) LIKE 검색으로 동작합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "deal.search.keyword-strategy", havingValue = "ngram", matchIfMissing = true)
+public class NgramIndexKeywordSearchStrategy implements KeywordSearchStrategy {
+
+    private final DealKeywordIndex keywordIndex;
+
+    @Override
+    public BooleanExpression createFilter(String keyword) {
+        QDeal deal = QDeal.deal;
+        BooleanExpression likeFilter = KeywordSearchStrategy.likeFilter(keyword);
+
+        Optional<Set<Long>> candidates = keywordIndex.findCandidates(keyword);
+        if (candidates.isEmpty()) {
+            return likeFilter;
+        }
+
+        if (candidates.get().isEmpty()) {
+            // 일치하는 딜 없음 (PK는 null일 수 없으므로 항상 거짓)
+            return deal.dealId.isNull();
+        }
+
+        return deal.dealId.in(candidates.get()).and(likeFilter);
+    }
+}
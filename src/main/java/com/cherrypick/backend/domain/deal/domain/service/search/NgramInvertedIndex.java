@@ -0,0 +1,273 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문자 n-gram 역색인 (bigram + trigram)
+ *
+ * <p>형태소 분석 없이 글자 단위로 자르기 때문에 띄어쓰기가 불규칙한 한글 제목/본문에도 동작합니다.</p>
+ *
+ * <p><b>검색 규칙:</b></p>
+ * <ul>
+ *     <li>문서/검색어 모두 NFC 정규화 → 소문자 → 공백 제거 후 n-gram 추출</li>
+ *     <li>검색어가 3글자 이상이면 trigram, 2글자면 bigram으로 교집합 조회</li>
+ *     <li>1글자 이하는 색인으로 판단할 수 없으므로 Optional.empty() 반환</li>
+ * </ul>
+ *
+ * <p>반환 결과는 후보(superset)입니다. 검색어의 n-gram을 모두 포함하지만 연속으로 포함하지 않을 수 있으므로
+ * 최종 일치 여부는 호출 측에서 LIKE 조건으로 확인해야 합니다.</p>
+ *
+ * <p><b>메모리:</b></p>
+ * <ul>
+ *     <li>posting은 n-gram마다 정렬된 long[] 하나입니다. (문서 ID를 박싱하지 않음)</li>
+ *     <li>문서별 n-gram 목록은 따로 보관하지 않습니다. 재색인/삭제 시에는 모든 posting에서 해당 문서를 찾아 지웁니다.
+ *     (딜 수정/삭제는 드물고, posting마다 이진 탐색 한 번)</li>
+ *     <li>텍스트는 앞에서부터 maxTextLength 글자(정규화 후)까지만 색인합니다. 잘린 문서는 색인되지 않은 뒷부분에
+ *     검색어가 있을 수 있으므로 검색 결과에 항상 포함합니다. (후보가 많아지면 호출 측이 LIKE 로 대체)</li>
+ * </ul>
+ *
+ * <p>조회는 락 없이 수행되고, 갱신(put/remove)만 직렬화됩니다.
+ * posting은 불변 스냅샷으로 교체하며, 새 문서 ID(증가하는 dealId)는 배열 뒤에 덧붙여 복사하지 않습니다.</p>
+ */
+public class NgramInvertedIndex {
+
+    static final int BIGRAM = 2;
+    static final int TRIGRAM = 3;
+
+    static final int DEFAULT_MAX_TEXT_LENGTH = 2000;
+
+    // n-gram → 해당 n-gram을 포함한 문서 ID (정렬)
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+
+    // 색인된 문서 ID
+    private final Set<Long> docIds = ConcurrentHashMap.newKeySet();
+
+    // maxTextLength 를 넘어 뒷부분이 색인되지 않은 문서 ID
+    private final Set<Long> truncatedDocIds = ConcurrentHashMap.newKeySet();
+
+    private final int maxTextLength;
+
+    public NgramInvertedIndex() {
+        this(DEFAULT_MAX_TEXT_LENGTH);
+    }
+
+    /**
+     * @param maxTextLength 텍스트마다 색인할 최대 글자 수 (정규화 후)
+     */
+    public NgramInvertedIndex(int maxTextLength) {
+        this.maxTextLength = maxTextLength;
+    }
+
+    /**
+     * 문서를 색인합니다. 이미 색인된 문서면 새 내용으로 교체합니다.
+     *
+     * @param docId 문서 ID
+     * @param texts 색인할 텍스트들 (null 허용)
+     */
+    public synchronized void put(long docId, String... texts) {
+        Set<String> grams = new HashSet<>();
+        boolean truncated = false;
+        for (String text : texts) {
+            String normalized = normalize(text);
+            if (normalized.length() > maxTextLength) {
+                normalized = normalized.substring(0, maxTextLength);
+                truncated = true;
+            }
+            extractGrams(normalized, BIGRAM, grams);
+            extractGrams(normalized, TRIGRAM, grams);
+        }
+
+        if (!docIds.add(docId)) {
+            removePostings(docId, grams);
+        }
+        if (truncated) {
+            truncatedDocIds.add(docId);
+        } else {
+            truncatedDocIds.remove(docId);
+        }
+
+        for (String gram : grams) {
+            Posting posting = postings.get(gram);
+            postings.put(gram, posting == null ? Posting.of(docId) : posting.with(docId));
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     */
+    public synchronized void remove(long docId) {
+        if (!docIds.remove(docId)) {
+            return;
+        }
+
+        truncatedDocIds.remove(docId);
+        removePostings(docId, Set.of());
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 문서 ID 후보를 조회합니다.
+     *
+     * @param keyword 검색어
+     * @return 후보 문서 ID (색인으로 판단할 수 없는 짧은 검색어면 Optional.empty())
+     */
+    public Optional<Set<Long>> search(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.length() < BIGRAM) {
+            return Optional.empty();
+        }
+
+        int gramSize = normalized.length() >= TRIGRAM ? TRIGRAM : BIGRAM;
+        Set<String> queryGrams = new HashSet<>();
+        extractGrams(normalized, gramSize, queryGrams);
+
+        Set<Long> result = new HashSet<>(truncatedDocIds);
+
+        // posting이 작은 n-gram부터 교집합 (중간 결과를 최소화)
+        List<Posting> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return Optional.of(result);
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Posting::size));
+
+        long[] matched = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        int matchedSize = matched.length;
+        for (int i = 1; i < lists.size() && matchedSize > 0; i++) {
+            Posting posting = lists.get(i);
+            int kept = 0;
+            for (int j = 0; j < matchedSize; j++) {
+                if (Arrays.binarySearch(posting.ids, 0, posting.size, matched[j]) >= 0) {
+                    matched[kept++] = matched[j];
+                }
+            }
+            matchedSize = kept;
+        }
+
+        for (int i = 0; i < matchedSize; i++) {
+            result.add(matched[i]);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        return docIds.size();
+    }
+
+    /**
+     * NFC 정규화 → 소문자 → 공백 제거
+     *
+     * <p>한글은 NFC로 합쳐진 음절 단위로 비교해야 하므로 NFD(자모 분리)가 아닌 NFC를 사용합니다.</p>
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void extractGrams(String normalized, int n, Set<String> out) {
+        for (int i = 0; i + n <= normalized.length(); i++) {
+            out.add(normalized.substring(i, i + n));
+        }
+    }
+
+    /**
+     * keep 에 없는 모든 n-gram의 posting에서 문서를 제거합니다.
+     */
+    private void removePostings(long docId, Set<String> keep) {
+        for (Map.Entry<String, Posting> entry : postings.entrySet()) {
+            if (keep.contains(entry.getKey())) {
+                continue;
+            }
+
+            Posting without = entry.getValue().without(docId);
+            if (without == entry.getValue()) {
+                continue;
+            }
+            if (without.size == 0) {
+                postings.remove(entry.getKey());
+            } else {
+                postings.put(entry.getKey(), without);
+            }
+        }
+    }
+
+    /**
+     * 정렬된 문서 ID 스냅샷
+     *
+     * <p>ids[0, size) 만 유효합니다. 뒤에 덧붙이는 경우에는 배열을 공유하고 size 만 늘린 새 스냅샷을 만듭니다.
+     * 기존 스냅샷은 자신의 size 이후를 읽지 않으므로 덧붙이기가 보이지 않습니다.
+     * 중간 삽입/삭제는 새 배열로 복사합니다.</p>
+     */
+    private static final class Posting {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final long[] ids;
+        private final int size;
+
+        private Posting(long[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        private static Posting of(long docId) {
+            long[] ids = new long[INITIAL_CAPACITY];
+            ids[0] = docId;
+            return new Posting(ids, 1);
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private Posting with(long docId) {
+            if (ids[size - 1] < docId) {
+                long[] target = size < ids.length ? ids : Arrays.copyOf(ids, size * 2);
+                target[size] = docId;
+                return new Posting(target, size + 1);
+            }
+
+            int index = Arrays.binarySearch(ids, 0, size, docId);
+            if (index >= 0) {
+                return this;
+            }
+
+            int insertAt = -index - 1;
+            long[] copy = new long[Math.max(size + 1, ids.length)];
+            System.arraycopy(ids, 0, copy, 0, insertAt);
+            copy[insertAt] = docId;
+            System.arraycopy(ids, insertAt, copy, insertAt + 1, size - insertAt);
+            return new Posting(copy, size + 1);
+        }
+
+        private Posting without(long docId) {
+            int index = Arrays.binarySearch(ids, 0, size, docId);
+            if (index < 0) {
+                return this;
+            }
+
+            long[] copy = new long[size - 1];
+            System.arraycopy(ids, 0, copy, 0, index);
+            System.arraycopy(ids, index + 1, copy, index, size - index - 1);
+            return new Posting(copy, size - 1);
+        }
+    }
+}
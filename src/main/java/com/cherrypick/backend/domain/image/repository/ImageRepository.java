@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +39,7 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 """)
     List<Image> findTopImagesByDealIds(@Param("dealIds") List<Long> dealIds, @Param("imageType") ImageType imageType);
 
+    // 여러 참조 ID의 이미지 일괄 조회 (예: 댓글 작성자 프로필 이미지, 대표 이미지 선택은 호출 측에서 imageIndex 기준)
+    List<Image> findByRefIdInAndImageType(Collection<Long> refIds, ImageType imageType);
+
 }
@@ -9,6 +9,7 @@ import com.cherrypick.backend.domain.image.dto.response.ImageUploadResponseDTO;
 import com.cherrypick.backend.domain.image.entity.Image;
 import com.cherrypick.backend.domain.image.enums.ImageType;
 import com.cherrypick.backend.domain.image.repository.ImageRepository;
+import com.cherrypick.backend.domain.user.event.AuthorProfileChangedEvent;
 import com.cherrypick.backend.global.exception.BaseException;
 import com.cherrypick.backend.global.util.AuthUtil;
 import com.cherrypick.backend.global.exception.enums.GlobalErrorCode;
@@ -16,6 +17,7 @@ import com.cherrypick.backend.global.exception.enums.ImageErrorCode;
 import com.cherrypick.backend.global.s3.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +34,7 @@ public class ImageService {
     private final ImageRepository imageRepository;
     private final S3Uploader s3Uploader;
     private final DealRepository dealRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 이미지 업로드
     public List<ImageUploadResponseDTO> createImages(ImageUploadRequestDTO dto) {
@@ -165,6 +168,7 @@ public class ImageService {
             if (safeNewImageId != -1L) {
                 attachImage(userId, List.of(newImageId), ImageType.USER);
             }
+            eventPublisher.publishEvent(new AuthorProfileChangedEvent(userId));
             return getImageByUserId(userId);
         }
         
@@ -117,43 +117,43 @@ public class UserController {
 
     @Operation(
             summary = "내가 올린 Deal 리스트 API V1",
-            description = "내가 올린 Deal 리스트를 불러오는 API 입니다."
+            description = "내가 올린 Deal 리스트를 최신순으로 불러오는 API 입니다. 응답의 nextCursor를 cursor 파라미터로 보내면 다음 페이지를 조회합니다."
     )
     @GetMapping("/deal/written")
     public ResponseEntity<DealSearchPageResponseDTO> getMyDeals(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "20") int size,
             @RequestParam(value = "version", defaultValue = "v1") String version)
     {
-        var response = myDealUsecase.getMyDeals(page, size);
+        var response = myDealUsecase.getMyDeals(cursor, size);
         return ResponseEntity.ok(response);
     }
 
     @Operation(
             summary = "내가 좋아요 한 Deal 리스트 API V1",
-            description = "내가 좋아요를 누른 Deal 리스트를 불러옵니다."
+            description = "내가 좋아요를 누른 Deal 리스트를 좋아요한 순서(최신순)로 불러옵니다. 응답의 nextCursor를 cursor 파라미터로 보내면 다음 페이지를 조회합니다."
     )
     @GetMapping("/deal/liked")
     public ResponseEntity<DealSearchPageResponseDTO> getMyLiked(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "20") int size,
             @RequestParam(value = "version", defaultValue = "v1") String version)
     {
-        var response = likedDealUsecase.getLikedDeal(page, size);
+        var response = likedDealUsecase.getLikedDeal(cursor, size);
         return ResponseEntity.ok(response);
     }
 
     @Operation(
             summary = "내가 댓글을 쓴 Deal 리스트 API V1",
-            description = "내가 댓글을 쓴 Deal 리스트를 불러옵니다."
+            description = "내가 댓글을 쓴 Deal 리스트를 마지막 댓글 순서(최신순)로 불러옵니다. 응답의 nextCursor를 cursor 파라미터로 보내면 다음 페이지를 조회합니다."
     )
     @GetMapping("/deal/commented")
     public ResponseEntity<DealSearchPageResponseDTO> getMyCommented(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "20") int size,
             @RequestParam(value = "version", defaultValue = "v1") String version)
     {
-        var response = commentedDealUsecase.getCommentedDeals(page, size);
+        var response = commentedDealUsecase.getCommentedDeals(cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,13 @@
+package com.cherrypick.backend.domain.user.event;
+
+/**
+ * 작성자 프로필 변경 이벤트
+ *
+ * <p>닉네임, 착용 배지, 프로필 이미지가 바뀌었을 때 발행됩니다.
+ * AuthorProfileCache 가 구독해 해당 사용자의 캐시를 무효화합니다.</p>
+ *
+ * @param userId 프로필이 바뀐 사용자 ID
+ */
+public record AuthorProfileChangedEvent(
+        Long userId
+) { }
@@ -0,0 +1,130 @@
+package com.cherrypick.backend.domain.user.repository;
+
+import com.cherrypick.backend.domain.user.vo.ActivityCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내 활동(작성/좋아요/댓글) 딜 목록 Keyset 조회
+ *
+ * <p>딜 전체에 상관 EXISTS 서브쿼리를 붙여 검색하는 대신, 사용자 기준 인덱스에서 시작해 딜로 조인합니다.
+ * 각 쿼리는 (정렬 시각, ID) 내림차순 커서 조건 + LIMIT 으로 읽으므로 몇 번째 페이지든 비용이 같습니다.</p>
+ *
+ * <p><b>목록별 정렬/인덱스:</b></p>
+ * <ul>
+ *     <li>작성한 딜 → deal.created_at (idx_deal_user_is_delete_created_at)</li>
+ *     <li>좋아요한 딜 → vote.updated_at (idx_vote_user_type_updated_at, (user_id, deal_id) 유니크라 딜 중복 없음)
+ *     투표 행은 싫어요/취소에서 좋아요로 바뀌어도 그대로 남으므로, 만든 시각이 아니라 마지막으로 바뀐 시각이 좋아요한 시각입니다.</li>
+ *     <li>댓글 단 딜 → 그 딜에 남긴 마지막 댓글의 created_at (idx_comment_user_created_at)
+ *     더 최근 댓글이 없는 댓글만 남기는 LEFT JOIN(idx_comment_user_deal_created_at)으로 딜당 한 행만 반환합니다.</li>
+ * </ul>
+ *
+ * <p>삭제된 딜은 조인 조건에서 제외합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityRepository {
+
+    private static final String AUTHORED_SQL = """
+            SELECT d.deal_id, d.created_at, d.deal_id AS sort_id
+            FROM deal d
+            WHERE d.user_id = ? AND d.is_delete = 0
+              %s
+            ORDER BY d.created_at DESC, d.deal_id DESC
+            LIMIT ?
+            """;
+    private static final String AUTHORED_AFTER = "AND (d.created_at < ? OR (d.created_at = ? AND d.deal_id < ?))";
+
+    private static final String LIKED_SQL = """
+            SELECT v.deal_id, v.updated_at, v.vote_id AS sort_id
+            FROM vote v
+            JOIN deal d ON d.deal_id = v.deal_id AND d.is_delete = 0
+            WHERE v.user_id = ? AND v.vote_type = 'TRUE'
+              %s
+            ORDER BY v.updated_at DESC, v.vote_id DESC
+            LIMIT ?
+            """;
+    private static final String LIKED_AFTER = "AND (v.updated_at < ? OR (v.updated_at = ? AND v.vote_id < ?))";
+
+    private static final String COMMENTED_SQL = """
+            SELECT c.deal_id, c.created_at, c.comment_id AS sort_id
+            FROM comment c
+            JOIN deal d ON d.deal_id = c.deal_id AND d.is_delete = 0
+            LEFT JOIN comment newer
+                   ON newer.user_id = c.user_id
+                  AND newer.deal_id = c.deal_id
+                  AND (newer.created_at > c.created_at
+                       OR (newer.created_at = c.created_at AND newer.comment_id > c.comment_id))
+            WHERE c.user_id = ? AND newer.comment_id IS NULL
+              %s
+            ORDER BY c.created_at DESC, c.comment_id DESC
+            LIMIT ?
+            """;
+    private static final String COMMENTED_AFTER = "AND (c.created_at < ? OR (c.created_at = ? AND c.comment_id < ?))";
+
+    private static final RowMapper<ActivityRow> ROW_MAPPER = (rs, rowNum) -> new ActivityRow(
+            rs.getLong(1),
+            rs.getTimestamp(2).toLocalDateTime(),
+            rs.getLong(3)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자가 작성한 딜 (작성일 최신순)
+     *
+     * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+     * @param limit 최대 행 수 (다음 페이지 판단용으로 size + 1 을 넘김)
+     */
+    public List<ActivityRow> findAuthoredDeals(Long userId, ActivityCursor cursor, int limit) {
+        return query(AUTHORED_SQL, AUTHORED_AFTER, userId, cursor, limit);
+    }
+
+    /**
+     * 사용자가 좋아요한 딜 (좋아요한 시각 최신순)
+     *
+     * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+     * @param limit 최대 행 수 (다음 페이지 판단용으로 size + 1 을 넘김)
+     */
+    public List<ActivityRow> findLikedDeals(Long userId, ActivityCursor cursor, int limit) {
+        return query(LIKED_SQL, LIKED_AFTER, userId, cursor, limit);
+    }
+
+    /**
+     * 사용자가 댓글을 단 딜 (그 딜의 마지막 댓글 시각 최신순, 딜 중복 없음)
+     *
+     * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+     * @param limit 최대 행 수 (다음 페이지 판단용으로 size + 1 을 넘김)
+     */
+    public List<ActivityRow> findCommentedDeals(Long userId, ActivityCursor cursor, int limit) {
+        return query(COMMENTED_SQL, COMMENTED_AFTER, userId, cursor, limit);
+    }
+
+    private List<ActivityRow> query(String sql, String afterCondition, Long userId, ActivityCursor cursor, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        if (cursor != null) {
+            args.add(cursor.sortAt());
+            args.add(cursor.sortAt());
+            args.add(cursor.sortId());
+        }
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.formatted(cursor != null ? afterCondition : ""), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 목록의 한 행
+     *
+     * @param dealId 딜 ID
+     * @param sortAt 정렬 시각 (작성/좋아요/마지막 댓글 시각)
+     * @param sortId 같은 시각 사이의 순서 (dealId/voteId/commentId)
+     */
+    public record ActivityRow(long dealId, LocalDateTime sortAt, long sortId) { }
+}
@@ -0,0 +1,58 @@
+package com.cherrypick.backend.domain.user.service;
+
+import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchPageResponseDTO;
+import com.cherrypick.backend.domain.deal.domain.service.DealSearchResponseFactory;
+import com.cherrypick.backend.domain.user.repository.UserActivityRepository.ActivityRow;
+import com.cherrypick.backend.domain.user.vo.ActivityCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 내 활동 딜 목록 페이지 응답 생성
+ *
+ * <p>UserActivityRepository 가 size + 1 개로 읽은 행을 한 페이지로 자르고,
+ * 딜 카드는 검색 목록과 같은 deal_card 읽기 모델(PK 조회)로 변환합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityPageFactory {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final DealSearchResponseFactory responseFactory;
+
+    /**
+     * 페이지 크기 보정 (1 ~ 50)
+     */
+    public int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 요청 커서 해석 (없으면 첫 페이지 = null)
+     */
+    public ActivityCursor decode(String cursor, ActivityCursor.Kind kind) {
+        return (cursor != null && !cursor.isBlank()) ? ActivityCursor.decode(cursor, kind) : null;
+    }
+
+    /**
+     * @param kind 목록 종류 (다음 페이지 커서에 기록)
+     * @param rows 최대 size + 1 개의 조회 결과
+     * @param size 페이지 크기
+     */
+    public DealSearchPageResponseDTO toPage(ActivityCursor.Kind kind, List<ActivityRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ActivityRow> content = hasNext ? rows.subList(0, size) : rows;
+
+        List<Long> dealIds = content.stream().map(ActivityRow::dealId).toList();
+        DealSearchPageResponseDTO page = responseFactory.fromCards(dealIds, hasNext);
+
+        if (hasNext) {
+            ActivityRow last = content.get(content.size() - 1);
+            page = page.withNextCursor(new ActivityCursor(kind, last.sortAt(), last.sortId()).encode());
+        }
+        return responseFactory.attachVoteTypes(page);
+    }
+}
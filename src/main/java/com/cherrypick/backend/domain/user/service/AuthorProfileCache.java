@@ -0,0 +1,139 @@
+package com.cherrypick.backend.domain.user.service;
+
+import com.cherrypick.backend.domain.image.entity.Image;
+import com.cherrypick.backend.domain.image.enums.ImageType;
+import com.cherrypick.backend.domain.image.repository.ImageRepository;
+import com.cherrypick.backend.domain.user.entity.User;
+import com.cherrypick.backend.domain.user.event.AuthorProfileChangedEvent;
+import com.cherrypick.backend.domain.user.vo.AuthorDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 작성자 프로필(닉네임, 배지, 프로필 이미지) 캐시 (Caffeine near-cache, userId 키)
+ *
+ * <p>댓글 목록/베스트 댓글/딜 상세의 작성자 정보(AuthorDTO)는 모두 이 캐시를 거쳐 만듭니다.
+ * 같은 작성자가 여러 댓글/딜에 반복해서 나오므로, 캐시 적중 시 프로필 이미지 조회와 배지 지연 로딩이 생기지 않습니다.</p>
+ *
+ * <p><b>조회:</b> 호출 측이 이미 읽은 User 엔티티(배지 fetch join)를 넘기고, 캐시에 없는 사용자만 모아
+ * 프로필 이미지를 한 번의 IN 쿼리로 조회합니다. (Caffeine getAll 일괄 적재)</p>
+ *
+ * <p><b>무효화:</b> 닉네임/배지/프로필 이미지 변경 시 발행되는 AuthorProfileChangedEvent 를 커밋 이후 받아
+ * 로컬 캐시에서 제거하고, REPIK:cache:author_profile:evict 채널로 다른 인스턴스에도 알립니다.
+ * 메시지가 유실되어도 TTL(기본 5분) 이후에는 갱신됩니다.</p>
+ *
+ * <p>메트릭: cache.*{cache=author_profile}</p>
+ */
+@Slf4j
+@Component
+public class AuthorProfileCache implements MessageListener {
+
+    private static final String EVICT_CHANNEL = "REPIK:cache:author_profile:evict";
+
+    private final ImageRepository imageRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, AuthorDTO> local;
+
+    public AuthorProfileCache(ImageRepository imageRepository,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${user.author-profile.cache.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${user.author-profile.cache.max-size:10000}") long maxSize) {
+        this.imageRepository = imageRepository;
+        this.redisTemplate = redisTemplate;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "author_profile");
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 작성자 한 명의 프로필
+     *
+     * @param user 작성자 (캐시 미스 시에만 닉네임/배지를 읽음)
+     */
+    public AuthorDTO get(User user) {
+        return getAll(List.of(user)).get(user.getUserId());
+    }
+
+    /**
+     * 작성자들의 프로필 (캐시 미스인 작성자만 프로필 이미지를 일괄 조회)
+     *
+     * @param users 작성자 목록 (중복 허용, 배지를 fetch join 해 두면 미스 시 추가 쿼리 없음)
+     * @return userId → AuthorDTO
+     */
+    public Map<Long, AuthorDTO> getAll(Collection<User> users) {
+        Map<Long, User> usersById = new LinkedHashMap<>();
+        for (User user : users) {
+            usersById.putIfAbsent(user.getUserId(), user);
+        }
+        if (usersById.isEmpty()) {
+            return Map.of();
+        }
+
+        return local.getAll(usersById.keySet(), missing -> load(missing, usersById));
+    }
+
+    /**
+     * 닉네임/배지/프로필 이미지 변경 시 캐시 무효화 (커밋 이후, 트랜잭션이 없으면 즉시 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(AuthorProfileChangedEvent event) {
+        local.invalidate(event.userId());
+
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, event.userId().toString());
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 TTL 이후 갱신됨
+            log.warn("작성자 프로필 캐시 무효화 전파 실패: userId={}", event.userId(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스(또는 자신)가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            local.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 작성자 프로필 캐시 무효화 메시지: {}", message);
+        }
+    }
+
+    private Map<Long, AuthorDTO> load(Set<? extends Long> userIds, Map<Long, User> usersById) {
+        // 작성자별 대표 프로필 이미지 (imageIndex 가 가장 작은 이미지)
+        Map<Long, Image> avatars = new HashMap<>();
+        for (Image image : imageRepository.findByRefIdInAndImageType(new ArrayList<>(userIds), ImageType.USER)) {
+            avatars.merge(image.getRefId(), image,
+                    (a, b) -> a.getImageIndex() <= b.getImageIndex() ? a : b);
+        }
+
+        Map<Long, AuthorDTO> loaded = new HashMap<>();
+        for (Long userId : userIds) {
+            Image avatar = avatars.get(userId);
+            loaded.put(userId, AuthorDTO.from(usersById.get(userId), avatar != null ? avatar.getImageUrl() : null));
+        }
+        return loaded;
+    }
+}
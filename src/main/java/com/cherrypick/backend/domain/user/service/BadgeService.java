@@ -4,6 +4,7 @@ import com.cherrypick.backend.domain.user.dto.response.UserResponseDTOs;
 import com.cherrypick.backend.domain.user.entity.Badge;
 import com.cherrypick.backend.domain.user.entity.User;
 import com.cherrypick.backend.domain.user.entity.UserBadge;
+import com.cherrypick.backend.domain.user.event.AuthorProfileChangedEvent;
 import com.cherrypick.backend.domain.user.repository.BadgeRepository;
 import com.cherrypick.backend.domain.user.repository.UserBadgeRepository;
 import com.cherrypick.backend.domain.user.repository.UserRepository;
@@ -11,6 +12,7 @@ import com.cherrypick.backend.global.exception.enums.BadgeErrorCode;
 import com.cherrypick.backend.global.exception.enums.UserErrorCode;
 import com.cherrypick.backend.global.util.AuthUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.cherrypick.backend.global.exception.BaseException;
@@ -24,6 +26,7 @@ public class BadgeService
     private final UserBadgeRepository userBadgeRepository;
     private final UserRepository userRepository;
     private final BadgeRepository badgeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 유저에게 뱃지를 부여합니다.
@@ -79,6 +82,7 @@ public class BadgeService
 
         user.setBadge(badge);
         userRepository.save(user);
+        eventPublisher.publishEvent(new AuthorProfileChangedEvent(userId));
 
         return new UserResponseDTOs.BadgeEquipDTO(
                 user.getUserId(),
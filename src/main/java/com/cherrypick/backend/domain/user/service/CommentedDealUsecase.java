@@ -1,17 +1,10 @@
 package com.cherrypick.backend.domain.user.service;
 
 import com.cherrypick.backend.domain.deal.application.dto.response.DealSearchPageResponseDTO;
-import com.cherrypick.backend.domain.deal.domain.entity.Deal;
-import com.cherrypick.backend.domain.deal.domain.enums.SortType;
-import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
-import com.cherrypick.backend.domain.deal.domain.service.DealSearchResponseFactory;
-import com.cherrypick.backend.domain.deal.domain.service.search.DealFilterFactory;
-import com.cherrypick.backend.domain.deal.domain.service.search.DealSortFactory;
+import com.cherrypick.backend.domain.user.repository.UserActivityRepository;
+import com.cherrypick.backend.domain.user.vo.ActivityCursor;
 import com.cherrypick.backend.global.util.AuthUtil;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,42 +12,37 @@ import java.util.List;
 @Service @RequiredArgsConstructor
 public class CommentedDealUsecase
 {
-    private final DealRepository dealRepository;
-    private final DealFilterFactory filterFactory;
-    private final DealSortFactory sortFactory;
-    private final DealSearchResponseFactory responseFactory;
+    private final UserActivityRepository userActivityRepository;
+    private final ActivityPageFactory activityPageFactory;
 
     /**
      * 현재 인증된 사용자가 댓글을 작성한 딜을 페이징하여 조회합니다.
      *
      * <p>처리 흐름:
      * <ol>
-     *   <li>인증된 사용자 ID 추출</li>
-     *   <li>해당 사용자가 댓글을 작성한 딜 목록 조회 (QueryDSL, 최신순)</li>
-     *   <li>연관 데이터(카테고리, 스토어, 이미지, 통계) 포함한 응답 생성</li>
+     *   <li>인증된 사용자 ID 추출, 커서 해석</li>
+     *   <li>해당 사용자가 댓글을 작성한 딜 목록 조회 (comment 사용자 인덱스 → deal 조인, 딜별 마지막 댓글 시각 최신순), size + 1 개 Keyset 조회</li>
+     *   <li>deal_card 로 응답 생성, 다음 페이지 커서 발급</li>
      * </ol>
      *
-     * @param page 페이지 번호 (0부터 시작)
-     * @param size 페이지당 아이템 수
-     * @return 사용자가 댓글을 작성한 딜의 검색 응답 DTO (페이징 적용)
-     * @throws com.cherrypick.backend.global.exception.BaseException 인증되지 않은 사용자인 경우
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지당 아이템 수 (최대 50)
+     * @return 사용자가 댓글을 작성한 딜의 검색 응답 DTO (Keyset 페이징 적용)
+     * @throws com.cherrypick.backend.global.exception.BaseException 인증되지 않은 사용자인 경우, 커서가 유효하지 않은 경우 (INVALID_CURSOR)
      */
-    public DealSearchPageResponseDTO getCommentedDeals(int page, int size)
+    public DealSearchPageResponseDTO getCommentedDeals(String cursor, int size)
     {
         var userId = AuthUtil.getUserDetail().userId();
+        var kind = ActivityCursor.Kind.COMMENTED;
+        int pageSize = activityPageFactory.clampSize(size);
 
-        // 필터 및 정렬 생성
-        BooleanExpression filter = filterFactory.createCommentedByUserFilter(userId);
-        var orders = sortFactory.createOrderSpecifiers(SortType.LATEST);
-        Pageable pageable = PageRequest.of(0, 1000000);
+        // 커서 다음부터 size + 1 개 조회 (다음 페이지 여부 판단)
+        List<UserActivityRepository.ActivityRow> rows = userActivityRepository.findCommentedDeals(
+                userId,
+                activityPageFactory.decode(cursor, kind),
+                pageSize + 1
+        );
 
-        // 딜 조회
-        List<Deal> deals = dealRepository.searchWithFilters(
-                List.of(filter),
-                orders,
-                pageable
-        ).getContent();
-
-        return responseFactory.loadRelations(deals, false);
+        return activityPageFactory.toPage(kind, rows, pageSize);
     }
 }
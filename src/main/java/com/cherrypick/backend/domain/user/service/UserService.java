@@ -11,6 +11,7 @@ import com.cherrypick.backend.domain.user.dto.request.UserUpdateRequestDTO;
 import com.cherrypick.backend.domain.user.entity.User;
 import com.cherrypick.backend.domain.user.enums.Gender;
 import com.cherrypick.backend.domain.user.enums.UserStatus;
+import com.cherrypick.backend.domain.user.event.AuthorProfileChangedEvent;
 import com.cherrypick.backend.domain.user.repository.UserRepository;
 import com.cherrypick.backend.global.exception.BaseException;
 import com.cherrypick.backend.global.exception.enums.UserErrorCode;
@@ -18,6 +19,7 @@ import com.cherrypick.backend.global.util.AuthUtil;
 import com.cherrypick.backend.global.log.domain.LogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final ImageService imageService;
     private final UserLogService logService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     // 유저 업데이트
@@ -50,6 +53,9 @@ public class UserService {
         // [2] 프로필 이미지 업데이트
         var profileImage = imageService.updateUserProfileImage(userId, dto.imageId());
 
+        // [3] 작성자 프로필 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(new AuthorProfileChangedEvent(userId));
+
         return UserDetailResponseDTO.from(updatedUser, profileImage);
     }
 
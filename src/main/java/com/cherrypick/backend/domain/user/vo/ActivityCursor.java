@@ -0,0 +1,60 @@
+package com.cherrypick.backend.domain.user.vo;
+
+import com.cherrypick.backend.global.exception.BaseException;
+import com.cherrypick.backend.global.exception.enums.UserErrorCode;
+import com.cherrypick.backend.global.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 내 활동 딜 목록 커서 (Keyset 페이지네이션)
+ *
+ * <p>마지막으로 내려준 행의 정렬 시각과 ID를 담습니다. 목록마다 정렬 기준이 달라 다른 목록의 커서는 받지 않습니다.</p>
+ *
+ * @param kind 커서를 발급한 목록
+ * @param sortAt 마지막 행의 정렬 시각
+ * @param sortId 마지막 행의 ID (같은 시각 사이의 순서 보장)
+ */
+public record ActivityCursor(
+        Kind kind,
+        LocalDateTime sortAt,
+        long sortId
+) {
+
+    private static final int PARTS = 3;
+
+    public enum Kind {
+        AUTHORED,   // 작성한 딜 (sortId = dealId)
+        LIKED,      // 좋아요한 딜 (sortId = voteId)
+        COMMENTED   // 댓글 단 딜 (sortId = commentId)
+    }
+
+    /**
+     * 커서 토큰을 해석합니다.
+     *
+     * @param cursor 클라이언트가 전달한 커서 토큰
+     * @param kind 현재 요청의 목록
+     * @throws BaseException 토큰이 손상되었거나 다른 목록의 커서인 경우 (INVALID_CURSOR)
+     */
+    public static ActivityCursor decode(String cursor, Kind kind) {
+        try {
+            String[] parts = CursorCodec.decode(cursor, PARTS);
+            ActivityCursor decoded = new ActivityCursor(Kind.valueOf(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+
+            if (decoded.kind() != kind) {
+                throw new BaseException(UserErrorCode.INVALID_CURSOR);
+            }
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(UserErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 토큰 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        return CursorCodec.encode(kind.name(), sortAt.toString(), Long.toString(sortId));
+    }
+}
@@ -6,6 +6,7 @@ import com.cherrypick.backend.domain.user.entity.User;
 /**
  * 작성자 정보 DTO
  * - 상세보기 및 목록에서 작성자 정보 표시에 사용
+ * - 조회 응답용 인스턴스는 AuthorProfileCache 를 통해 만듭니다. (프로필 변경 시 무효화)
  *
  * @param userId 사용자 ID
  * @param userName 사용자 닉네임
@@ -26,7 +27,7 @@ public record AuthorDTO(
      *
      * @param user 사용자 엔티티
      * @param imageUrl 프로필 이미지 URL (null 가능)
-     * @return 생성된 DealAuthorDTO
+     * @return 생성된 DealAuthorDTO (배지가 없으면 badgeId/badgeName = null)
      */
     public static AuthorDTO from(User user, String imageUrl)
     {
@@ -36,8 +37,8 @@ public record AuthorDTO(
                 user.getUserId(),
                 user.getNickname(),
                 imageUrl,
-                badge.getBadgeId(),
-                badge.getDisplayName()
+                badge != null ? badge.getBadgeId() : null,
+                badge != null ? badge.getDisplayName() : null
         );
     }
 
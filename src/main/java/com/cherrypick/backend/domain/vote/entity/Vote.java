@@ -15,6 +15,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_vote_user_deal", columnNames = {"user_id", "deal_id"}))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +22,22 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     // 중복 투표 검사
     Optional<Vote> findByUserIdAndDealId(User userId, Deal dealId);
 
+    // 사용자의 딜 투표 타입 조회 (엔티티 로드 없이 ID로만 조회)
+    @Query("SELECT v.voteType FROM Vote v WHERE v.userId.userId = :userId AND v.dealId.dealId = :dealId")
+    Optional<VoteType> findVoteTypeByUserIdAndDealId(@Param("userId") Long userId, @Param("dealId") Long dealId);
+
+    @Query("SELECT v.dealId.dealId, v.voteType FROM Vote v WHERE v.userId.userId = :userId AND v.dealId.dealId IN :dealIds")
+    List<Object[]> findVoteTypesByUserIdAndDealIdIn(@Param("userId") Long userId, @Param("dealIds") Collection<Long> dealIds);
+
+    // 사용자의 여러 딜 투표 타입 일괄 조회 (uk_vote_user_deal 인덱스, 쿼리 1회)
+    default Map<Long, VoteType> findVoteTypesByUserIdAndDealIds(Long userId, Collection<Long> dealIds) {
+        return findVoteTypesByUserIdAndDealIdIn(userId, dealIds).stream()
+                .collect(Collectors.toMap(
+                        r -> (Long) r[0],
+                        r -> (VoteType) r[1]
+                ));
+    }
+
     @Query("SELECT v.dealId.dealId, COUNT(v) FROM Vote v WHERE v.dealId.dealId IN :dealIds AND v.voteType = :voteType GROUP BY v.dealId.dealId")
     List<Object[]> countVotesGroupedByDealId(@Param("dealIds") List<Long> dealIds, @Param("voteType") VoteType voteType);
 
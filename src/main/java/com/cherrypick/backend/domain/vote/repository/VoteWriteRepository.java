@@ -0,0 +1,92 @@
+package com.cherrypick.backend.domain.vote.repository;
+
+import com.cherrypick.backend.domain.vote.enums.VoteType;
+import com.cherrypick.backend.global.exception.BaseException;
+import com.cherrypick.backend.global.exception.enums.DealErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 투표 저장 (딜 행 잠금 후 사용자당 1건 저장)
+ *
+ * <p>사용자/딜/기존 투표 엔티티를 조회해 저장하는 대신, 딜 행과 기존 투표 행만 잠가 읽고 INSERT 또는 UPDATE 합니다.
+ * 문장 수(잠금 2 + 저장 1)는 기존 방식과 비슷하며, 목적은 왕복 감소가 아니라 동시 투표의 중복/교착/카운터 오차 제거입니다.
+ * (INSERT ... ON DUPLICATE KEY UPDATE 는 이전 값을 돌려주지 않아 세션 변수 없이는 카운터 증감을 계산할 수 없음)</p>
+ *
+ * <p><b>잠금 순서:</b></p>
+ * <ul>
+ *     <li>딜 행을 먼저 {@code SELECT ... FOR UPDATE} 로 잠급니다. 없으면 DEAL_NOT_FOUND 입니다.</li>
+ *     <li>vote INSERT 의 FK 검사는 딜 행에 공유 잠금을, 뒤이은 카운터 UPDATE 는 배타 잠금을 요구합니다.
+ *     딜 행을 먼저 잡지 않으면 같은 딜에 대한 동시 투표 두 건이 서로의 공유 잠금을 기다리며 교착 상태가 됩니다.</li>
+ *     <li>같은 딜의 투표는 딜 행 잠금으로 직렬화되므로, 이어서 잠그는 기존 투표 행의 vote_type/score 는 동시 투표 사이에도 정확합니다.
+ *     (user_id, deal_id) 유니크 키는 중복 투표를 막는 최종 안전장치입니다.</li>
+ *     <li>호출 측 트랜잭션 안에서 카운터 갱신까지 끝나야 잠금이 의미가 있으므로 트랜잭션이 필수입니다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteWriteRepository {
+
+    private static final String LOCK_DEAL_SQL = "SELECT deal_id FROM deal WHERE deal_id = ? FOR UPDATE";
+
+    private static final String LOCK_VOTE_SQL =
+            "SELECT vote_type, score FROM vote WHERE user_id = ? AND deal_id = ? FOR UPDATE";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO vote (user_id, deal_id, vote_type, content, score, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, NOW(6), NOW(6))""";
+
+    private static final String UPDATE_SQL = """
+            UPDATE vote
+            SET vote_type = ?, content = ?, score = ?, updated_at = NOW(6)
+            WHERE user_id = ? AND deal_id = ?""";
+
+    /**
+     * 덮어쓰기 전 투표
+     *
+     * @param voteType 이전 투표 타입 (취소 상태면 NONE)
+     * @param score 이전에 heat 에 반영된 점수
+     */
+    public record PreviousVote(VoteType voteType, double score) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 투표를 저장하고 덮어쓰기 전 투표를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param dealId 딜 ID
+     * @param voteType 새 투표 타입
+     * @param content 싫어요 사유 (없으면 null)
+     * @param score heat 에 반영할 새 점수
+     * @return 이전 투표 (처음 투표면 Optional.empty())
+     * @throws BaseException 딜이 없는 경우 (DEAL_NOT_FOUND)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<PreviousVote> save(Long userId, Long dealId, VoteType voteType, String content, double score) {
+        if (jdbcTemplate.queryForList(LOCK_DEAL_SQL, Long.class, dealId).isEmpty()) {
+            throw new BaseException(DealErrorCode.DEAL_NOT_FOUND);
+        }
+
+        List<PreviousVote> previous = jdbcTemplate.query(LOCK_VOTE_SQL,
+                (rs, rowNum) -> {
+                    String type = rs.getString(1);
+                    return new PreviousVote(type == null ? null : VoteType.valueOf(type), rs.getDouble(2));
+                },
+                userId, dealId);
+
+        if (previous.isEmpty()) {
+            jdbcTemplate.update(INSERT_SQL, userId, dealId, voteType.name(), content, score);
+            return Optional.empty();
+        }
+
+        jdbcTemplate.update(UPDATE_SQL, voteType.name(), content, score, userId, dealId);
+        return Optional.of(previous.get(0));
+    }
+}
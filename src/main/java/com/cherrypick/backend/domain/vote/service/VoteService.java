@@ -1,44 +1,44 @@
 package com.cherrypick.backend.domain.vote.service;
 
-import com.cherrypick.backend.domain.deal.domain.entity.Deal;
-import com.cherrypick.backend.domain.deal.domain.repository.DealRepository;
-import com.cherrypick.backend.domain.user.entity.User;
-import com.cherrypick.backend.domain.user.repository.UserRepository;
+import com.cherrypick.backend.domain.deal.domain.event.DealChangedEvent;
+import com.cherrypick.backend.domain.deal.domain.repository.DealCounterRepository;
 import com.cherrypick.backend.domain.vote.dto.request.VoteRequestDTO;
 import com.cherrypick.backend.domain.vote.dto.response.VoteResponseDTO;
-import com.cherrypick.backend.domain.vote.entity.Vote;
 import com.cherrypick.backend.domain.vote.enums.VoteType;
 import com.cherrypick.backend.domain.vote.repository.VoteRepository;
+import com.cherrypick.backend.domain.vote.repository.VoteWriteRepository;
 import com.cherrypick.backend.global.exception.BaseException;
-import com.cherrypick.backend.global.exception.enums.DealErrorCode;
-import com.cherrypick.backend.global.exception.enums.GlobalErrorCode;
 import com.cherrypick.backend.global.exception.enums.VoteErrorCode;
 import com.cherrypick.backend.global.util.AuthUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor @Slf4j
 public class VoteService {
 
     private final VoteRepository voteRepository;
-    private final DealRepository dealRepository;
-    private final UserRepository userRepository;
+    private final VoteWriteRepository voteWriteRepository;
+    private final DealCounterRepository dealCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 투표 생성/변경/취소
+     *
+     * <p>사용자/딜/기존 투표 엔티티를 조회하지 않고 VoteWriteRepository 가 딜 행을 잠근 뒤 저장하고,
+     * 저장 전 투표로 좋아요/싫어요 수와 heat 변화량을 한 문장으로 반영합니다.
+     * 존재하지 않는 딜은 딜 행 잠금 결과로 판단합니다. (DEAL_NOT_FOUND)</p>
+     */
     @Transactional
     public VoteResponseDTO createVote(Long dealId, VoteRequestDTO request) {
-        var userDetails = AuthUtil.getUserDetail();
-
-        User user = userRepository.findById(userDetails.userId())
-                .orElseThrow(() -> new BaseException(GlobalErrorCode.UNAUTHORIZED));
-
-        Deal deal = dealRepository.findById(dealId)
-                .orElseThrow(() -> new BaseException(DealErrorCode.DEAL_NOT_FOUND));
+        Long userId = AuthUtil.getUserDetail().userId();
 
         String content = null;
         if (request.voteType() == VoteType.FALSE && request.dislikeReason() != null) {
@@ -51,87 +51,67 @@ public class VoteService {
             throw new BaseException(VoteErrorCode.DISLIKE_REASON_INVALID);
         }
 
-        // 기존 투표 조회
-        Vote vote = voteRepository.findByUserIdAndDealId(user, deal)
-                .orElse(new Vote());
-
-        // 이전 점수 제거
-        double prevScore = vote.getScore();
-        deal.setHeat(clampScore(deal.getHeat() - prevScore));
-
-        // 새 점수 계산
-        double newScore = 1.0;
-        if (request.voteType() != VoteType.NONE) {
-            newScore = calculateSingleScore(user, deal, request.voteType(), LocalDateTime.now());
-            deal.setHeat(clampScore(deal.getHeat() + newScore));
-            log.info("getHeat : {}", deal.getHeat());
-            log.info("newScore : {}", newScore);
-            log.info("updatedScore : {}", clampScore(deal.getHeat() + newScore));
-        }
-        else newScore = 0.0;
-
-        log.info("newScore : {}", newScore);
-        // 투표 갱신
-        vote.setUserId(user);
-        vote.setDealId(deal);
-        vote.setVoteType(request.voteType());
-        vote.setContent(content);
-        vote.setScore(newScore);
-        voteRepository.save(vote);
-
-        return new VoteResponseDTO(deal.getDealId(), "핫딜 게시글 투표 성공");
+        // 새 점수 계산 (heat 반영은 아래에서 DB 원자 연산으로 처리)
+        double newScore = request.voteType() != VoteType.NONE
+                ? calculateSingleScore(request.voteType())
+                : 0.0;
+
+        // 투표 저장 (딜 행 잠금 후 저장, 동시 요청에도 사용자당 1건 / 딜이 없으면 DEAL_NOT_FOUND)
+        Optional<VoteWriteRepository.PreviousVote> previous =
+                voteWriteRepository.save(userId, dealId, request.voteType(), content, newScore);
+        VoteType previousType = previous.map(VoteWriteRepository.PreviousVote::voteType).orElse(null);
+        double prevScore = previous.map(VoteWriteRepository.PreviousVote::score).orElse(0.0);
+
+        // 좋아요/싫어요 수와 heat 를 한 문장으로 증감 (동시 투표 시 갱신 유실 없음, 딜 행 전체를 다시 쓰지 않음)
+        dealCounterRepository.applyVoteChange(dealId, previousType, request.voteType(), newScore - prevScore);
+
+        eventPublisher.publishEvent(DealChangedEvent.voted(dealId));
+
+        return new VoteResponseDTO(dealId, "핫딜 게시글 투표 성공");
     }
 
     // 단일 투표 점수 계산
-    private double calculateSingleScore(User user, Deal deal, VoteType voteType, LocalDateTime now) {
-        double userWeight = user.getUserWeight(); // 유저 가중치 DB에서 가져옴
-        double timeDecay = getTimeDecay(deal.getCreatedAt(), now);
+    private double calculateSingleScore(VoteType voteType) {
         double likeWeight = switch (voteType) {
             case TRUE -> 1.0;
             case FALSE -> -1.0;
             default -> 0.0;
         };
-        double resistance = 2.0 + (deal.getHeat() / 100.0); // CurrentResistance = BaseResistance + CurrentHeat / ResistanceWeight
-        // 추후 가중이 적용된 수치로 반환해야함.
+        // 시간 감쇠는 투표 시점이 아니라 DealHotScoreEngine 이 인기 점수(hot_score)를 재계산할 때 반영함
+        // 추후 유저 가중치(user_weight)가 적용된 수치로 반환해야함. (필요 시 user_weight 컬럼만 조회)
         log.info("likeWeight : {}", likeWeight);
         return likeWeight;
     }
 
-    // 생성 시간 감쇠율
-    private double getTimeDecay(LocalDateTime createdAt, LocalDateTime now) {
-        long hours = Duration.between(createdAt, now).toHours();
-        if (hours < 0) return 1.0;
-        if (hours < 1) return 1.0;
-        if (hours < 6) return 0.8;
-        if (hours < 24) return 0.6;
-        if (hours < 72) return 0.3;
-        return 0.1;
-    }
-
-    // 점수 범위 설정
-    private double clampScore(double score) {
-        return Math.max(-1000.0, Math.min(1000.0, score));
-    }
-
     /**
      * 특정 사용자의 딜에 대한 투표 상태 조회
      *
-     * @param deal 딜 엔티티
+     * @param dealId 딜 ID
      * @param userId 사용자 ID (null 가능)
      * @return 사용자의 투표 타입 (로그인하지 않았거나 투표하지 않은 경우 VoteType.NONE)
      */
-    public VoteType getUserVote(Deal deal, Long userId) {
+    public VoteType getUserVote(Long dealId, Long userId) {
         if (userId == null) {
             return VoteType.NONE;
         }
 
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            return VoteType.NONE;
+        // 사용자/딜 엔티티를 조회하지 않고 (user_id, deal_id) 인덱스로 투표 타입만 조회
+        return voteRepository.findVoteTypeByUserIdAndDealId(userId, dealId)
+                .orElse(VoteType.NONE);
+    }
+
+    /**
+     * 특정 사용자의 여러 딜에 대한 투표 상태 일괄 조회 (목록 페이지용, IN 쿼리 1회)
+     *
+     * @param userId 사용자 ID (null 가능)
+     * @param dealIds 딜 ID 목록
+     * @return dealId → 투표 타입 (투표하지 않은 딜은 포함되지 않음, 비로그인이면 조회 없이 빈 Map)
+     */
+    public Map<Long, VoteType> getUserVotes(Long userId, Collection<Long> dealIds) {
+        if (userId == null || dealIds.isEmpty()) {
+            return Map.of();
         }
 
-        return voteRepository.findByUserIdAndDealId(user, deal)
-                .map(Vote::getVoteType)
-                .orElse(VoteType.NONE);
+        return voteRepository.findVoteTypesByUserIdAndDealIds(userId, dealIds);
     }
 }
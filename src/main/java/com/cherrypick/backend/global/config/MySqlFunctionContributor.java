@@ -0,0 +1,28 @@
+package com.cherrypick.backend.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL 전용 SQL 함수를 Hibernate(HQL/QueryDSL)에 등록합니다.
+ *
+ * <p>META-INF/services/org.hibernate.boot.model.FunctionContributor 로 로드됩니다.</p>
+ *
+ * <ul>
+ *     <li>match_against(col1, col2, query) → MATCH(col1, col2) AGAINST (query IN BOOLEAN MODE) (관련도 점수)</li>
+ * </ul>
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -82,7 +82,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET,
                                 "/api/deal/recommend", "/api/deal/*", "/api/product-info",              // 게시글 추천 시스템 조회 요청
                                 "/api/category", "/api/store", "/api/discount",                         // 관련 리소스 조회 요청
-                                "/api/best-comment/*", "/api/comment/*",                                  // 댓글 조회 요청
+                                "/api/best-comment/*", "/api/comment/*", "/api/comment/*/page", "/api/comment/replies/*", // 댓글 조회 요청
                                 "/api/redirect/**", "/api/deal/purchase-log"                                                          // 딥링크 리다이렉션
 
                         ).permitAll()
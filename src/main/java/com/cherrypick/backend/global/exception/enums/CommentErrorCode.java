@@ -14,6 +14,7 @@ public enum CommentErrorCode implements BaseErrorCode {
     MISSING_COMMENT_CONTENT(HttpStatus.BAD_REQUEST, "댓글 내용이 누락되었습니다."),
     INVALID_PARENT_COMMENT(HttpStatus.BAD_REQUEST, "부모 댓글 정보가 유효하지 않습니다."),
     CANNOT_REPLY_TO_REPLY(HttpStatus.BAD_REQUEST, "대댓글에는 답글을 작성할 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 댓글 페이지 커서입니다."),
 
     // ✅ 404 NOT FOUND
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 댓글입니다."),
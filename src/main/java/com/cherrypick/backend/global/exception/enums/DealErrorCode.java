@@ -14,6 +14,7 @@ public enum DealErrorCode implements BaseErrorCode {
     INVALID_DISCOUNT_INFORMATION(HttpStatus.BAD_REQUEST, "할인 정보가 유효하지 않습니다."),
     INVALID_PRICE_TYPE(HttpStatus.BAD_REQUEST, "유효하지 않은 가격 타입입니다."),
     INVALID_SHIPPING_TYPE(HttpStatus.BAD_REQUEST, "유효하지 않은 배송 타입입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
 
     // ✅ 404 NOT FOUND
     DEAL_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 핫딜 게시글입니다."),
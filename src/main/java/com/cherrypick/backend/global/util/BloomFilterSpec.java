@@ -0,0 +1,87 @@
+package com.cherrypick.backend.global.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 블룸 필터 크기/해시 계산기 (저장소와 무관)
+ *
+ * <p>예상 원소 수 n, 목표 오탐률 p로부터 비트 수 m과 해시 개수 k를 계산하고,
+ * 원소마다 k개의 비트 위치를 만듭니다. 비트 저장은 호출 측(예: Redis 비트맵)이 담당합니다.</p>
+ *
+ * <ul>
+ *     <li>m = -n·ln(p) / (ln 2)²</li>
+ *     <li>k = (m / n)·ln 2</li>
+ *     <li>비트 위치: 더블 해싱 (h1 + i·h2) mod m, h1/h2는 원소의 SHA-256 앞 16바이트</li>
+ * </ul>
+ */
+public final class BloomFilterSpec {
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilterSpec(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        }
+
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bitSize = Math.max(8, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 원소의 비트 위치 k개
+     */
+    public long[] offsets(String element) {
+        byte[] digest = sha256(element);
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, bitSize);
+        }
+        return offsets;
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 필터 하나가 가득 찼을 때의 크기 (바이트)
+     */
+    public long byteSize() {
+        return (bitSize + 7) / 8;
+    }
+
+    private static byte[] sha256(String element) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(element.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.cherrypick.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 커서 페이지네이션용 불투명(opaque) 토큰 인코더/디코더
+ *
+ * <p>여러 값을 구분자로 이어붙인 뒤 URL-safe Base64로 인코딩합니다.
+ * 클라이언트는 토큰의 내부 구조를 알 필요 없이 그대로 돌려보내기만 하면 됩니다.</p>
+ */
+public class CursorCodec
+{
+    private static final String DELIMITER = "|";
+    private static final Pattern DELIMITER_PATTERN = Pattern.compile(Pattern.quote(DELIMITER));
+
+    private CursorCodec(){}
+
+    /**
+     * 값들을 하나의 커서 토큰으로 인코딩합니다.
+     *
+     * @param parts 커서에 담을 값들 (구분자 '|' 를 포함하면 안 됨)
+     * @return URL-safe Base64 토큰
+     */
+    public static String encode(String... parts) {
+        String raw = String.join(DELIMITER, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 값 배열로 디코딩합니다.
+     *
+     * @param cursor 커서 토큰
+     * @param expectedParts 기대하는 값 개수
+     * @return 디코딩된 값 배열
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            throw new IllegalArgumentException("cursor is empty");
+        }
+
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = DELIMITER_PATTERN.split(raw, -1);
+
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("unexpected cursor format");
+        }
+        return parts;
+    }
+
+}
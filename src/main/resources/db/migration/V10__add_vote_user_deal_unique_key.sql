@@ -0,0 +1,24 @@
+-- 사용자당 딜 투표 1건 보장
+-- 기존에는 조회 후 저장 방식이라 동시 요청(더블 클릭)이면 같은 (user_id, deal_id) 투표가 여러 건 생길 수 있었습니다.
+-- 유니크 키를 두고 투표는 딜 행을 잠근 뒤 저장합니다. (VoteWriteRepository)
+
+-- 중복 투표 정리 (가장 최근 투표만 유지)
+DELETE v
+FROM vote v
+    JOIN vote newer ON newer.user_id = v.user_id
+                   AND newer.deal_id = v.deal_id
+                   AND newer.vote_id > v.vote_id;
+
+-- 기존 (user_id, deal_id) 인덱스를 유니크 키로 교체 (user_id FK 인덱스를 유지하도록 추가 후 삭제)
+ALTER TABLE vote ADD CONSTRAINT uk_vote_user_deal UNIQUE (user_id, deal_id);
+DROP INDEX idx_vote_user_deal ON vote;
+
+-- 중복 투표가 반영되어 있던 좋아요/싫어요 수 재계산
+UPDATE deal d
+    LEFT JOIN (SELECT deal_id,
+                      SUM(vote_type = 'TRUE')  AS likes,
+                      SUM(vote_type = 'FALSE') AS dislikes
+               FROM vote
+               GROUP BY deal_id) v ON v.deal_id = d.deal_id
+SET d.like_count    = COALESCE(v.likes, 0),
+    d.dislike_count = COALESCE(v.dislikes, 0);
@@ -0,0 +1,13 @@
+-- 댓글 좋아요 수 집계 컬럼
+-- 베스트 댓글/좋아요순 정렬 때마다 comment_like 를 세지 않도록 댓글 행에 카운터를 둡니다.
+-- 좋아요/취소 시 애플리케이션이 원자적으로 증감하고(CommentCounterRepository),
+-- CommentCounterReconciler 가 주기적으로 comment_like 기준으로 다시 계산해 어긋난 값을 바로잡습니다.
+ALTER TABLE comment
+    ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기
+UPDATE comment c
+    JOIN (SELECT comment_id, COUNT(*) AS likes
+          FROM comment_like
+          GROUP BY comment_id) l ON l.comment_id = c.comment_id
+SET c.like_count = l.likes;
@@ -0,0 +1,9 @@
+-- 댓글 커서 페이지네이션용 복합 인덱스
+-- InnoDB 보조 인덱스는 PK를 포함하므로 (조건, 정렬 키) 인덱스가 comment_id tie-breaker 정렬까지 커버합니다.
+-- 대댓글 페이지는 기존 idx_comment_parent_created_at (parent_id, created_at) 을 사용합니다.
+
+-- 부모 댓글 최신순: deal_id = ? AND parent_id IS NULL ORDER BY created_at DESC, comment_id DESC
+CREATE INDEX idx_comment_deal_parent_created_at ON comment (deal_id, parent_id, created_at);
+
+-- 부모 댓글 인기순: deal_id = ? AND parent_id IS NULL ORDER BY like_count DESC, created_at DESC, comment_id DESC
+CREATE INDEX idx_comment_deal_parent_like_count ON comment (deal_id, parent_id, like_count, created_at);
@@ -0,0 +1,19 @@
+-- 내 활동(작성/좋아요/댓글) 딜 목록 Keyset 조회용 복합 인덱스
+-- 사용자 기준 인덱스에서 (정렬 시각, PK) 역순으로 LIMIT 만큼만 읽고 deal 로 조인합니다. (UserActivityRepository)
+-- InnoDB 보조 인덱스는 PK를 포함하므로 같은 시각 사이의 PK tie-breaker 정렬까지 커버합니다.
+
+-- 작성한 딜: user_id = ? AND is_delete = 0 ORDER BY created_at DESC, deal_id DESC
+CREATE INDEX idx_deal_user_is_delete_created_at ON deal (user_id, is_delete, created_at);
+
+-- 좋아요한 딜: user_id = ? AND vote_type = 'TRUE' ORDER BY updated_at DESC, vote_id DESC
+-- 투표 행은 (user_id, deal_id) 당 하나라 싫어요/취소 → 좋아요로 바뀌어도 created_at 은 처음 투표한 시각으로 남으므로
+-- 좋아요한 시각(updated_at) 순으로 정렬합니다.
+-- updated_at 이 없는 예전 행은 커서 조건(updated_at < ?)에서 빠지지 않도록 created_at 으로 채움
+UPDATE vote SET updated_at = created_at WHERE updated_at IS NULL;
+CREATE INDEX idx_vote_user_type_updated_at ON vote (user_id, vote_type, updated_at);
+
+-- 댓글 단 딜: user_id = ? ORDER BY created_at DESC, comment_id DESC
+CREATE INDEX idx_comment_user_created_at ON comment (user_id, created_at);
+
+-- 댓글 단 딜의 딜별 마지막 댓글 판정 (같은 사용자/딜의 더 최근 댓글 LEFT JOIN)
+CREATE INDEX idx_comment_user_deal_created_at ON comment (user_id, deal_id, created_at);
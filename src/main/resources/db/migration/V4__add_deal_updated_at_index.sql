@@ -0,0 +1,2 @@
+-- 딜 키워드 색인 주기 동기화 (updated_at > ?) 조회용 인덱스
+CREATE INDEX idx_deal_updated_at ON deal (updated_at);
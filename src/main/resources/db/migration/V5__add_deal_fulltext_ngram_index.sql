@@ -0,0 +1,4 @@
+-- 키워드 검색 FULLTEXT 전략용 ngram 인덱스 (deal.search.keyword-strategy=fulltext)
+-- ngram_token_size 기본값(2) 기준으로 한글 2글자 단위로 색인됩니다.
+-- 테이블의 첫 FULLTEXT 인덱스는 FTS_DOC_ID 추가로 테이블 재구성이 발생하므로 트래픽이 적은 시간에 배포합니다.
+ALTER TABLE deal ADD FULLTEXT INDEX ft_deal_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,26 @@
+-- 딜 목록/검색 카드 읽기 모델
+-- 검색 결과 한 행에 필요한 데이터를 미리 계산해 저장합니다. (조인/집계/TEXT 컬럼 없이 PK로 조회)
+-- 데이터는 애플리케이션의 DealCardSynchronizer가 시작 시 재조정(reconcile)으로 채우고, 이후 변경 이벤트로 갱신합니다.
+CREATE TABLE deal_card (
+    deal_id            BIGINT        NOT NULL PRIMARY KEY,
+    title              VARCHAR(255),
+    thumbnail_image_id BIGINT,
+    thumbnail_url      VARCHAR(255),
+    thumbnail_index    INT,
+    store_name         VARCHAR(255),
+    info_tags          VARCHAR(1000),
+    price_type         VARCHAR(255),
+    discounted_price   DOUBLE        NOT NULL DEFAULT 0,
+    user_id            BIGINT,
+    nickname           VARCHAR(255),
+    badge_id           BIGINT,
+    heat               DOUBLE        NOT NULL DEFAULT 0,
+    total_views        BIGINT        NOT NULL DEFAULT 0,
+    created_at         DATETIME(6),
+    like_count         BIGINT        NOT NULL DEFAULT 0,
+    comment_count      BIGINT        NOT NULL DEFAULT 0,
+    is_sold_out        BIT(1)        NOT NULL DEFAULT 0,
+    is_delete          BIT(1)        NOT NULL DEFAULT 0,
+    refreshed_at       DATETIME(6),
+    CONSTRAINT FK_deal_card_deal FOREIGN KEY (deal_id) REFERENCES deal (deal_id) ON DELETE CASCADE
+);
@@ -0,0 +1,21 @@
+-- 조회 빈도가 높은 쿼리 형태별 복합 인덱스
+-- InnoDB 보조 인덱스는 PK를 포함하므로 (조건, 정렬 키) 인덱스가 dealId tie-breaker 정렬까지 커버합니다.
+-- deal.category_id / vote.deal_id / vote.user_id 의 FK 인덱스는 같은 컬럼으로 시작하는 아래 인덱스가 대신하게 되며,
+-- MySQL이 자동 생성한 FK 인덱스는 이 경우 중복으로 간주되어 제거될 수 있습니다.
+
+-- 딜 검색: 최신순 / 카테고리 + 최신순 / 인기순
+CREATE INDEX idx_deal_is_delete_created_at ON deal (is_delete, created_at);
+CREATE INDEX idx_deal_category_created_at ON deal (category_id, created_at);
+CREATE INDEX idx_deal_is_delete_heat ON deal (is_delete, heat);
+
+-- 투표: 딜별 좋아요/싫어요 집계, 사용자의 딜 투표 조회
+CREATE INDEX idx_vote_deal_vote_type ON vote (deal_id, vote_type);
+CREATE INDEX idx_vote_user_deal ON vote (user_id, deal_id);
+
+-- 댓글: 딜별 (삭제되지 않은) 댓글 집계, 대댓글 조회
+CREATE INDEX idx_comment_deal_is_delete ON comment (deal_id, is_delete);
+CREATE INDEX idx_comment_parent_created_at ON comment (parent_id, created_at);
+
+-- 이미지: 대표 이미지 / 딜 이미지 목록 조회, 임시 이미지 정리
+CREATE INDEX idx_image_ref_type_index ON image (ref_id, image_type, image_index);
+CREATE INDEX idx_image_is_temp_created_at ON image (is_temp, created_at);
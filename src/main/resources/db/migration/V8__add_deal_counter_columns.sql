@@ -0,0 +1,23 @@
+-- 딜 좋아요/싫어요/댓글 수 집계 컬럼
+-- 상세/목록 조회 때마다 vote, comment 를 세지 않도록 딜 행에 카운터를 둡니다.
+-- 투표/댓글 작성·삭제 시 애플리케이션이 원자적으로 증감하고(DealCounterRepository),
+-- DealCounterReconciler 가 주기적으로 원본 테이블 기준으로 다시 계산해 어긋난 값을 바로잡습니다.
+ALTER TABLE deal
+    ADD COLUMN like_count    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN dislike_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기
+UPDATE deal d
+    LEFT JOIN (SELECT deal_id,
+                      SUM(vote_type = 'TRUE')  AS likes,
+                      SUM(vote_type = 'FALSE') AS dislikes
+               FROM vote
+               GROUP BY deal_id) v ON v.deal_id = d.deal_id
+    LEFT JOIN (SELECT deal_id, COUNT(*) AS comments
+               FROM comment
+               WHERE is_delete = 0
+               GROUP BY deal_id) c ON c.deal_id = d.deal_id
+SET d.like_count    = COALESCE(v.likes, 0),
+    d.dislike_count = COALESCE(v.dislikes, 0),
+    d.comment_count = COALESCE(c.comments, 0);
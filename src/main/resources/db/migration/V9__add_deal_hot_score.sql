@@ -0,0 +1,11 @@
+-- 인기순 정렬용 시간 감쇠 점수
+-- heat 는 투표/조회로 누적만 되어 오래된 딜이 계속 상위에 남으므로, DealHotScoreEngine 이
+-- 최근 딜(기본 7일)의 투표/조회/구매/공유 신호와 경과 시간으로 점수를 주기적으로 다시 계산해 저장합니다.
+ALTER TABLE deal
+    ADD COLUMN hot_score DOUBLE NOT NULL DEFAULT 0;
+
+-- 딜 검색: 인기순
+CREATE INDEX idx_deal_is_delete_hot_score ON deal (is_delete, hot_score);
+
+-- heat 로 정렬하는 쿼리가 없어졌으므로 투표/조회수 반영마다 갱신되던 인덱스 제거
+DROP INDEX idx_deal_is_delete_heat ON deal;
@@ -0,0 +1,377 @@
+package com.cherrypick.backend.domain.comment.service;
+
+import com.cherrypick.backend.domain.comment.dto.response.BestCommentResponseDTO;
+import com.cherrypick.backend.domain.comment.dto.response.CommentListResponseDTO;
+import com.cherrypick.backend.domain.comment.dto.response.CommentPageResponseDTOs;
+import com.cherrypick.backend.domain.comment.entity.Comment;
+import com.cherrypick.backend.domain.comment.enums.SortType;
+import com.cherrypick.backend.domain.comment.repository.CommentCounterRepository;
+import com.cherrypick.backend.domain.comment.repository.CommentLikeRepository;
+import com.cherrypick.backend.domain.comment.repository.CommentRankingStore;
+import com.cherrypick.backend.domain.comment.repository.CommentRepository;
+import com.cherrypick.backend.domain.comment.vo.CommentCursor;
+import com.cherrypick.backend.domain.image.entity.Image;
+import com.cherrypick.backend.domain.image.repository.ImageRepository;
+import com.cherrypick.backend.domain.user.entity.Badge;
+import com.cherrypick.backend.domain.user.entity.User;
+import com.cherrypick.backend.domain.user.event.AuthorProfileChangedEvent;
+import com.cherrypick.backend.domain.user.service.AuthorProfileCache;
+import com.cherrypick.backend.global.exception.BaseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 댓글 트리 조립 쿼리 수 검증
+ *
+ * 리포지토리를 호출 횟수를 세는 가짜 구현으로 바꿔, 댓글 수가 늘어도 조회 횟수(= 쿼리 수)가 일정한지 확인한다.
+ * 베스트 댓글은 Redis 랭킹(가짜 구현)이 있으면 랭킹 댓글만, 없으면 좋아요 수로 랭킹을 적재해 조회한다.
+ * 페이지 조회는 커서로 끝까지 넘겨도 페이지마다 쿼리 수가 같고, 대댓글 커서로 나머지 대댓글을 이어서 읽는지 확인한다.
+ * 작성자 프로필은 AuthorProfileCache 에 남아 다음 요청부터 프로필 이미지 조회가 생략되고, 프로필 변경 시 다시 조회한다.
+ * 일괄 조회 메서드 외의 메서드가 호출되면 (댓글별 조회로 되돌아가면) 예외가 발생한다.
+ * 지연 로딩까지 포함한 실제 SQL 문장 수는 CommentThreadStatementCountTest 에서 확인한다.
+ */
+class CommentThreadAssemblerTest {
+
+    private static final Long DEAL_ID = 1L;
+    private static final Long LOGIN_USER_ID = 1L;
+    private static final int AUTHORS = 5;
+
+    @Test
+    void queryCount_shouldStayConstantAsCommentsGrow() {
+        for (int parents : List.of(1, 10, 100, 500)) {
+            FakeRepositories repositories = new FakeRepositories(thread(parents, 2));
+            CommentThreadAssembler assembler = repositories.assembler();
+
+            List<CommentListResponseDTO> result = assembler.assemble(DEAL_ID, SortType.LATEST, LOGIN_USER_ID);
+
+            assertEquals(parents, result.size());
+            assertEquals(3, repositories.queries.get(), "parents=" + parents);
+        }
+    }
+
+    @Test
+    void anonymousViewer_shouldSkipLikedLookup() {
+        FakeRepositories repositories = new FakeRepositories(thread(10, 2));
+
+        repositories.assembler().assemble(DEAL_ID, SortType.LATEST, null);
+
+        assertEquals(2, repositories.queries.get());
+    }
+
+    @Test
+    void assemble_shouldNestRepliesAndSortParents() {
+        List<Comment> comments = thread(3, 2);
+        find(comments, 101L).setLikeCount(7);   // 가장 오래된 부모 댓글에 좋아요
+        FakeRepositories repositories = new FakeRepositories(comments);
+        repositories.likedCommentIds.add(101L);
+
+        List<CommentListResponseDTO> latest = repositories.assembler().assemble(DEAL_ID, SortType.LATEST, LOGIN_USER_ID);
+        List<CommentListResponseDTO> popular = repositories.assembler().assemble(DEAL_ID, SortType.POPULAR, LOGIN_USER_ID);
+
+        assertEquals(List.of(103L, 102L, 101L), latest.stream().map(CommentListResponseDTO::commentId).toList());
+        assertEquals(List.of(101L, 103L, 102L), popular.stream().map(CommentListResponseDTO::commentId).toList());
+
+        CommentListResponseDTO first = popular.get(0);
+        assertEquals(7, first.totalLikes());
+        assertTrue(first.isLike());
+        assertEquals(2, first.totalReplys());
+        assertEquals(List.of(1011L, 1012L), first.replies().stream().map(CommentListResponseDTO::commentId).toList());
+        assertEquals("avatar-" + first.user().userId(), first.user().userImageUrl());
+    }
+
+    @Test
+    void authorProfiles_shouldStayCachedUntilProfileChanges() {
+        FakeRepositories repositories = new FakeRepositories(thread(10, 2));
+
+        repositories.assembler().assemble(DEAL_ID, SortType.LATEST, null);
+        assertEquals(2, repositories.queries.get());
+
+        List<CommentListResponseDTO> cached = repositories.assembler().assemble(DEAL_ID, SortType.LATEST, null);
+        assertEquals(1, repositories.queries.get()); // 프로필 이미지 조회 생략
+        assertEquals("avatar-" + cached.get(0).user().userId(), cached.get(0).user().userImageUrl());
+
+        repositories.authorProfileCache.onProfileChanged(new AuthorProfileChangedEvent(1L));
+        repositories.assembler().assemble(DEAL_ID, SortType.LATEST, null);
+        assertEquals(2, repositories.queries.get()); // 바뀐 작성자만 다시 조회
+    }
+
+    @Test
+    void page_shouldWalkParentsByCursorWithConstantQueries() {
+        FakeRepositories repositories = new FakeRepositories(thread(25, 5));
+
+        List<Long> parentIds = new ArrayList<>();
+        CommentCursor cursor = null;
+        int pages = 0;
+        do {
+            CommentPageResponseDTOs.Comments page = repositories.assembler().page(DEAL_ID, SortType.LATEST, cursor, 10, LOGIN_USER_ID);
+            pages++;
+
+            // 부모 + 대댓글 미리보기 + 대댓글 + 내 좋아요 (+ 첫 페이지는 프로필 이미지, 이후 작성자 프로필 캐시 적중)
+            assertEquals(pages == 1 ? 5 : 4, repositories.queries.get(), "page=" + pages);
+            for (CommentListResponseDTO parent : page.comments()) {
+                parentIds.add(parent.commentId());
+                assertEquals(5, parent.totalReplys());
+                assertEquals(CommentThreadAssembler.REPLY_PREVIEW_SIZE, parent.replies().size());
+            }
+            assertEquals(page.comments().size(), page.replyCursors().size());
+
+            cursor = page.hasNext() ? CommentCursor.decodeParent(page.nextCursor(), SortType.LATEST) : null;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        List<Long> expected = new ArrayList<>();
+        for (long id = 125; id >= 101; id--) {
+            expected.add(id);
+        }
+        assertEquals(expected, parentIds);
+    }
+
+    @Test
+    void replies_shouldContinueFromPreviewCursor() {
+        FakeRepositories repositories = new FakeRepositories(thread(3, 5));
+
+        CommentPageResponseDTOs.Comments page = repositories.assembler().page(DEAL_ID, SortType.LATEST, null, 10, null);
+        CommentListResponseDTO parent = page.comments().get(0);
+        assertEquals(List.of(1031L, 1032L, 1033L), parent.replies().stream().map(CommentListResponseDTO::commentId).toList());
+
+        CommentCursor replyCursor = CommentCursor.decodeReply(page.replyCursors().get(103L));
+        CommentPageResponseDTOs.Replies replies = repositories.assembler().replies(103L, replyCursor, 10, null);
+
+        assertEquals(List.of(1034L, 1035L), replies.replies().stream().map(CommentListResponseDTO::commentId).toList());
+        assertFalse(replies.hasNext());
+        assertNull(replies.nextCursor());
+        assertEquals(1, repositories.queries.get()); // 대댓글 (작성자는 첫 페이지에서 캐시됨)
+    }
+
+    @Test
+    void cursor_shouldRejectOtherOrder() {
+        FakeRepositories repositories = new FakeRepositories(thread(3, 1));
+        String latestCursor = repositories.assembler().page(DEAL_ID, SortType.LATEST, null, 1, null).nextCursor();
+
+        assertThrows(BaseException.class, () -> CommentCursor.decodeParent(latestCursor, SortType.POPULAR));
+        assertThrows(BaseException.class, () -> CommentCursor.decodeReply(latestCursor));
+        assertThrows(BaseException.class, () -> CommentCursor.decodeParent("not-a-cursor", SortType.LATEST));
+    }
+
+    @Test
+    void best_shouldReadRankedIdsOnly() {
+        List<Comment> comments = thread(100, 2);
+        find(comments, 150L).setLikeCount(9);
+        FakeRepositories repositories = new FakeRepositories(comments);
+        repositories.ranking = new ArrayList<>(List.of(150L, 101L));
+
+        List<BestCommentResponseDTO> best = repositories.assembler().best(DEAL_ID, LOGIN_USER_ID, 2);
+
+        assertEquals(List.of(150L, 101L), best.stream().map(BestCommentResponseDTO::commentId).toList());
+        assertEquals(9, best.get(0).totalLikes());
+        assertEquals(3, repositories.queries.get()); // 랭킹 댓글 + 내 좋아요 + 프로필 이미지
+    }
+
+    @Test
+    void best_shouldLoadRankingFromLikeCountsWhenMissing() {
+        List<Comment> comments = thread(3, 2);
+        find(comments, 101L).setDelete(true);
+        find(comments, 1032L).setLikeCount(5);
+        find(comments, 102L).setLikeCount(3);
+        FakeRepositories repositories = new FakeRepositories(comments);
+
+        List<BestCommentResponseDTO> best = repositories.assembler().best(DEAL_ID, null, 2);
+
+        assertEquals(List.of(1032L, 102L), best.stream().map(BestCommentResponseDTO::commentId).toList());
+        assertEquals(comments.size() - 1, repositories.loaded.size()); // 삭제되지 않은 댓글 전체 적재
+        assertEquals(3, repositories.queries.get());                   // 좋아요 수 + 랭킹 댓글 + 프로필 이미지
+    }
+
+    @Test
+    void rankingScore_shouldOrderByLikesThenNewestComment() {
+        assertTrue(CommentRankingStore.score(1L, 2) > CommentRankingStore.score(999_999L, 1));
+        assertTrue(CommentRankingStore.score(20L, 1) > CommentRankingStore.score(10L, 1));
+        assertEquals(3_000_000_000L, (long) (CommentRankingStore.score(3_000_000_000L, 1_000_000) % 4_294_967_296.0));
+    }
+
+    private static Comment find(List<Comment> comments, long commentId) {
+        return comments.stream().filter(c -> c.getCommentId() == commentId).findFirst().orElseThrow();
+    }
+
+    /**
+     * 부모 댓글 parents 개(ID 101~), 부모마다 대댓글 repliesPerParent 개 (부모 p 의 r 번째 대댓글 ID = 1000 + p*10 + r)
+     */
+    private static List<Comment> thread(int parents, int repliesPerParent) {
+        Badge badge = Badge.builder().badgeId(1L).displayName("체리").build();
+        List<User> authors = new ArrayList<>();
+        for (long userId = 1; userId <= AUTHORS; userId++) {
+            authors.add(User.builder().userId(userId).nickname("user" + userId).badge(badge).build());
+        }
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Comment> comments = new ArrayList<>();
+        for (int p = 1; p <= parents; p++) {
+            long parentId = 100L + p;
+            comments.add(comment(parentId, null, authors.get(p % AUTHORS), base.plusMinutes(p)));
+            for (int r = 1; r <= repliesPerParent; r++) {
+                long replyId = parents <= 9 ? 1000L + p * 10L + r : 100_000L + p * 100L + r;
+                comments.add(comment(replyId, parentId, authors.get(r % AUTHORS), base.plusMinutes(p).plusSeconds(r)));
+            }
+        }
+
+        // DB 반환 순서에 의존하지 않는지 확인하기 위해 섞음
+        Collections.shuffle(comments, new Random(42));
+        return comments;
+    }
+
+    private static Comment comment(long commentId, Long parentId, User author, LocalDateTime createdAt) {
+        Comment comment = new Comment();
+        comment.setCommentId(commentId);
+        comment.setParentId(parentId);
+        comment.setUserId(author);
+        comment.setContent("content-" + commentId);
+        comment.setCreatedAt(createdAt);
+        return comment;
+    }
+
+    /**
+     * 일괄 조회 메서드만 응답하고 호출 횟수를 세는 리포지토리 묶음
+     */
+    private static class FakeRepositories {
+
+        private final AtomicInteger queries = new AtomicInteger();
+        private final List<Comment> comments;
+        private final Set<Long> likedCommentIds = new HashSet<>();
+        private List<Long> ranking;                       // null 이면 랭킹 미적재
+        private Map<Long, Long> loaded = Map.of();
+        private final AuthorProfileCache authorProfileCache;
+
+        FakeRepositories(List<Comment> comments) {
+            this.comments = comments;
+            this.authorProfileCache = new AuthorProfileCache(
+                    proxy(ImageRepository.class, "findByRefIdInAndImageType", args -> avatars((Collection<?>) args[0])),
+                    new StringRedisTemplate(),
+                    new SimpleMeterRegistry(),
+                    new RedisMessageListenerContainer(),
+                    300, 1000);
+        }
+
+        CommentThreadAssembler assembler() {
+            queries.set(0);
+            return new CommentThreadAssembler(
+                    proxy(CommentRepository.class, Map.of(
+                            "findThreadByDealId", args -> comments,
+                            "findWithAuthorByCommentIdIn", args -> comments.stream()
+                                    .filter(c -> ((Collection<?>) args[0]).contains(c.getCommentId()))
+                                    .toList(),
+                            "findParentsLatest", args -> slice(parents(), LATEST, c -> true, (Pageable) args[1]),
+                            "findParentsLatestAfter", args -> slice(parents(), LATEST,
+                                    c -> LATEST.compare(c, cursorAt((LocalDateTime) args[1], (Long) args[2])) > 0, (Pageable) args[3]),
+                            "findReplyPreviews", args -> replyPreviews((Collection<?>) args[0], (Integer) args[1]),
+                            "findReplies", args -> slice(replies((Long) args[0]), OLDEST, c -> true, (Pageable) args[1]),
+                            "findRepliesAfter", args -> slice(replies((Long) args[0]), OLDEST,
+                                    c -> OLDEST.compare(c, cursorAt((LocalDateTime) args[1], (Long) args[2])) > 0, (Pageable) args[3]))),
+                    proxy(CommentLikeRepository.class, "findLikedCommentIds", args -> likedCommentIds),
+                    authorProfileCache,
+                    new CommentCounterRepository(null) {
+                        @Override
+                        public Map<Long, Long> findLiveLikeCounts(Long dealId) {
+                            queries.incrementAndGet();
+                            Map<Long, Long> likeCounts = new HashMap<>();
+                            comments.stream().filter(c -> !c.isDelete())
+                                    .forEach(c -> likeCounts.put(c.getCommentId(), c.getLikeCount()));
+                            return likeCounts;
+                        }
+                    },
+                    new CommentRankingStore(null) {
+                        @Override
+                        public Optional<List<Long>> top(Long dealId, int limit) {
+                            return Optional.ofNullable(ranking).map(ids -> ids.stream().limit(limit).toList());
+                        }
+
+                        @Override
+                        public String version(Long dealId) {
+                            return "0";
+                        }
+
+                        @Override
+                        public void load(Long dealId, String version, Map<Long, Long> likeCounts) {
+                            loaded = likeCounts;
+                        }
+                    }
+            );
+        }
+
+        private static final Comparator<Comment> OLDEST = Comparator.comparing(Comment::getCreatedAt)
+                .thenComparing(Comment::getCommentId);
+        private static final Comparator<Comment> LATEST = OLDEST.reversed();
+
+        private List<Comment> parents() {
+            return comments.stream().filter(c -> c.getParentId() == null).toList();
+        }
+
+        private List<Comment> replies(Long parentId) {
+            return comments.stream().filter(c -> parentId.equals(c.getParentId())).toList();
+        }
+
+        private static Comment cursorAt(LocalDateTime createdAt, Long commentId) {
+            return comment(commentId, null, null, createdAt);
+        }
+
+        // size + 1 개를 읽어 다음 페이지 여부를 판단하는 Slice 쿼리 흉내
+        private static SliceImpl<Comment> slice(List<Comment> source, Comparator<Comment> order,
+                                                Predicate<Comment> after, Pageable pageable) {
+            List<Comment> rows = source.stream().filter(after).sorted(order)
+                    .limit(pageable.getPageSize() + 1L).toList();
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+        }
+
+        private List<Object[]> replyPreviews(Collection<?> parentIds, int perParent) {
+            List<Object[]> rows = new ArrayList<>();
+            for (Object parentId : parentIds) {
+                List<Comment> replies = replies((Long) parentId).stream().sorted(OLDEST).toList();
+                replies.stream().limit(perParent)
+                        .forEach(reply -> rows.add(new Object[]{reply.getCommentId(), parentId, (long) replies.size()}));
+            }
+            return rows;
+        }
+
+        private List<Image> avatars(Collection<?> userIds) {
+            List<Image> images = new ArrayList<>();
+            for (Object userId : userIds) {
+                images.add(Image.builder().refId((Long) userId).imageUrl("avatar-" + userId).imageIndex(0).build());
+                images.add(Image.builder().refId((Long) userId).imageUrl("old-" + userId).imageIndex(1).build());
+            }
+            return images;
+        }
+
+        private <T> T proxy(Class<T> type, String method, Answer answer) {
+            return proxy(type, Map.of(method, answer));
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T proxy(Class<T> type, Map<String, Answer> answers) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Answer answer = answers.get(method.getName());
+                if (answer == null) {
+                    throw new UnsupportedOperationException("예상하지 못한 조회: " + type.getSimpleName() + "." + method.getName());
+                }
+                queries.incrementAndGet();
+                return answer.apply(args);
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object apply(Object[] args);
+    }
+}
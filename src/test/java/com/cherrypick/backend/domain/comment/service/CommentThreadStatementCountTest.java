@@ -0,0 +1,216 @@
+package com.cherrypick.backend.domain.comment.service;
+
+import com.cherrypick.backend.domain.comment.dto.response.CommentListResponseDTO;
+import com.cherrypick.backend.domain.comment.dto.response.CommentPageResponseDTOs;
+import com.cherrypick.backend.domain.comment.enums.SortType;
+import com.cherrypick.backend.domain.comment.repository.CommentCounterRepository;
+import com.cherrypick.backend.domain.comment.repository.CommentLikeRepository;
+import com.cherrypick.backend.domain.comment.repository.CommentRankingStore;
+import com.cherrypick.backend.domain.comment.repository.CommentRepository;
+import com.cherrypick.backend.domain.comment.vo.CommentCursor;
+import com.cherrypick.backend.domain.image.repository.ImageRepository;
+import com.cherrypick.backend.domain.user.service.AuthorProfileCache;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 댓글 트리 조립의 실제 SQL 문장 수 검증
+ *
+ * CommentThreadAssemblerTest 는 리포지토리 호출 횟수를 세므로 지연 로딩(작성자 배지, toString 등)으로 생기는 쿼리를 보지 못한다.
+ * 여기서는 실제 엔티티 매핑과 영속성 컨텍스트(Hibernate, MySQL)에서 Statistics.getPrepareStatementCount() 로
+ * 요청 하나가 준비한 SQL 문장 수를 세어, 댓글 수가 늘어도 일정한지 확인한다.
+ * 스키마는 엔티티 매핑으로 생성하고, 측정마다 새 EntityManager 와 새 작성자 프로필 캐시를 사용한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CommentThreadStatementCountTest {
+
+    private static final Long LOGIN_USER_ID = 1L;
+    private static final int AUTHORS = 5;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static EntityManagerFactory entityManagerFactory;
+    private static Statistics statistics;
+
+    private final List<EntityManager> entityManagers = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.cherrypick.backend");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy", "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy",
+                "hibernate.query.fail_on_pagination_over_collection_fetch", "true",
+                "hibernate.generate_statistics", "true"));
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        jdbcTemplate.update("INSERT INTO badge (badge_id, name, display_name) VALUES (1, 'cherry', '체리')");
+        for (long userId = 1; userId <= AUTHORS; userId++) {
+            jdbcTemplate.update("INSERT INTO `user` (user_id, nickname, badge_id, user_weight) VALUES (?, ?, 1, 0.8)",
+                    userId, "user" + userId);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @AfterEach
+    void closeEntityManagers() {
+        entityManagers.forEach(EntityManager::close);
+        entityManagers.clear();
+    }
+
+    @Test
+    void assemble_shouldPrepareConstantStatementsAsCommentsGrow() {
+        for (int parents : List.of(1, 10, 50)) {
+            long dealId = 100L + parents;
+            seedThread(dealId, parents, 2);
+
+            // 댓글 트리 + 내 좋아요 + 작성자 프로필 이미지
+            List<CommentListResponseDTO> result = measure(3, "parents=" + parents,
+                    () -> assembler(newAuthorProfileCache()).assemble(dealId, SortType.LATEST, LOGIN_USER_ID));
+            assertEquals(parents, result.size());
+            assertEquals(2, result.get(0).replies().size());
+
+            // 비로그인은 좋아요 조회 생략
+            measure(2, "anonymous, parents=" + parents,
+                    () -> assembler(newAuthorProfileCache()).assemble(dealId, SortType.LATEST, null));
+        }
+    }
+
+    @Test
+    void page_shouldPrepareConstantStatementsPerPage() {
+        long dealId = 200L;
+        seedThread(dealId, 25, 5);
+        AuthorProfileCache authorProfileCache = newAuthorProfileCache();
+
+        int pages = 0;
+        int parents = 0;
+        CommentCursor cursor = null;
+        do {
+            CommentCursor current = cursor;
+            pages++;
+
+            // 부모 + 대댓글 미리보기 + 대댓글 + 내 좋아요 (+ 첫 페이지는 프로필 이미지, 이후 작성자 프로필 캐시 적중)
+            CommentPageResponseDTOs.Comments page = measure(pages == 1 ? 5 : 4, "page=" + pages,
+                    () -> assembler(authorProfileCache).page(dealId, SortType.LATEST, current, 10, LOGIN_USER_ID));
+            parents += page.comments().size();
+
+            cursor = page.hasNext() ? CommentCursor.decodeParent(page.nextCursor(), SortType.LATEST) : null;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(25, parents);
+    }
+
+    /**
+     * 새 영속성 컨텍스트에서 실행하고 준비된 SQL 문장 수를 확인한다.
+     */
+    private <T> T measure(long expectedStatements, String message, Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount(), message);
+        return result;
+    }
+
+    private CommentThreadAssembler assembler(AuthorProfileCache authorProfileCache) {
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(newEntityManager());
+        return new CommentThreadAssembler(
+                repositories.getRepository(CommentRepository.class),
+                repositories.getRepository(CommentLikeRepository.class),
+                authorProfileCache,
+                new CommentCounterRepository(jdbcTemplate),
+                new CommentRankingStore(null));
+    }
+
+    private AuthorProfileCache newAuthorProfileCache() {
+        return new AuthorProfileCache(
+                new JpaRepositoryFactory(newEntityManager()).getRepository(ImageRepository.class),
+                new StringRedisTemplate(),
+                new SimpleMeterRegistry(),
+                new RedisMessageListenerContainer(),
+                300, 1000);
+    }
+
+    private EntityManager newEntityManager() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManagers.add(entityManager);
+        return entityManager;
+    }
+
+    /**
+     * 부모 댓글 parents 개, 부모마다 대댓글 repliesPerParent 개 (작성자는 AUTHORS 명이 돌아가며)
+     * 부모 p 의 ID = dealId * 10000 + p * 100, r 번째 대댓글 ID = 부모 ID + r
+     */
+    private void seedThread(long dealId, int parents, int repliesPerParent) {
+        jdbcTemplate.update("""
+                INSERT INTO deal (deal_id, user_id, title, discounted_price, heat, hot_score, like_count, dislike_count,
+                                  comment_count, total_views, is_sold_out, is_delete, created_at)
+                VALUES (?, 1, 'deal', 0, 0, 0, 0, 0, 0, 0, 0, 0, ?)""", dealId, Timestamp.valueOf(BASE));
+
+        for (int p = 1; p <= parents; p++) {
+            long parentId = dealId * 10_000 + p * 100L;
+            insertComment(parentId, dealId, null, p % AUTHORS + 1, BASE.plusMinutes(p));
+            for (int r = 1; r <= repliesPerParent; r++) {
+                insertComment(parentId + r, dealId, parentId, r % AUTHORS + 1, BASE.plusMinutes(p).plusSeconds(r));
+            }
+        }
+    }
+
+    private void insertComment(long commentId, long dealId, Long parentId, long userId, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO comment (comment_id, deal_id, parent_id, user_id, content, is_delete, like_count, created_at)
+                VALUES (?, ?, ?, ?, 'content', 0, 0, ?)""", commentId, dealId, parentId, userId, Timestamp.valueOf(createdAt));
+    }
+}
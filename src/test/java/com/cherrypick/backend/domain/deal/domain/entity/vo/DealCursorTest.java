@@ -0,0 +1,63 @@
+package com.cherrypick.backend.domain.deal.domain.entity.vo;
+
+import com.cherrypick.backend.domain.deal.domain.enums.SortType;
+import com.cherrypick.backend.global.exception.BaseException;
+import com.cherrypick.backend.global.exception.enums.DealErrorCode;
+import com.cherrypick.backend.global.util.CursorCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealCursorTest {
+
+    @Test
+    void encodeDecode_shouldRoundTripEverySortKeyType() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_456_000);
+
+        DealCursor latest = DealCursor.decode(DealCursor.of(SortType.LATEST, 10L, createdAt).encode(), SortType.LATEST);
+        DealCursor price = DealCursor.decode(DealCursor.of(SortType.PRICE_LOW, 11L, 1999.5).encode(), SortType.PRICE_LOW);
+        DealCursor views = DealCursor.decode(DealCursor.of(SortType.VIEWS, 12L, 42L).encode(), SortType.VIEWS);
+
+        assertEquals(createdAt, latest.createdAtKey());
+        assertEquals(10L, latest.dealId());
+        assertEquals(1999.5, price.doubleKey());
+        assertEquals(42L, views.longKey());
+    }
+
+    @Test
+    void nullSortKey_shouldStayNullInsteadOfBecomingZero() {
+        DealCursor nullPrice = DealCursor.of(SortType.PRICE_HIGH, 7L, null);
+        DealCursor zeroPrice = DealCursor.of(SortType.PRICE_HIGH, 7L, 0.0);
+
+        DealCursor decoded = DealCursor.decode(nullPrice.encode(), SortType.PRICE_HIGH);
+
+        assertTrue(decoded.isNullKey());
+        assertEquals(7L, decoded.dealId());
+        assertFalse(DealCursor.decode(zeroPrice.encode(), SortType.PRICE_HIGH).isNullKey());
+        assertNotEquals(nullPrice.encode(), zeroPrice.encode());
+    }
+
+    @Test
+    void decode_shouldRejectSortTypeMismatch() {
+        String token = DealCursor.of(SortType.POPULARITY, 3L, 1.25).encode();
+
+        assertInvalidCursor(() -> DealCursor.decode(token, SortType.VIEWS));
+    }
+
+    @Test
+    void decode_shouldRejectTamperedTokens() {
+        assertInvalidCursor(() -> DealCursor.decode("not-base64!", SortType.LATEST));
+        assertInvalidCursor(() -> DealCursor.decode(CursorCodec.encode("LATEST", "yesterday", "1"), SortType.LATEST));
+        assertInvalidCursor(() -> DealCursor.decode(CursorCodec.encode("VIEWS", "12", "abc"), SortType.VIEWS));
+        assertInvalidCursor(() -> DealCursor.decode(CursorCodec.encode("UNKNOWN", "1", "1"), SortType.LATEST));
+        assertInvalidCursor(() -> DealCursor.decode(CursorCodec.encode("VIEWS", "12"), SortType.VIEWS));
+        assertInvalidCursor(() -> DealCursor.decode(CursorCodec.encode("RELEVANCE", "1", "1"), SortType.RELEVANCE));
+    }
+
+    private void assertInvalidCursor(Runnable decode) {
+        BaseException e = assertThrows(BaseException.class, decode::run);
+        assertEquals(DealErrorCode.INVALID_CURSOR, e.getErrorCode());
+    }
+}
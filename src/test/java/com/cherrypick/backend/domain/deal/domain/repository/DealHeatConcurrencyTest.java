@@ -0,0 +1,173 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+import com.cherrypick.backend.domain.vote.enums.VoteType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 딜에 동시 투표 시 heat 갱신 정확도/처리량 비교
+ *
+ * before: 기존 방식처럼 트랜잭션 안에서 heat 를 읽어 Java 에서 더한 뒤 다시 쓴다 (갱신 유실 발생 가능)
+ * after : DealCounterRepository.applyVoteChange 의 원자적 UPDATE 한 문장
+ *
+ * 두 방식 모두 THREADS × VOTES_PER_THREAD 번 +1 투표하고, 최종 heat 와 초당 처리량을 출력한다.
+ * after 는 유실 없이 정확히 기대값이어야 한다. Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DealHeatConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DealHeatConcurrencyTest.class);
+
+    private static final int THREADS = 16;
+    private static final int VOTES_PER_THREAD = 50;
+    private static final long DEAL_ID = 1L;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(THREADS);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE deal (
+                    deal_id BIGINT PRIMARY KEY,
+                    heat DOUBLE NOT NULL DEFAULT 0,
+                    like_count BIGINT NOT NULL DEFAULT 0,
+                    dislike_count BIGINT NOT NULL DEFAULT 0,
+                    comment_count BIGINT NOT NULL DEFAULT 0
+                )""");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void resetDeal() {
+        jdbcTemplate.update("DELETE FROM deal");
+        jdbcTemplate.update("INSERT INTO deal (deal_id) VALUES (?)", DEAL_ID);
+    }
+
+    @Test
+    void atomicUpdate_shouldNotLoseConcurrentVotes() throws Exception {
+        int expected = THREADS * VOTES_PER_THREAD;
+
+        long beforeNanos = runConcurrently(this::readModifyWriteVote);
+        double beforeHeat = currentHeat();
+
+        resetDeal();
+        DealCounterRepository repository = new DealCounterRepository(jdbcTemplate);
+        long afterNanos = runConcurrently(() -> repository.applyVoteChange(DEAL_ID, null, VoteType.TRUE, 1.0));
+        double afterHeat = currentHeat();
+
+        log.info("[heat] votes={}", expected);
+        log.info("[heat] before: heat={} (lost {}), {} votes/s",
+                Math.round(beforeHeat), Math.round(expected - beforeHeat), Math.round(throughput(expected, beforeNanos)));
+        log.info("[heat] after : heat={} (lost {}), {} votes/s",
+                Math.round(afterHeat), Math.round(expected - afterHeat), Math.round(throughput(expected, afterNanos)));
+
+        assertTrue(beforeHeat <= expected);
+        assertEquals(expected, afterHeat);
+        assertEquals((long) expected, jdbcTemplate.queryForObject(
+                "SELECT like_count FROM deal WHERE deal_id = ?", Long.class, DEAL_ID));
+    }
+
+    @Test
+    void atomicUpdate_shouldClampHeat() {
+        DealCounterRepository repository = new DealCounterRepository(jdbcTemplate);
+
+        repository.applyVoteChange(DEAL_ID, null, VoteType.TRUE, 5000.0);
+        assertEquals(DealCounterRepository.MAX_HEAT, currentHeat());
+
+        repository.applyVoteChange(DEAL_ID, VoteType.TRUE, VoteType.FALSE, -5000.0);
+        assertEquals(DealCounterRepository.MIN_HEAT, currentHeat());
+    }
+
+    /**
+     * 기존 VoteService 방식: 딜을 읽고 Java 에서 heat 를 계산해 다시 저장
+     */
+    private void readModifyWriteVote() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            double heat;
+            try (PreparedStatement select = connection.prepareStatement("SELECT heat FROM deal WHERE deal_id = ?")) {
+                select.setLong(1, DEAL_ID);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    heat = rs.getDouble(1);
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement("UPDATE deal SET heat = ? WHERE deal_id = ?")) {
+                update.setDouble(1, Math.max(-1000.0, Math.min(1000.0, heat + 1.0)));
+                update.setLong(2, DEAL_ID);
+                update.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long runConcurrently(Runnable vote) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < VOTES_PER_THREAD; j++) {
+                        vote.run();
+                    }
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double currentHeat() {
+        return jdbcTemplate.queryForObject("SELECT heat FROM deal WHERE deal_id = ?", Double.class, DEAL_ID);
+    }
+
+    private static double throughput(int votes, long nanos) {
+        return votes / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.cherrypick.backend.domain.deal.domain.repository;
+
+import com.cherrypick.backend.domain.deal.domain.entity.QDeal;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.core.types.CollectionExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 검색 쿼리 구조 검증
+ *
+ * 컬렉션 fetchJoin 과 limit/offset 이 한 쿼리에 함께 있으면 Hibernate 가 전체 결과를 메모리로 올려 페이징한다.
+ * 쿼리를 실행하지 않고 QueryDSL 메타데이터만 검사하므로 DB 없이 동작한다.
+ */
+class DealRepositoryImplTest {
+
+    private final DealRepositoryImpl repository =
+            new DealRepositoryImpl(new JPAQueryFactory(JPQLTemplates.DEFAULT, (EntityManager) null));
+
+    private final QDeal deal = QDeal.deal;
+
+    @Test
+    void idPageQuery_shouldApplyLimitWithoutFetchJoin() {
+        // given
+        List<BooleanExpression> filters = List.of(
+                deal.discounts.any().discountId.in(1L, 2L),
+                deal.store.storeId.in(3L)
+        );
+        List<OrderSpecifier<?>> orders = List.of(deal.heat.desc(), deal.dealId.desc());
+
+        // when
+        QueryMetadata metadata = repository.buildIdPageQuery(filters, orders, 40, 21).getMetadata();
+
+        // then
+        assertTrue(hasPagination(metadata));
+        assertFalse(hasFetchJoin(metadata));
+    }
+
+    @Test
+    void rowPageQuery_shouldSelectSortKeyWithoutJoin() {
+        // when
+        QueryMetadata metadata = repository.buildRowPageQuery(
+                List.of(deal.store.storeId.in(3L)),
+                List.of(deal.createdAt.desc(), deal.dealId.desc()),
+                deal.createdAt, 0, 21
+        ).getMetadata();
+
+        // then
+        assertTrue(hasPagination(metadata));
+        assertEquals(1, metadata.getJoins().size()); // from deal 만 존재
+    }
+
+    @Test
+    void fetchByIdsQuery_shouldFetchJoinCollectionWithoutLimit() {
+        // when
+        QueryMetadata metadata = repository.buildFetchByIdsQuery(List.of(3L, 1L, 2L)).getMetadata();
+
+        // then
+        assertTrue(hasCollectionFetchJoin(metadata));
+        assertFalse(hasPagination(metadata));
+    }
+
+    @Test
+    void searchQueries_shouldNeverCombineCollectionFetchJoinAndPagination() {
+        List<QueryMetadata> queries = List.of(
+                repository.buildIdPageQuery(List.of(), List.of(deal.dealId.desc()), 0, 41).getMetadata(),
+                repository.buildRowPageQuery(List.of(), List.of(deal.heat.desc(), deal.dealId.desc()), deal.heat, 0, 41).getMetadata(),
+                repository.buildFetchByIdsQuery(List.of(1L)).getMetadata()
+        );
+
+        for (QueryMetadata metadata : queries) {
+            assertFalse(hasCollectionFetchJoin(metadata) && hasPagination(metadata),
+                    "컬렉션 fetchJoin 과 limit/offset 이 같은 쿼리에 있습니다: " + metadata.getJoins());
+        }
+    }
+
+    private boolean hasPagination(QueryMetadata metadata) {
+        QueryModifiers modifiers = metadata.getModifiers();
+        return modifiers != null && (modifiers.getLimit() != null || modifiers.getOffset() != null);
+    }
+
+    private boolean hasFetchJoin(QueryMetadata metadata) {
+        return metadata.getJoins().stream().anyMatch(join -> join.hasFlag(JPAQueryMixin.FETCH));
+    }
+
+    private boolean hasCollectionFetchJoin(QueryMetadata metadata) {
+        for (JoinExpression join : metadata.getJoins()) {
+            if (join.hasFlag(JPAQueryMixin.FETCH) && join.getTarget() instanceof CollectionExpression) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
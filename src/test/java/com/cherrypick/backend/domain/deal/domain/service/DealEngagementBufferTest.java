@@ -0,0 +1,96 @@
+package com.cherrypick.backend.domain.deal.domain.service;
+
+import com.cherrypick.backend.domain.deal.domain.repository.DealEngagementRepository;
+import com.cherrypick.backend.domain.deal.domain.repository.DealEngagementRepository.EngagementDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealEngagementBufferTest {
+
+    @Test
+    void flush_shouldNotLoseIncrementsRecordedConcurrently() throws Exception {
+        // given
+        RecordingRepository repository = new RecordingRepository();
+        DealEngagementBuffer buffer = new DealEngagementBuffer(repository, new SimpleMeterRegistry());
+
+        int threads = 8;
+        int viewsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when: 여러 스레드가 같은 딜에 기록하는 동안 계속 flush
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < viewsPerThread; j++) {
+                    buffer.recordView(1L);
+                    buffer.addHeat(2L, 2.0);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        while (!executor.awaitTermination(10, TimeUnit.MILLISECONDS)) {
+            buffer.flush();
+        }
+        buffer.flush();
+
+        // then
+        assertEquals(0, buffer.backlog());
+        assertEquals((long) threads * viewsPerThread, repository.views.get(1L));
+        assertEquals(threads * viewsPerThread * 0.1, repository.heat.get(1L), 1e-6);
+        assertEquals(threads * viewsPerThread * 2.0, repository.heat.get(2L), 1e-6);
+        assertEquals(0L, repository.views.getOrDefault(2L, 0L));
+    }
+
+    @Test
+    void flush_shouldKeepDeltasWhenUpdateFails() {
+        // given
+        RecordingRepository repository = new RecordingRepository();
+        DealEngagementBuffer buffer = new DealEngagementBuffer(repository, new SimpleMeterRegistry());
+        buffer.recordView(1L);
+        buffer.recordView(1L);
+
+        // when: 첫 반영 실패 후 재시도
+        repository.failing.set(true);
+        buffer.flush();
+        assertEquals(1, buffer.backlog());
+
+        repository.failing.set(false);
+        buffer.flush();
+
+        // then
+        assertEquals(2L, repository.views.get(1L));
+        assertEquals(0, buffer.backlog());
+    }
+
+    private static class RecordingRepository extends DealEngagementRepository {
+
+        private final Map<Long, Long> views = new ConcurrentHashMap<>();
+        private final Map<Long, Double> heat = new ConcurrentHashMap<>();
+        private final AtomicBoolean failing = new AtomicBoolean(false);
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public int applyDeltas(Map<Long, EngagementDelta> deltas) {
+            if (failing.get()) {
+                throw new IllegalStateException("db down");
+            }
+            deltas.forEach((dealId, delta) -> {
+                views.merge(dealId, delta.views(), Long::sum);
+                heat.merge(dealId, delta.heat(), Double::sum);
+            });
+            return deltas.size();
+        }
+    }
+}
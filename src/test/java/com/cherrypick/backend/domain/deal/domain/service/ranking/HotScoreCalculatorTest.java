@@ -0,0 +1,53 @@
+package com.cherrypick.backend.domain.deal.domain.service.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotScoreCalculatorTest {
+
+    private final HotScoreCalculator calculator = new HotScoreCalculator(1.5);
+
+    @Test
+    void score_shouldDecayWithAge() {
+        HotScoreCalculator.Signals signals = new HotScoreCalculator.Signals(10, 0, 100, 0, 0);
+
+        double fresh = calculator.score(signals, Duration.ofHours(1));
+        double dayOld = calculator.score(signals, Duration.ofHours(24));
+        double weekOld = calculator.score(signals, Duration.ofDays(7));
+
+        assertTrue(fresh > dayOld);
+        assertTrue(dayOld > weekOld);
+    }
+
+    @Test
+    void olderDealWithMoreVotes_shouldFallBelowFreshDealOverTime() {
+        HotScoreCalculator.Signals popular = new HotScoreCalculator.Signals(50, 0, 1000, 0, 0);
+        HotScoreCalculator.Signals modest = new HotScoreCalculator.Signals(5, 0, 50, 0, 0);
+
+        // 같은 시점이면 반응이 많은 딜이 위
+        assertTrue(calculator.score(popular, Duration.ofHours(1)) > calculator.score(modest, Duration.ofHours(1)));
+
+        // 3일 지난 인기 딜보다 방금 올라온 딜이 위
+        assertTrue(calculator.score(modest, Duration.ofHours(1)) > calculator.score(popular, Duration.ofDays(3)));
+    }
+
+    @Test
+    void score_shouldWeighPurchasesAndSharesAboveViews() {
+        Duration age = Duration.ofHours(2);
+        double views = calculator.score(new HotScoreCalculator.Signals(0, 0, 1000, 0, 0), age);
+        double purchases = calculator.score(new HotScoreCalculator.Signals(0, 0, 0, 5, 0), age);
+
+        assertTrue(purchases > views);
+    }
+
+    @Test
+    void dislikes_shouldLowerScore() {
+        Duration age = Duration.ofHours(2);
+
+        assertTrue(calculator.score(new HotScoreCalculator.Signals(3, 5, 0, 0, 0), age) < 0);
+        assertEquals(0.0, calculator.score(new HotScoreCalculator.Signals(0, 0, 0, 0, 0), age));
+    }
+}
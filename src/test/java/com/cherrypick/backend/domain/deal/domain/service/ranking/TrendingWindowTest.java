@@ -0,0 +1,85 @@
+package com.cherrypick.backend.domain.deal.domain.service.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingWindowTest {
+
+    private static final long NOW = 29_000_000L;
+
+    @Test
+    void suddenSpike_shouldRankAboveSteadilyBusyDeal() {
+        TrendingWindow window = new TrendingWindow();
+        for (long minute = NOW - 59; minute <= NOW; minute++) {
+            window.apply(minute, Map.of(1L, 10.0));       // 꾸준히 분당 10
+        }
+        for (long minute = NOW - 4; minute <= NOW; minute++) {
+            window.apply(minute, Map.of(2L, 6.0));        // 최근 5분에만 분당 6
+        }
+
+        List<TrendingDeal> top = window.topK(NOW, 10, 5);
+
+        assertEquals(2L, top.get(0).dealId());
+        assertEquals(30.0, top.get(0).recentWeight(), 1e-9);
+        assertEquals(0.0, top.get(1).score(), 1e-9);     // 평소와 같으면 0
+    }
+
+    @Test
+    void topK_shouldKeepOnlyHighestScores() {
+        TrendingWindow window = new TrendingWindow();
+        for (long dealId = 1; dealId <= 100; dealId++) {
+            window.apply(NOW, Map.of(dealId, (double) dealId));
+        }
+
+        List<TrendingDeal> top = window.topK(NOW, 3, 0);
+
+        assertEquals(List.of(100L, 99L, 98L), top.stream().map(TrendingDeal::dealId).toList());
+    }
+
+    @Test
+    void minRecent_shouldFilterFewReactions() {
+        TrendingWindow window = new TrendingWindow();
+        window.apply(NOW, Map.of(1L, 2.0, 2L, 8.0));
+
+        List<TrendingDeal> top = window.topK(NOW, 10, 5);
+
+        assertEquals(1, top.size());
+        assertEquals(2L, top.get(0).dealId());
+    }
+
+    @Test
+    void removedDeal_shouldNotTakeTopKSlot() {
+        TrendingWindow window = new TrendingWindow();
+        window.apply(NOW, Map.of(1L, 30.0, 2L, 20.0));
+
+        window.remove(1L);
+
+        assertEquals(List.of(2L), window.topK(NOW, 1, 0).stream().map(TrendingDeal::dealId).toList());
+    }
+
+    @Test
+    void staleDeals_shouldBeEvicted() {
+        TrendingWindow window = new TrendingWindow();
+        window.apply(NOW - 120, Map.of(1L, 50.0));
+        window.apply(NOW, Map.of(2L, 10.0));
+
+        window.topK(NOW, 10, 0);
+
+        assertEquals(1, window.size());
+    }
+
+    @Test
+    void ring_shouldClearWrappedBucketsAndAcceptLateMinutes() {
+        TrendingWindow.MinuteRing ring = new TrendingWindow.MinuteRing();
+        ring.add(NOW - 60, 100.0);
+        ring.add(NOW, 1.0);             // 같은 인덱스를 한 바퀴 돌아 재사용
+        ring.add(NOW - 3, 2.0);         // 늦게 도착한 분
+        ring.add(NOW - 90, 7.0);        // 창 밖 (무시)
+
+        assertEquals(3.0, ring.sum(NOW - 59, NOW), 1e-9);
+    }
+}
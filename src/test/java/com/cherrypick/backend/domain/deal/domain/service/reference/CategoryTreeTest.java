@@ -0,0 +1,63 @@
+package com.cherrypick.backend.domain.deal.domain.service.reference;
+
+import com.cherrypick.backend.domain.deal.domain.entity.Category;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTreeTest {
+
+    private final CategoryTree tree = CategoryTree.of(List.of(
+            category(1L, null, "디지털/가전"),
+            category(11L, 1L, "휴대폰"),
+            category(111L, 11L, "스마트폰"),
+            category(12L, 1L, "태블릿"),
+            category(2L, 0L, "식품")
+    ));
+
+    @Test
+    void descendantIds_shouldIncludeSelfAndAllChildrenInPreOrder() {
+        assertEquals(List.of(1L, 11L, 111L, 12L), tree.descendantIds(1L));
+        assertEquals(List.of(111L), tree.descendantIds(111L));
+        assertEquals(List.of(2L), tree.descendantIds(2L));
+    }
+
+    @Test
+    void descendantIds_shouldReturnSameInstanceForRepeatedLookup() {
+        assertSame(tree.descendantIds(1L), tree.descendantIds(1L));
+    }
+
+    @Test
+    void path_shouldListNamesFromRootToCategory() {
+        assertEquals(List.of("디지털/가전", "휴대폰", "스마트폰"), tree.path(111L));
+        assertEquals(List.of("식품"), tree.path(2L));
+    }
+
+    @Test
+    void unknownCategory_shouldReturnEmptyDescendantsAndNullPath() {
+        assertEquals(List.of(), tree.descendantIds(999L));
+        assertNull(tree.path(999L));
+        assertFalse(tree.contains(999L));
+    }
+
+    @Test
+    void cyclicData_shouldNotLoopForever() {
+        CategoryTree cyclic = CategoryTree.of(List.of(
+                category(1L, 2L, "A"),
+                category(2L, 1L, "B")
+        ));
+
+        assertEquals(List.of("B", "A"), cyclic.path(1L));
+        assertEquals(List.of(1L, 2L), cyclic.descendantIds(1L));
+    }
+
+    private static Category category(Long id, Long parentId, String name) {
+        Category category = new Category();
+        category.setCategoryId(id);
+        category.setParentId(parentId);
+        category.setName(name);
+        return category;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cherrypick.backend.domain.deal.domain.service.reference;
+
+import com.cherrypick.backend.domain.deal.domain.entity.Category;
+import com.cherrypick.backend.domain.deal.domain.entity.Discount;
+import com.cherrypick.backend.domain.deal.domain.entity.Store;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceDataTest {
+
+    private final ReferenceData data = ReferenceData.of(
+            List.of(category(1L, null, "식품"), category(11L, 1L, "라면")),
+            List.of(store(30L, false), store(10L, false), store(20L, true)),
+            List.of(discount(5L), discount(2L))
+    );
+
+    @Test
+    void hasAll_shouldMatchFindAllByIdSemantics() {
+        assertTrue(data.hasAllStores(List.of(10L, 20L)));
+        assertTrue(data.hasAllDiscounts(List.of(2L, 5L)));
+
+        // 없는 ID 또는 중복 ID가 있으면 실패 (findAllById 결과 개수 != 요청 개수)
+        assertFalse(data.hasAllStores(List.of(10L, 99L)));
+        assertFalse(data.hasAllDiscounts(List.of(2L, 2L)));
+    }
+
+    @Test
+    void has_shouldHandleNullAndUnknownIds() {
+        assertTrue(data.hasCategory(11L));
+        assertFalse(data.hasCategory(null));
+        assertFalse(data.hasStore(null));
+        assertFalse(data.hasDiscount(3L));
+    }
+
+    @Test
+    void storeList_shouldExcludeBlindStores() {
+        assertEquals(List.of(30L, 10L), data.storeList().stores().stream()
+                .map(s -> s.storeId())
+                .toList());
+    }
+
+    @Test
+    void categoryList_shouldBeNestedByParent() {
+        var roots = data.categoryList().categories();
+
+        assertEquals(1, roots.size());
+        assertEquals("식품", roots.get(0).name());
+        assertEquals(11L, roots.get(0).subCategories().get(0).categoryId());
+    }
+
+    private static Category category(Long id, Long parentId, String name) {
+        Category category = new Category();
+        category.setCategoryId(id);
+        category.setParentId(parentId);
+        category.setName(name);
+        return category;
+    }
+
+    private static Store store(Long id, boolean blind) {
+        Store store = new Store();
+        store.setStoreId(id);
+        store.setName("store-" + id);
+        store.setBlind(blind);
+        return store;
+    }
+
+    private static Discount discount(Long id) {
+        return Discount.builder().discountId(id).name("discount-" + id).build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import com.cherrypick.backend.domain.deal.application.dto.request.DealSearchRequestDTO;
+import com.cherrypick.backend.domain.deal.domain.enums.SortType;
+import com.cherrypick.backend.domain.deal.domain.enums.TimeRangeType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealSearchCacheKeyTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 30, 15);
+
+    @Test
+    void canonicalize_shouldIgnoreIdOrderKeywordCaseAndDefaults() {
+        DealSearchRequestDTO first = DealSearchRequestDTO.builder()
+                .keyword(" iPhone ")
+                .discountIds(List.of(3L, 1L, 2L))
+                .storeIds(List.of(5L, 5L, 4L))
+                .build();
+
+        DealSearchRequestDTO second = DealSearchRequestDTO.builder()
+                .keyword("iphone")
+                .sortType(null)
+                .variousPrice(true)
+                .discountIds(List.of(1L, 2L, 3L))
+                .storeIds(List.of(4L, 5L))
+                .build();
+
+        assertEquals(
+                DealSearchCacheKey.canonicalize(first, 0, 40, now),
+                DealSearchCacheKey.canonicalize(second, 0, 40, now));
+    }
+
+    @Test
+    void canonicalize_shouldSeparatePagesSortsAndMinuteBuckets() {
+        DealSearchRequestDTO request = DealSearchRequestDTO.builder()
+                .timeRange(TimeRangeType.LAST24HOURS)
+                .build();
+        DealSearchRequestDTO popular = DealSearchRequestDTO.builder()
+                .timeRange(TimeRangeType.LAST24HOURS)
+                .sortType(SortType.POPULARITY)
+                .build();
+
+        String base = DealSearchCacheKey.canonicalize(request, 0, 40, now);
+
+        assertEquals(base, DealSearchCacheKey.canonicalize(request, 0, 40, now.plusSeconds(40)));
+        assertNotEquals(base, DealSearchCacheKey.canonicalize(request, 0, 40, now.plusMinutes(1)));
+        assertNotEquals(base, DealSearchCacheKey.canonicalize(request, 1, 40, now));
+        assertNotEquals(base, DealSearchCacheKey.canonicalize(popular, 0, 40, now));
+    }
+}
@@ -0,0 +1,20 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FulltextKeywordSearchStrategyTest {
+
+    @Test
+    void toBooleanQuery_shouldRequireEveryTermAndStripOperators() {
+        assertEquals("+\"아이폰\" +\"15\" +\"프로\"", FulltextKeywordSearchStrategy.toBooleanQuery("아이폰 15  프로"));
+        assertEquals("+\"갤럭시\" +\"s24\"", FulltextKeywordSearchStrategy.toBooleanQuery("-갤럭시 (s24)*"));
+    }
+
+    @Test
+    void toBooleanQuery_shouldReturnNullWhenTermIsShorterThanNgramToken() {
+        assertNull(FulltextKeywordSearchStrategy.toBooleanQuery("라 면"));
+        assertNull(FulltextKeywordSearchStrategy.toBooleanQuery("+-"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.cherrypick.backend.domain.deal.domain.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NgramInvertedIndexTest {
+
+    @Test
+    void search_shouldFindHangulKeywordRegardlessOfSpacing() {
+        // given
+        NgramInvertedIndex index = new NgramInvertedIndex();
+        index.put(1L, "애플 아이폰 15 프로 자급제", null);
+        index.put(2L, "갤럭시 S24 울트라", "아이 패드 아님");
+        index.put(3L, "무선 이어폰", "아이폰15 호환 케이스 포함");
+
+        // when
+        Set<Long> result = index.search("아이폰 15").orElseThrow();
+
+        // then
+        assertEquals(Set.of(1L, 3L), result);
+    }
+
+    @Test
+    void search_shouldUseBigramForTwoLetterKeywordAndIgnoreCase() {
+        NgramInvertedIndex index = new NgramInvertedIndex();
+        index.put(1L, "Galaxy S24", "");
+        index.put(2L, "라면 한 박스", "");
+
+        assertEquals(Set.of(1L), index.search("s2").orElseThrow());
+        assertEquals(Set.of(2L), index.search("라면").orElseThrow());
+    }
+
+    @Test
+    void search_shouldReturnEmptyOptionalForSingleCharacterKeyword() {
+        NgramInvertedIndex index = new NgramInvertedIndex();
+        index.put(1L, "라면", "");
+
+        assertEquals(Optional.empty(), index.search("라"));
+    }
+
+    @Test
+    void put_shouldReplacePreviousContentAndRemoveShouldDropDocument() {
+        // given
+        NgramInvertedIndex index = new NgramInvertedIndex();
+        index.put(1L, "닌텐도 스위치", "");
+
+        // when
+        index.put(1L, "플레이스테이션 5", "");
+
+        // then
+        assertTrue(index.search("닌텐도").orElseThrow().isEmpty());
+        assertEquals(Set.of(1L), index.search("플레이").orElseThrow());
+
+        index.remove(1L);
+        assertTrue(index.search("플레이").orElseThrow().isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void put_shouldKeepPostingsSortedWhenDocumentsArriveOutOfOrder() {
+        NgramInvertedIndex index = new NgramInvertedIndex();
+        for (long docId : new long[]{5L, 1L, 9L, 3L, 7L, 2L}) {
+            index.put(docId, "에어팟 프로", "");
+        }
+        index.put(10L, "에어팟 맥스", "");
+        index.remove(3L);
+
+        assertEquals(Set.of(1L, 2L, 5L, 7L, 9L), index.search("에어팟프로").orElseThrow());
+        assertEquals(Set.of(1L, 2L, 5L, 7L, 9L, 10L), index.search("에어팟").orElseThrow());
+    }
+
+    @Test
+    void search_shouldAlwaysIncludeDocumentsTruncatedBeyondMaxLength() {
+        // given: 텍스트마다 6글자까지만 색인 (문서 2 본문의 "키보드"는 잘린 뒷부분)
+        NgramInvertedIndex index = new NgramInvertedIndex(6);
+        index.put(1L, "무선 키보드", "");
+        index.put(2L, "게이밍 마우스", "무선 마우스 키보드");
+        index.put(3L, "유선 마우스", "");
+
+        // when
+        Set<Long> result = index.search("키보드").orElseThrow();
+
+        // then: 잘린 문서 2는 뒷부분에 있을 수 있으므로 후보에 포함 (최종 확인은 LIKE)
+        assertEquals(Set.of(1L, 2L), result);
+
+        index.put(2L, "게이밍 마우스", "");
+        assertEquals(Set.of(1L), index.search("키보드").orElseThrow());
+    }
+}
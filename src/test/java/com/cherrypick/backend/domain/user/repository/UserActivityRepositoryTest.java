@@ -0,0 +1,174 @@
+package com.cherrypick.backend.domain.user.repository;
+
+import com.cherrypick.backend.domain.user.repository.UserActivityRepository.ActivityRow;
+import com.cherrypick.backend.domain.user.vo.ActivityCursor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내 활동 딜 목록 Keyset 조회 검증
+ *
+ * 커서로 끝까지 넘겼을 때 중복/누락 없이 정렬 순서대로 모든 딜이 나오는지 확인한다.
+ * 댓글 단 딜은 한 딜에 댓글이 여러 개여도 딜별 마지막 댓글 위치에 한 번만 나와야 한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserActivityRepositoryTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final UserActivityRepository repository = new UserActivityRepository(jdbcTemplate);
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE deal (
+                    deal_id BIGINT PRIMARY KEY,
+                    user_id BIGINT,
+                    is_delete BIT(1) NOT NULL DEFAULT 0,
+                    created_at DATETIME(6),
+                    INDEX idx_deal_user_is_delete_created_at (user_id, is_delete, created_at)
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TABLE vote (
+                    vote_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    vote_type VARCHAR(255),
+                    deal_id BIGINT,
+                    user_id BIGINT,
+                    created_at DATETIME(6),
+                    updated_at DATETIME(6),
+                    CONSTRAINT uk_vote_user_deal UNIQUE (user_id, deal_id),
+                    INDEX idx_vote_user_type_updated_at (user_id, vote_type, updated_at)
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TABLE comment (
+                    comment_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    deal_id BIGINT,
+                    user_id BIGINT,
+                    created_at DATETIME(6),
+                    INDEX idx_comment_user_created_at (user_id, created_at),
+                    INDEX idx_comment_user_deal_created_at (user_id, deal_id, created_at)
+                )""");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void reset() {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM vote");
+        jdbcTemplate.update("DELETE FROM deal");
+
+        // 딜 1~30: 홀수는 USER_ID, 짝수는 OTHER_USER_ID 작성 / 딜 29는 삭제됨 / 딜 9~13은 같은 작성 시각
+        for (long dealId = 1; dealId <= 30; dealId++) {
+            LocalDateTime createdAt = dealId >= 9 && dealId <= 13 ? BASE.plusMinutes(10) : BASE.plusMinutes(dealId);
+            jdbcTemplate.update("INSERT INTO deal (deal_id, user_id, is_delete, created_at) VALUES (?, ?, ?, ?)",
+                    dealId, dealId % 2 == 1 ? USER_ID : OTHER_USER_ID, dealId == 29, createdAt);
+        }
+    }
+
+    @Test
+    void authoredDeals_shouldWalkAllPagesInOrder() {
+        // 같은 작성 시각(13, 11, 9)은 dealId 역순, 페이지 경계(13 | 11)를 넘어도 이어짐
+        List<Long> expected = new ArrayList<>();
+        for (long dealId = 27; dealId >= 13; dealId -= 2) {
+            expected.add(dealId);
+        }
+        expected.addAll(List.of(11L, 9L, 7L, 5L, 3L, 1L));
+
+        assertEquals(expected, walk(ActivityCursor.Kind.AUTHORED, repository::findAuthoredDeals, 4));
+    }
+
+    @Test
+    void likedDeals_shouldOrderByLikedTimeAndSkipCanceledVotesAndDeletedDeals() {
+        for (long dealId = 1; dealId <= 30; dealId++) {
+            String voteType = dealId % 3 == 0 ? "NONE" : "TRUE";
+            // 투표 행은 딜 번호가 클수록 최근에 만들어졌지만, 딜 번호가 작을수록 최근에 좋아요로 바뀜 (다시 누른 좋아요가 위로)
+            jdbcTemplate.update("INSERT INTO vote (vote_type, deal_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    voteType, dealId, USER_ID, BASE.minusDays(31 - dealId), BASE.plusHours(1).minusMinutes(dealId));
+        }
+
+        List<Long> expected = new ArrayList<>();
+        for (long dealId = 1; dealId <= 30; dealId++) {
+            if (dealId % 3 != 0 && dealId != 29) {
+                expected.add(dealId);
+            }
+        }
+
+        assertEquals(expected, walk(ActivityCursor.Kind.LIKED, repository::findLikedDeals, 5));
+    }
+
+    @Test
+    void commentedDeals_shouldReturnEachDealOnceAtItsLatestComment() {
+        // 딜 1~6 에 댓글 3개씩, 딜 d 의 k 번째 댓글 시각 = d + 10k 분 → 마지막 댓글은 딜 번호 순서
+        for (int k = 0; k < 3; k++) {
+            for (long dealId = 1; dealId <= 6; dealId++) {
+                comment(dealId, USER_ID, BASE.plusMinutes(dealId + 10L * k));
+            }
+        }
+        comment(2L, USER_ID, BASE.plusHours(2));      // 딜 2 에 가장 최근 댓글
+        comment(5L, OTHER_USER_ID, BASE.plusHours(3)); // 다른 사용자의 댓글은 순서에 영향 없음
+        comment(29L, USER_ID, BASE.plusHours(4));     // 삭제된 딜
+
+        assertEquals(List.of(2L, 6L, 5L, 4L, 3L, 1L), walk(ActivityCursor.Kind.COMMENTED, repository::findCommentedDeals, 2));
+    }
+
+    /**
+     * 커서로 마지막 페이지까지 넘기며 딜 ID를 모은다. (페이지마다 size + 1 개 조회)
+     */
+    private List<Long> walk(ActivityCursor.Kind kind, PageQuery query, int size) {
+        List<Long> dealIds = new ArrayList<>();
+        ActivityCursor cursor = null;
+        while (true) {
+            List<ActivityRow> rows = query.find(USER_ID, cursor, size + 1);
+            boolean hasNext = rows.size() > size;
+            List<ActivityRow> content = hasNext ? rows.subList(0, size) : rows;
+            content.forEach(row -> dealIds.add(row.dealId()));
+            if (!hasNext) {
+                return dealIds;
+            }
+
+            ActivityRow last = content.get(content.size() - 1);
+            cursor = ActivityCursor.decode(new ActivityCursor(kind, last.sortAt(), last.sortId()).encode(), kind);
+        }
+    }
+
+    private void comment(long dealId, long userId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO comment (deal_id, user_id, created_at) VALUES (?, ?, ?)", dealId, userId, createdAt);
+    }
+
+    @FunctionalInterface
+    private interface PageQuery {
+        List<ActivityRow> find(Long userId, ActivityCursor cursor, int limit);
+    }
+}
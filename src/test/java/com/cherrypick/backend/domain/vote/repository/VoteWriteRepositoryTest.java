@@ -0,0 +1,266 @@
+package com.cherrypick.backend.domain.vote.repository;
+
+import com.cherrypick.backend.domain.deal.domain.repository.DealCounterRepository;
+import com.cherrypick.backend.domain.vote.enums.VoteType;
+import com.cherrypick.backend.global.exception.BaseException;
+import com.cherrypick.backend.global.exception.enums.DealErrorCode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 투표 저장 정확도/처리량 비교
+ *
+ * before: 기존 VoteService 방식 (사용자 조회 → 딜 조회 → 기존 투표 조회 → INSERT/UPDATE → 카운터 UPDATE)
+ * after : VoteWriteRepository.save (딜 행 잠금 → 기존 투표 잠금 → INSERT/UPDATE, 이전 투표 반환) → 카운터 UPDATE
+ *
+ * 같은 사용자의 동시 투표(더블 클릭)는 교착 상태 없이 투표 1건과 정확한 카운터를 남겨야 한다.
+ * 기존 방식은 vote INSERT 의 FK 공유 잠금과 카운터 UPDATE 의 배타 잠금이 엇갈려 교착 상태로 롤백될 수 있으므로 롤백 수만 기록한다.
+ * 처리량은 THREADS 명의 사용자가 각자 VOTES_PER_THREAD 번 좋아요/싫어요를 번갈아 투표해 초당 투표 수로 로그에 남긴다.
+ * 환경마다 편차가 커서 처리량은 검증하지 않고, 최종 카운터만 검증한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class VoteWriteRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteWriteRepositoryTest.class);
+
+    private static final int THREADS = 16;
+    private static final int VOTES_PER_THREAD = 50;
+    private static final long DEAL_ID = 1L;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    private final VoteWriteRepository voteWriteRepository = new VoteWriteRepository(jdbcTemplate);
+    private final DealCounterRepository dealCounterRepository = new DealCounterRepository(jdbcTemplate);
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(THREADS);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("""
+                CREATE TABLE `user` (
+                    user_id BIGINT PRIMARY KEY,
+                    user_weight DOUBLE NOT NULL DEFAULT 1
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TABLE deal (
+                    deal_id BIGINT PRIMARY KEY,
+                    heat DOUBLE NOT NULL DEFAULT 0,
+                    like_count BIGINT NOT NULL DEFAULT 0,
+                    dislike_count BIGINT NOT NULL DEFAULT 0,
+                    comment_count BIGINT NOT NULL DEFAULT 0
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TABLE vote (
+                    vote_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    vote_type VARCHAR(255),
+                    content VARCHAR(255),
+                    deal_id BIGINT,
+                    user_id BIGINT,
+                    created_at DATETIME(6),
+                    updated_at DATETIME(6),
+                    score DOUBLE NOT NULL,
+                    CONSTRAINT uk_vote_user_deal UNIQUE (user_id, deal_id),
+                    FOREIGN KEY (deal_id) REFERENCES deal (deal_id) ON DELETE CASCADE,
+                    FOREIGN KEY (user_id) REFERENCES `user` (user_id) ON DELETE CASCADE
+                )""");
+        for (long userId = 1; userId <= THREADS; userId++) {
+            jdbcTemplate.update("INSERT INTO `user` (user_id) VALUES (?)", userId);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void reset() {
+        jdbcTemplate.update("DELETE FROM vote");
+        jdbcTemplate.update("DELETE FROM deal");
+        jdbcTemplate.update("INSERT INTO deal (deal_id) VALUES (?)", DEAL_ID);
+    }
+
+    @Test
+    void save_shouldReturnPreviousVote() {
+        Optional<VoteWriteRepository.PreviousVote> first = transactionTemplate.execute(status ->
+                voteWriteRepository.save(1L, DEAL_ID, VoteType.TRUE, null, 1.0));
+        Optional<VoteWriteRepository.PreviousVote> second = transactionTemplate.execute(status ->
+                voteWriteRepository.save(1L, DEAL_ID, VoteType.FALSE, "EXPIRED", -1.0));
+
+        assertTrue(first.isEmpty());
+        assertEquals(new VoteWriteRepository.PreviousVote(VoteType.TRUE, 1.0), second.orElseThrow());
+        assertEquals(1, countVotes());
+        assertEquals("FALSE", jdbcTemplate.queryForObject("SELECT vote_type FROM vote", String.class));
+    }
+
+    @Test
+    void save_shouldRejectMissingDeal() {
+        BaseException e = assertThrows(BaseException.class, () -> transactionTemplate.executeWithoutResult(status ->
+                voteWriteRepository.save(1L, 999L, VoteType.TRUE, null, 1.0)));
+
+        assertEquals(DealErrorCode.DEAL_NOT_FOUND, e.getErrorCode());
+        assertEquals(0, countVotes());
+    }
+
+    @Test
+    void concurrentDoubleClicks_shouldKeepSingleVoteAndExactCounters() throws Exception {
+        // 모든 요청이 성공해야 함 (교착 상태 롤백 없음)
+        runConcurrently(userIndex -> saveVote(1L, VoteType.TRUE, 1.0));
+
+        assertEquals(1, countVotes());
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT like_count FROM deal", Long.class));
+        assertEquals(1.0, jdbcTemplate.queryForObject("SELECT heat FROM deal", Double.class));
+    }
+
+    @Test
+    void alternatingVotes_shouldKeepExactCountersComparedWithLookupThenSave() throws Exception {
+        int votes = THREADS * VOTES_PER_THREAD;
+
+        AtomicInteger legacyRollbacks = new AtomicInteger();
+        long beforeNanos = runConcurrently(userIndex -> {
+            for (int i = 0; i < VOTES_PER_THREAD; i++) {
+                try {
+                    legacyVote(userIndex, alternate(i), alternateScore(i));
+                } catch (RuntimeException e) {
+                    legacyRollbacks.incrementAndGet(); // 교착 상태로 롤백된 요청
+                }
+            }
+        });
+        VoteCounters before = counters();
+
+        reset();
+        long afterNanos = runConcurrently(userIndex -> {
+            for (int i = 0; i < VOTES_PER_THREAD; i++) {
+                saveVote(userIndex, alternate(i), alternateScore(i));
+            }
+        });
+        VoteCounters after = counters();
+
+        log.info("[vote] votes={}", votes);
+        log.info("[vote] before: {} votes/s, {}, rolled back={}", Math.round(votes / (beforeNanos / 1_000_000_000.0)), before, legacyRollbacks.get());
+        log.info("[vote] after : {} votes/s, {}", Math.round(votes / (afterNanos / 1_000_000_000.0)), after);
+
+        // 마지막 투표는 모두 싫어요 (VOTES_PER_THREAD 가 짝수)
+        assertEquals(new VoteCounters(0, THREADS, -THREADS), after);
+    }
+
+    private void saveVote(long userId, VoteType voteType, double score) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<VoteWriteRepository.PreviousVote> previous =
+                    voteWriteRepository.save(userId, DEAL_ID, voteType, null, score);
+            dealCounterRepository.applyVoteChange(DEAL_ID,
+                    previous.map(VoteWriteRepository.PreviousVote::voteType).orElse(null),
+                    voteType,
+                    score - previous.map(VoteWriteRepository.PreviousVote::score).orElse(0.0));
+        });
+    }
+
+    /**
+     * 기존 VoteService 방식: 엔티티 조회 후 저장
+     */
+    private void legacyVote(long userId, VoteType voteType, double score) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT user_weight FROM `user` WHERE user_id = ?", Double.class, userId);
+            jdbcTemplate.queryForObject("SELECT heat FROM deal WHERE deal_id = ?", Double.class, DEAL_ID);
+
+            List<Object[]> existing = jdbcTemplate.query(
+                    "SELECT vote_id, vote_type, score FROM vote WHERE user_id = ? AND deal_id = ?",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getDouble(3)},
+                    userId, DEAL_ID);
+
+            VoteType previousType = null;
+            double previousScore = 0.0;
+            if (existing.isEmpty()) {
+                jdbcTemplate.update("""
+                                INSERT INTO vote (user_id, deal_id, vote_type, score, created_at, updated_at)
+                                VALUES (?, ?, ?, ?, NOW(6), NOW(6))""",
+                        userId, DEAL_ID, voteType.name(), score);
+            } else {
+                Object[] row = existing.get(0);
+                previousType = VoteType.valueOf((String) row[1]);
+                previousScore = (Double) row[2];
+                jdbcTemplate.update("UPDATE vote SET vote_type = ?, score = ?, updated_at = NOW(6) WHERE vote_id = ?",
+                        voteType.name(), score, row[0]);
+            }
+
+            dealCounterRepository.applyVoteChange(DEAL_ID, previousType, voteType, score - previousScore);
+        });
+    }
+
+    private long runConcurrently(IntConsumer perUser) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 1; i <= THREADS; i++) {
+                int userIndex = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    perUser.accept(userIndex);
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countVotes() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vote", Integer.class);
+    }
+
+    private VoteCounters counters() {
+        return jdbcTemplate.queryForObject("SELECT like_count, dislike_count, heat FROM deal",
+                (rs, rowNum) -> new VoteCounters(rs.getLong(1), rs.getLong(2), rs.getDouble(3)));
+    }
+
+    private static VoteType alternate(int i) {
+        return i % 2 == 0 ? VoteType.TRUE : VoteType.FALSE;
+    }
+
+    private static double alternateScore(int i) {
+        return i % 2 == 0 ? 1.0 : -1.0;
+    }
+
+    private record VoteCounters(long likes, long dislikes, double heat) {}
+}
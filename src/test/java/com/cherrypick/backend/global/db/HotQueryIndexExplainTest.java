@@ -0,0 +1,243 @@
+package com.cherrypick.backend.global.db;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조회용 복합 인덱스 사용 여부 검증 (EXPLAIN)
+ *
+ * 운영과 같은 MySQL 8 컨테이너에 검색/상세/댓글/이미지 쿼리가 사용하는 테이블만 V6 시점의 최소 컬럼으로 만들고,
+ * V7 ~ V13 마이그레이션을 차례로 적용한 뒤 (이후 마이그레이션이 바꾼 인덱스까지 반영된 최종 스키마에서) 각 쿼리의 실행 계획이 의도한 인덱스를 선택하는지 확인한다.
+ * 옵티마이저가 테이블 크기에 따라 풀스캔을 고르지 않도록 더미 데이터를 넣고 통계를 갱신한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class HotQueryIndexExplainTest {
+
+    private static final Path MIGRATION_DIR = Path.of("src/main/resources/db/migration");
+
+    private static final List<String> MIGRATIONS = List.of(
+            "V7__add_hot_query_composite_indexes.sql",
+            "V8__add_deal_counter_columns.sql",
+            "V9__add_deal_hot_score.sql",
+            "V10__add_vote_user_deal_unique_key.sql",
+            "V11__add_comment_like_count.sql",
+            "V12__add_comment_keyset_indexes.sql",
+            "V13__add_user_activity_indexes.sql");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        try (Connection connection = MYSQL.createConnection("");
+             Statement statement = connection.createStatement()) {
+
+            statement.execute("""
+                    CREATE TABLE deal (
+                        deal_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        category_id BIGINT,
+                        user_id BIGINT,
+                        title VARCHAR(255),
+                        heat DOUBLE NOT NULL,
+                        is_delete BIT(1),
+                        created_at DATETIME(6)
+                    )""");
+            statement.execute("""
+                    CREATE TABLE vote (
+                        vote_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        deal_id BIGINT,
+                        user_id BIGINT,
+                        vote_type VARCHAR(255),
+                        created_at DATETIME(6),
+                        updated_at DATETIME(6)
+                    )""");
+            statement.execute("""
+                    CREATE TABLE comment (
+                        comment_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        deal_id BIGINT,
+                        parent_id BIGINT,
+                        user_id BIGINT,
+                        content TEXT,
+                        is_delete BIT(1) NOT NULL,
+                        created_at DATETIME(6)
+                    )""");
+            statement.execute("""
+                    CREATE TABLE comment_like (
+                        comment_like_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        comment_id BIGINT,
+                        user_id BIGINT
+                    )""");
+            statement.execute("""
+                    CREATE TABLE image (
+                        image_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        image_url VARCHAR(255),
+                        image_type VARCHAR(255),
+                        ref_id BIGINT,
+                        image_index INT NOT NULL,
+                        is_temp BIT(1) NOT NULL,
+                        created_at DATETIME(6)
+                    )""");
+
+            for (String migration : MIGRATIONS) {
+                for (String sql : Files.readString(MIGRATION_DIR.resolve(migration), StandardCharsets.UTF_8).split(";")) {
+                    String ddl = stripComments(sql);
+                    if (!ddl.isBlank()) {
+                        statement.execute(ddl);
+                    }
+                }
+            }
+
+            seed(statement);
+        }
+    }
+
+    @Test
+    void dealSearch_shouldUseDealIndexes() throws SQLException {
+        assertUsesIndex("""
+                SELECT deal_id, created_at FROM deal
+                WHERE is_delete = 0
+                ORDER BY created_at DESC, deal_id DESC LIMIT 21""", "idx_deal_is_delete_created_at");
+
+        assertUsesIndex("""
+                SELECT deal_id, created_at FROM deal
+                WHERE category_id = 3 AND is_delete = 0
+                ORDER BY created_at DESC, deal_id DESC LIMIT 21""", "idx_deal_category_created_at");
+
+        assertUsesIndex("""
+                SELECT deal_id, hot_score FROM deal
+                WHERE is_delete = 0
+                ORDER BY hot_score DESC, deal_id DESC LIMIT 21""", "idx_deal_is_delete_hot_score");
+    }
+
+    @Test
+    void voteQueries_shouldUseVoteIndexes() throws SQLException {
+        assertUsesIndex("""
+                SELECT deal_id, COUNT(*) FROM vote
+                WHERE deal_id IN (1, 2, 3, 4, 5) AND vote_type = 'TRUE'
+                GROUP BY deal_id""", "idx_vote_deal_vote_type");
+
+        // 사용자의 딜 투표 조회 (V10 에서 idx_vote_user_deal 을 유니크 키로 교체)
+        assertUsesIndex("""
+                SELECT * FROM vote WHERE user_id = 2 AND deal_id = 2""", "uk_vote_user_deal");
+
+        // 좋아요한 딜 목록 (V13)
+        assertUsesIndex("""
+                SELECT deal_id, updated_at FROM vote
+                WHERE user_id = 2 AND vote_type = 'TRUE'
+                ORDER BY updated_at DESC, vote_id DESC LIMIT 21""", "idx_vote_user_type_updated_at");
+    }
+
+    @Test
+    void commentQueries_shouldUseCommentIndexes() throws SQLException {
+        assertUsesIndex("""
+                SELECT deal_id, COUNT(*) FROM comment
+                WHERE deal_id IN (1, 2, 3, 4, 5) AND is_delete = 0
+                GROUP BY deal_id""", "idx_comment_deal_is_delete");
+
+        assertUsesIndex("""
+                SELECT * FROM comment WHERE parent_id = 10 ORDER BY created_at ASC""", "idx_comment_parent_created_at");
+    }
+
+    @Test
+    void imageQueries_shouldUseImageIndexes() throws SQLException {
+        // 검색 결과 대표 이미지 (상관 서브쿼리 포함, 두 쿼리 블록 모두 인덱스 사용)
+        assertUsesIndex("""
+                SELECT * FROM image i
+                WHERE i.ref_id IN (1, 2, 3, 4, 5) AND i.image_type = 'DEAL'
+                  AND i.image_index = (
+                      SELECT MIN(i2.image_index) FROM image i2
+                      WHERE i2.ref_id = i.ref_id AND i2.image_type = 'DEAL')""", "idx_image_ref_type_index");
+
+        // 딜 상세 이미지 목록
+        assertUsesIndex("""
+                SELECT * FROM image WHERE ref_id = 42 AND image_type = 'DEAL' ORDER BY image_index ASC""",
+                "idx_image_ref_type_index");
+
+        // 임시 이미지 정리
+        assertUsesIndex("""
+                SELECT * FROM image WHERE is_temp = 1 AND created_at < NOW() - INTERVAL 1 DAY""",
+                "idx_image_is_temp_created_at");
+    }
+
+    /**
+     * 실행 계획의 모든 테이블 접근(서브쿼리 포함)이 expectedIndex를 사용하는지 확인한다.
+     */
+    private void assertUsesIndex(String query, String expectedIndex) throws SQLException {
+        List<String> keys = new ArrayList<>();
+
+        try (Connection connection = MYSQL.createConnection("");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + query)) {
+            while (rs.next()) {
+                // 테이블 접근이 없는 행 (Select tables optimized away 등) 제외
+                if (rs.getString("table") != null) {
+                    keys.add(rs.getString("key"));
+                }
+            }
+        }
+
+        assertFalse(keys.isEmpty(), "실행 계획에 테이블 접근이 없습니다: " + query);
+        for (String key : keys) {
+            assertEquals(expectedIndex, key, "의도한 인덱스를 사용하지 않습니다: " + query);
+        }
+    }
+
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute("SET SESSION cte_max_recursion_depth = 100000");
+
+        statement.execute("""
+                INSERT INTO deal (category_id, user_id, title, heat, hot_score, is_delete, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+                SELECT n % 10 + 1, n % 700 + 1, CONCAT('deal-', n), (n * 37) % 1000, (n * 53) % 1000 / 10.0, n % 20 = 0,
+                       NOW(6) - INTERVAL n MINUTE
+                FROM seq""");
+
+        statement.execute("""
+                INSERT INTO vote (deal_id, user_id, vote_type, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+                SELECT n % 5000 + 1, n % 700 + 1, IF(n % 4 = 0, 'FALSE', 'TRUE'), NOW(6), NOW(6) - INTERVAL n SECOND
+                FROM seq""");
+
+        statement.execute("""
+                INSERT INTO comment (deal_id, parent_id, user_id, content, is_delete, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+                SELECT n % 5000 + 1, IF(n % 3 = 0, n % 2000 + 1, NULL), n % 700 + 1, 'content',
+                       n % 15 = 0, NOW(6) - INTERVAL n SECOND
+                FROM seq""");
+
+        statement.execute("""
+                INSERT INTO image (image_url, image_type, ref_id, image_index, is_temp, created_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+                SELECT CONCAT('https://img/', n), IF(n % 10 = 0, 'USER', 'DEAL'), n % 5000 + 1, n DIV 5000,
+                       n % 50 = 0, NOW(6) - INTERVAL n MINUTE
+                FROM seq""");
+
+        statement.execute("ANALYZE TABLE deal, vote, comment, comment_like, image");
+    }
+
+    private static String stripComments(String sql) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : sql.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                sb.append(line).append('\n');
+            }
+        }
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,69 @@
+package com.cherrypick.backend.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterSpecTest {
+
+    @Test
+    void sizing_shouldFollowStandardFormula() {
+        BloomFilterSpec spec = new BloomFilterSpec(10_000, 0.01);
+
+        // m = -n·ln(p)/(ln2)² ≈ 95,851bit (약 12KB), k = (m/n)·ln2 ≈ 7
+        assertEquals(95_851, spec.bitSize());
+        assertEquals(7, spec.hashCount());
+        assertEquals(11_982, spec.byteSize());
+    }
+
+    @Test
+    void offsets_shouldBeDeterministicAndInRange() {
+        BloomFilterSpec spec = new BloomFilterSpec(1_000, 0.01);
+
+        long[] first = spec.offsets("device-1");
+        assertArrayEquals(first, spec.offsets("device-1"));
+        assertEquals(spec.hashCount(), first.length);
+        for (long offset : first) {
+            assertTrue(offset >= 0 && offset < spec.bitSize());
+        }
+    }
+
+    @Test
+    void falsePositiveRate_shouldStayNearTargetAtExpectedLoad() {
+        BloomFilterSpec spec = new BloomFilterSpec(10_000, 0.01);
+        BitSet bits = new BitSet((int) spec.bitSize());
+
+        for (int i = 0; i < 10_000; i++) {
+            for (long offset : spec.offsets("member-" + i)) {
+                bits.set((int) offset);
+            }
+        }
+
+        int falsePositives = 0;
+        int probes = 20_000;
+        for (int i = 0; i < probes; i++) {
+            if (allSet(bits, spec.offsets("other-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue((double) falsePositives / probes < 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void invalidArguments_shouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilterSpec(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilterSpec(100, 1.0));
+    }
+
+    private boolean allSet(BitSet bits, long[] offsets) {
+        for (long offset : offsets) {
+            if (!bits.get((int) offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cherrypick.backend.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @Test
+    void encodeDecode_shouldRoundTripIncludingEmptyParts() {
+        String token = CursorCodec.encode("LATEST", "", "42");
+
+        assertArrayEquals(new String[]{"LATEST", "", "42"}, CursorCodec.decode(token, 3));
+        assertFalse(token.contains("="), "URL-safe, no padding");
+    }
+
+    @Test
+    void decode_shouldRejectWrongPartCount() {
+        String token = CursorCodec.encode("a", "b");
+
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(token, 3));
+    }
+
+    @Test
+    void decode_shouldRejectEmptyOrNonBase64Tokens() {
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(" ", 3));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("%%%", 3));
+    }
+}